@@ -16,7 +16,8 @@ BEGIN
         email NVARCHAR(255) NOT NULL UNIQUE,
         password NVARCHAR(255) NOT NULL,
         language NVARCHAR(50) CHECK (language IN ('PTBR', 'EN', 'ES')),
-        profile_image NVARCHAR(500)
+        profile_image NVARCHAR(500),
+        token_version INT NOT NULL DEFAULT 0
     );
     
     PRINT 'Tabela app_user criada com sucesso.';
@@ -75,6 +76,7 @@ BEGIN
     CREATE INDEX idx_todo_is_completed ON todo(is_completed);
     CREATE INDEX idx_todo_type ON todo(type);
     CREATE INDEX idx_todo_end_time ON todo(end_time);
+    CREATE INDEX idx_todo_start ON todo(start);
     
     PRINT 'Tabela todo criada com sucesso.';
 END
@@ -88,10 +90,17 @@ GO
 -- Tabela: notification
 -- Descrição: Armazena as notificações dos usuários
 -- ============================================
+IF NOT EXISTS (SELECT * FROM sys.sequences WHERE name = 'notification_seq')
+BEGIN
+    -- Ids alocados em blocos de 50 pelo Hibernate (pooled), permitindo inserts em lote
+    CREATE SEQUENCE notification_seq AS BIGINT START WITH 1 INCREMENT BY 50;
+END
+GO
+
 IF NOT EXISTS (SELECT * FROM sys.objects WHERE object_id = OBJECT_ID(N'[dbo].[notification]') AND type in (N'U'))
 BEGIN
     CREATE TABLE notification (
-        id BIGINT IDENTITY(1,1) PRIMARY KEY,
+        id BIGINT PRIMARY KEY,
         message NVARCHAR(MAX) NOT NULL,
         user_id BIGINT NOT NULL,
         created_at DATETIME2 DEFAULT GETDATE(),
@@ -110,6 +119,46 @@ BEGIN
 END
 GO
 
+-- Bancos existentes: id criado como IDENTITY passa a ser preenchido pela notification_seq.
+-- O SQL Server não remove IDENTITY de uma coluna: o id é recriado como coluna comum
+IF COLUMNPROPERTY(OBJECT_ID('notification'), 'id', 'IsIdentity') = 1
+BEGIN
+    SET XACT_ABORT ON;
+    DECLARE @pk SYSNAME;
+    DECLARE @sql NVARCHAR(400);
+    SELECT @pk = name FROM sys.key_constraints
+    WHERE parent_object_id = OBJECT_ID('notification') AND type = 'PK';
+    SET @sql = N'ALTER TABLE notification DROP CONSTRAINT ' + QUOTENAME(@pk);
+
+    BEGIN TRANSACTION;
+    ALTER TABLE notification ADD id_new BIGINT NULL;
+    -- Comandos dinâmicos: id_new não existe quando o lote é compilado
+    EXEC sp_executesql N'UPDATE notification SET id_new = id';
+    EXEC sp_executesql @sql;
+    ALTER TABLE notification DROP COLUMN id;
+    EXEC sp_rename 'notification.id_new', 'id', 'COLUMN';
+    EXEC sp_executesql N'ALTER TABLE notification ALTER COLUMN id BIGINT NOT NULL';
+    EXEC sp_executesql N'ALTER TABLE notification ADD CONSTRAINT pk_notification PRIMARY KEY (id)';
+    COMMIT;
+
+    PRINT 'Coluna notification.id recriada sem IDENTITY.';
+END
+GO
+
+-- Bancos existentes: as sequences começam depois dos ids já gravados. O Hibernate usa
+-- o valor obtido como o fim de um bloco de 50 ids, daí o MAX(id) + 50
+DECLARE @restart NVARCHAR(200);
+
+IF (SELECT CAST(current_value AS BIGINT) FROM sys.sequences WHERE name = 'notification_seq')
+    < (SELECT ISNULL(MAX(id), 0) FROM notification)
+BEGIN
+    SET @restart = N'ALTER SEQUENCE notification_seq RESTART WITH '
+        + CAST((SELECT MAX(id) FROM notification) + 50 AS NVARCHAR(20));
+    EXEC sp_executesql @restart;
+    PRINT 'Sequence notification_seq reiniciada após o maior id.';
+END
+GO
+
 -- ============================================
 -- Tabela: suggestion
 -- Descrição: Armazena sugestões da IA para tarefas
@@ -184,12 +233,12 @@ BEGIN
         id_token_push BIGINT IDENTITY(1,1) PRIMARY KEY,
         token NVARCHAR(500) NOT NULL,
         user_id BIGINT NOT NULL,
+        CONSTRAINT uk_push_token_token UNIQUE (token),
         CONSTRAINT fk_push_token_user FOREIGN KEY (user_id) 
             REFERENCES app_user(id) ON DELETE CASCADE
     );
     
     CREATE INDEX idx_push_token_user_id ON t_gp_mottu_token_push(user_id);
-    CREATE INDEX idx_push_token_token ON t_gp_mottu_token_push(token);
     
     PRINT 'Tabela t_gp_mottu_token_push criada com sucesso.';
 END
@@ -199,6 +248,132 @@ BEGIN
 END
 GO
 
+-- Bancos existentes: o índice simples em token vira único (mantém o registro mais recente)
+IF EXISTS (SELECT * FROM sys.indexes WHERE name = 'idx_push_token_token' AND object_id = OBJECT_ID('t_gp_mottu_token_push'))
+BEGIN
+    DELETE t FROM t_gp_mottu_token_push t
+    WHERE EXISTS (
+        SELECT 1 FROM t_gp_mottu_token_push newer
+        WHERE newer.token = t.token AND newer.id_token_push > t.id_token_push
+    );
+    DROP INDEX idx_push_token_token ON t_gp_mottu_token_push;
+    ALTER TABLE t_gp_mottu_token_push ADD CONSTRAINT uk_push_token_token UNIQUE (token);
+    PRINT 'Índice único uk_push_token_token criado.';
+END
+GO
+
+-- ============================================
+-- Tabela: scheduler_checkpoint
+-- Descrição: Progresso dos jobs agendados processados em lotes (retomada após falha)
+-- ============================================
+IF NOT EXISTS (SELECT * FROM sys.objects WHERE object_id = OBJECT_ID(N'[dbo].[scheduler_checkpoint]') AND type in (N'U'))
+BEGIN
+    CREATE TABLE scheduler_checkpoint (
+        job_name NVARCHAR(100) PRIMARY KEY,
+        run_started_at DATETIME2 NOT NULL,
+        last_user_id BIGINT NOT NULL,
+        completed BIT NOT NULL DEFAULT 0,
+        updated_at DATETIME2 DEFAULT GETDATE()
+    );
+    
+    PRINT 'Tabela scheduler_checkpoint criada com sucesso.';
+END
+ELSE
+BEGIN
+    PRINT 'Tabela scheduler_checkpoint já existe.';
+END
+GO
+
+-- ============================================
+-- Tabela: scheduler_lease
+-- Descrição: Lease dos jobs agendados (uma instância por job/shard)
+-- ============================================
+IF NOT EXISTS (SELECT * FROM sys.objects WHERE object_id = OBJECT_ID(N'[dbo].[scheduler_lease]') AND type in (N'U'))
+BEGIN
+    CREATE TABLE scheduler_lease (
+        lease_name NVARCHAR(100) PRIMARY KEY,
+        owner NVARCHAR(200),
+        acquired_at DATETIME2,
+        expires_at DATETIME2 NOT NULL
+    );
+    
+    PRINT 'Tabela scheduler_lease criada com sucesso.';
+END
+ELSE
+BEGIN
+    PRINT 'Tabela scheduler_lease já existe.';
+END
+GO
+
+-- ============================================
+-- Tabela: notification_ledger
+-- Descrição: Notificações agendadas já enviadas (deduplicação por usuário/todo/tipo/dia)
+-- ============================================
+IF NOT EXISTS (SELECT * FROM sys.sequences WHERE name = 'notification_ledger_seq')
+BEGIN
+    CREATE SEQUENCE notification_ledger_seq AS BIGINT START WITH 1 INCREMENT BY 50;
+END
+GO
+
+IF NOT EXISTS (SELECT * FROM sys.objects WHERE object_id = OBJECT_ID(N'[dbo].[notification_ledger]') AND type in (N'U'))
+BEGIN
+    CREATE TABLE notification_ledger (
+        id BIGINT PRIMARY KEY,
+        user_id BIGINT NOT NULL,
+        todo_id BIGINT NOT NULL DEFAULT 0,
+        kind NVARCHAR(30) NOT NULL,
+        sent_on DATE NOT NULL,
+        created_at DATETIME2 DEFAULT GETDATE(),
+        CONSTRAINT uk_notification_ledger UNIQUE (user_id, sent_on, kind, todo_id),
+        CONSTRAINT fk_notification_ledger_user FOREIGN KEY (user_id) 
+            REFERENCES app_user(id) ON DELETE CASCADE
+    );
+    
+    CREATE INDEX idx_notification_ledger_sent_on ON notification_ledger(sent_on);
+    
+    PRINT 'Tabela notification_ledger criada com sucesso.';
+END
+ELSE
+BEGIN
+    PRINT 'Tabela notification_ledger já existe.';
+END
+GO
+
+-- Mesmo ajuste da notification_seq, caso o ledger já tenha ids gravados
+DECLARE @restart NVARCHAR(200);
+
+IF (SELECT CAST(current_value AS BIGINT) FROM sys.sequences WHERE name = 'notification_ledger_seq')
+    < (SELECT ISNULL(MAX(id), 0) FROM notification_ledger)
+BEGIN
+    SET @restart = N'ALTER SEQUENCE notification_ledger_seq RESTART WITH '
+        + CAST((SELECT MAX(id) FROM notification_ledger) + 50 AS NVARCHAR(20));
+    EXEC sp_executesql @restart;
+    PRINT 'Sequence notification_ledger_seq reiniciada após o maior id.';
+END
+GO
+
+-- ============================================
+-- Tabela: ai_suggestion_cache
+-- Descrição: Sugestões de IA por hash (SHA-256) do prompt, reaproveitadas entre reinícios
+-- ============================================
+IF NOT EXISTS (SELECT * FROM sys.objects WHERE object_id = OBJECT_ID(N'[dbo].[ai_suggestion_cache]') AND type in (N'U'))
+BEGIN
+    CREATE TABLE ai_suggestion_cache (
+        prompt_hash CHAR(64) PRIMARY KEY,
+        suggestion NVARCHAR(1500) NOT NULL,
+        created_at DATETIME2 NOT NULL
+    );
+    
+    CREATE INDEX idx_ai_suggestion_cache_created_at ON ai_suggestion_cache(created_at);
+    
+    PRINT 'Tabela ai_suggestion_cache criada com sucesso.';
+END
+ELSE
+BEGIN
+    PRINT 'Tabela ai_suggestion_cache já existe.';
+END
+GO
+
 -- ============================================
 -- Índices adicionais para otimização
 -- ============================================
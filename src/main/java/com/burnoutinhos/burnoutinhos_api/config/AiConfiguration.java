@@ -0,0 +1,98 @@
+package com.burnoutinhos.burnoutinhos_api.config;
+
+import com.burnoutinhos.burnoutinhos_api.service.ai.AiCallGuard;
+import com.burnoutinhos.burnoutinhos_api.service.ai.AiWorkScheduler;
+import com.burnoutinhos.burnoutinhos_api.service.ai.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Beans compartilhados da integração com IA.
+ */
+@Configuration(proxyBeanMethods = false)
+public class AiConfiguration {
+
+    /**
+     * Bulkhead e circuit breaker das chamadas à OpenAI ({@code ai.resilience.*}).
+     */
+    @Bean(destroyMethod = "shutdown")
+    public AiCallGuard aiCallGuard(
+        @Value(
+            "${ai.resilience.max-concurrent-calls:16}"
+        ) int maxConcurrentCalls,
+        @Value("${ai.resilience.bulkhead-wait:PT1S}") Duration bulkheadWait,
+        @Value(
+            "${ai.resilience.circuit-breaker.window-size:20}"
+        ) int windowSize,
+        @Value(
+            "${ai.resilience.circuit-breaker.minimum-calls:10}"
+        ) int minimumCalls,
+        @Value(
+            "${ai.resilience.circuit-breaker.failure-rate-threshold:50}"
+        ) int failureRateThreshold,
+        @Value(
+            "${ai.resilience.circuit-breaker.open-duration:PT30S}"
+        ) Duration openDuration,
+        MeterRegistry meterRegistry
+    ) {
+        return new AiCallGuard(
+            maxConcurrentCalls,
+            bulkheadWait,
+            new CircuitBreaker(
+                windowSize,
+                minimumCalls,
+                failureRateThreshold,
+                openDuration
+            ),
+            meterRegistry
+        );
+    }
+
+    /**
+     * Fila de prioridades dos pedidos de sugestão ({@code ai.scheduler.*}).
+     *
+     * Cada pedido em andamento faz no máximo uma chamada por vez, então
+     * {@code max-in-flight} (padrão: o tamanho do bulkhead) não pode passar de
+     * {@code ai.resilience.max-concurrent-calls}: os pedidos excedentes esperariam no
+     * bulkhead e seriam recusados após {@code bulkhead-wait}, com a fila parada. O
+     * streaming (SSE) não passa pela fila e disputa as mesmas vagas do bulkhead.
+     *
+     * @throws IllegalStateException se {@code max-in-flight} for maior que o bulkhead
+     */
+    @Bean
+    public AiWorkScheduler aiWorkScheduler(
+        @Value(
+            "${ai.scheduler.max-in-flight:${ai.resilience.max-concurrent-calls:16}}"
+        ) int maxInFlight,
+        @Value(
+            "${ai.resilience.max-concurrent-calls:16}"
+        ) int maxConcurrentCalls,
+        @Value(
+            "${ai.scheduler.background-max-in-flight:8}"
+        ) int maxBackgroundInFlight,
+        @Value(
+            "${ai.scheduler.interactive-queue-size:1000}"
+        ) int maxInteractiveQueued,
+        @Value(
+            "${ai.scheduler.background-queue-size:5000}"
+        ) int maxBackgroundQueued,
+        MeterRegistry meterRegistry
+    ) {
+        if (maxInFlight > maxConcurrentCalls) {
+            throw new IllegalStateException(
+                "ai.scheduler.max-in-flight (" + maxInFlight + ") não pode passar de " +
+                "ai.resilience.max-concurrent-calls (" + maxConcurrentCalls + ")"
+            );
+        }
+        return new AiWorkScheduler(
+            maxInFlight,
+            maxBackgroundInFlight,
+            maxInteractiveQueued,
+            maxBackgroundQueued,
+            meterRegistry
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package com.burnoutinhos.burnoutinhos_api.config;
+
+import com.burnoutinhos.burnoutinhos_api.service.ai.TokenBudget;
+import java.time.Instant;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Endpoint {@code /actuator/aiusage}: tokens da OpenAI gastos na hora atual, no total e
+ * pelos usuários que mais gastaram, com as cotas configuradas.
+ * {@code /actuator/aiusage/{userId}} traz o gasto de um usuário. Expõe dados de outros
+ * usuários: restrito a administradores ({@link SecurityConfiguration}).
+ */
+@Component
+@Endpoint(id = "aiusage")
+public class AiUsageEndpoint {
+
+    private static final int TOP_USERS = 20;
+
+    public record UsageReport(
+        Instant hourStart,
+        long userTokensPerHour,
+        long globalTokensPerHour,
+        TokenBudget.Usage global,
+        Map<Long, TokenBudget.Usage> topUsers
+    ) {}
+
+    private final TokenBudget tokenBudget;
+
+    public AiUsageEndpoint(TokenBudget tokenBudget) {
+        this.tokenBudget = tokenBudget;
+    }
+
+    @ReadOperation
+    public UsageReport usage() {
+        return new UsageReport(
+            Instant.ofEpochMilli(tokenBudget.currentHourStart()),
+            tokenBudget.getUserTokensPerHour(),
+            tokenBudget.getGlobalTokensPerHour(),
+            tokenBudget.globalUsage(),
+            tokenBudget.topUsers(TOP_USERS)
+        );
+    }
+
+    @ReadOperation
+    public TokenBudget.Usage userUsage(@Selector Long userId) {
+        return tokenBudget.usage(userId);
+    }
+}
@@ -10,6 +10,10 @@ import org.springframework.stereotype.Component;
 @Component
 public class AuthenticationUtil {
 
+    /**
+     * Id do usuário autenticado, lido do principal do contexto de segurança.
+     * Não acessa o banco: no modo stateless o principal é montado a partir das claims do JWT.
+     */
     public static Long extractUserIdFromToken() {
         Authentication auth =
             SecurityContextHolder.getContext().getAuthentication();
@@ -28,6 +32,10 @@ public class AuthenticationUtil {
         return user.getId();
     }
 
+    /**
+     * Principal autenticado. No modo stateless contém apenas id, email, roles e idioma;
+     * serve como referência para relacionamentos, mas não deve ser persistido diretamente.
+     */
     public static AppUser extractUserFromToken() {
         Authentication auth =
             SecurityContextHolder.getContext().getAuthentication();
@@ -0,0 +1,140 @@
+package com.burnoutinhos.burnoutinhos_api.config;
+
+import com.burnoutinhos.burnoutinhos_api.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * PasswordEncoder que executa o hash (encode/matches) num pool dedicado e limitado.
+ *
+ * O número de threads limita quantos núcleos o BCrypt pode ocupar ao mesmo tempo e a
+ * fila limita quantas requisições podem esperar. Com a fila cheia a requisição é
+ * recusada na hora ({@link ServiceOverloadedException}, HTTP 503) em vez de prender
+ * uma thread do Tomcat atrás de centenas de hashes.
+ *
+ * Métricas: {@code password.hashing} (tempo por operação), {@code password.hashing.rejected}
+ * e as métricas do executor ({@code executor.*}, name=password-hashing).
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ExecutorService executor;
+    private final long timeoutMillis;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(
+        PasswordEncoder delegate,
+        int threads,
+        int queueCapacity,
+        long timeoutMillis,
+        MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(
+                    runnable,
+                    "password-hashing-" + threadCount.incrementAndGet()
+                );
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor = ExecutorServiceMetrics.monitor(
+            meterRegistry,
+            pool,
+            "password-hashing"
+        );
+
+        this.encodeTimer = Timer.builder("password.hashing")
+            .tag("operation", "encode")
+            .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing")
+            .tag("operation", "matches")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("password.hashing.rejected").register(
+            meterRegistry
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() ->
+            encodeTimer.record(() -> delegate.encode(rawPassword))
+        );
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() ->
+            matchesTimer.record(() ->
+                delegate.matches(rawPassword, encodedPassword)
+            )
+        );
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Apenas inspeciona o prefixo/custo do hash: barato, roda na própria thread
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceOverloadedException(
+                "Servidor ocupado, tente novamente em instantes"
+            );
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ServiceOverloadedException(
+                "Servidor ocupado, tente novamente em instantes"
+            );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceOverloadedException("Operação interrompida");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
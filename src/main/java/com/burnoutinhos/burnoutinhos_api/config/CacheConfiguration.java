@@ -0,0 +1,57 @@
+package com.burnoutinhos.burnoutinhos_api.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configura o cache de aplicação usado pelos {@code @Cacheable} dos services.
+ *
+ * Cada cache é um Caffeine limitado por tamanho e TTL, configurado em
+ * {@code cache.caffeine.*} no application.properties. As estatísticas
+ * ({@code recordStats}) são publicadas pelo actuator em {@code /actuator/metrics/cache.gets}.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(CaffeineCacheProperties.class)
+@Log4j2
+public class CacheConfiguration {
+
+    @Bean
+    public CacheManager cacheManager(CaffeineCacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+        // Caches não declarados explicitamente também precisam ser limitados
+        cacheManager.setCaffeineSpec(
+            parseBoundedSpec("default", properties.getDefaultSpec())
+        );
+
+        properties
+            .getSpecs()
+            .forEach((name, spec) -> {
+                cacheManager.registerCustomCache(
+                    name,
+                    Caffeine.from(parseBoundedSpec(name, spec)).build()
+                );
+                log.info("Cache '{}' configurado com spec: {}", name, spec);
+            });
+
+        return cacheManager;
+    }
+
+    private CaffeineSpec parseBoundedSpec(String name, String spec) {
+        if (
+            spec == null ||
+            !(spec.contains("maximumSize") || spec.contains("maximumWeight"))
+        ) {
+            throw new IllegalStateException(
+                "Cache '" + name + "' precisa de maximumSize ou maximumWeight"
+            );
+        }
+        return CaffeineSpec.parse(spec);
+    }
+}
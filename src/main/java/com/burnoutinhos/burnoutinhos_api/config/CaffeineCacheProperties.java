@@ -0,0 +1,24 @@
+package com.burnoutinhos.burnoutinhos_api.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propriedades dos caches locais (Caffeine).
+ *
+ * Cada cache pode ter sua própria especificação no formato do {@code CaffeineSpec}
+ * (ex: {@code maximumSize=5000,expireAfterWrite=10m,recordStats}). Caches sem
+ * especificação própria usam {@link #defaultSpec}, que também precisa ser limitado.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.caffeine")
+public class CaffeineCacheProperties {
+
+    private String defaultSpec = "maximumSize=1000,expireAfterWrite=5m,recordStats";
+
+    private Map<String, String> specs = new HashMap<>();
+}
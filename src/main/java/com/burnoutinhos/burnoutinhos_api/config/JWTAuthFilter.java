@@ -2,29 +2,64 @@ package com.burnoutinhos.burnoutinhos_api.config;
 
 import com.burnoutinhos.burnoutinhos_api.exceptions.ResourceNotFoundException;
 import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import com.burnoutinhos.burnoutinhos_api.model.enums.LanguagePreference;
 import com.burnoutinhos.burnoutinhos_api.repository.AppUserRepository;
 import com.burnoutinhos.burnoutinhos_api.service.AppUserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+/**
+ * Autentica requisições com {@code Authorization: Bearer <jwt>}.
+ *
+ * Modo padrão: o usuário do token é buscado no cache "principals" (chave: email, TTL curto)
+ * antes de ir ao banco, evitando a consulta de usuário + roles em toda requisição.
+ *
+ * Modo stateless ({@code jwt.stateless-principal=true}): o principal é montado direto
+ * das claims do token (id, email, roles, idioma), sem carregar a entidade. Apenas a
+ * versão de token do usuário é conferida, via cache "tokenVersions", para que uma troca
+ * de senha revogue os tokens emitidos antes dela. Tokens sem a claim de id (emitidos
+ * antes deste modo) seguem pelo caminho padrão.
+ *
+ * Os caches são invalidados por {@link AppUserService} quando o usuário é alterado ou removido.
+ */
 @Component
+@Log4j2
 public class JWTAuthFilter extends OncePerRequestFilter {
 
+    public static final String PRINCIPALS_CACHE = "principals";
+    public static final String TOKEN_VERSIONS_CACHE = "tokenVersions";
+
     @Autowired
     private JWTUtil jwtUtil;
 
     @Autowired
     private AppUserRepository appUserRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
     @Override
     protected void doFilterInternal(
         HttpServletRequest request,
@@ -35,19 +70,16 @@ public class JWTAuthFilter extends OncePerRequestFilter {
 
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
-            String username = jwtUtil.extractUsername(token);
+            Claims claims = jwtUtil.extractClaims(token);
+            String username = claims.getSubject();
 
             if (
                 username != null &&
                 SecurityContextHolder.getContext().getAuthentication() == null
             ) {
-                AppUser user = appUserRepository
-                    .findByEmail(username)
-                    .orElseThrow(() ->
-                        new ResourceNotFoundException("User not found")
-                    );
+                AppUser user = resolvePrincipal(claims);
 
-                if (jwtUtil.validateToken(token)) {
+                if (user != null) {
                     Authentication auth =
                         new UsernamePasswordAuthenticationToken(
                             user,
@@ -61,4 +93,111 @@ public class JWTAuthFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Monta o principal a partir das claims já verificadas.
+     *
+     * @return o usuário autenticado, ou null se o token foi revogado
+     */
+    private AppUser resolvePrincipal(Claims claims) {
+        Long userId = claims.get(JWTUtil.USER_ID_CLAIM, Long.class);
+        int tokenVersion = tokenVersionOf(claims);
+
+        if (statelessPrincipal && userId != null) {
+            Integer current = currentTokenVersion(userId);
+            if (current == null || current != tokenVersion) {
+                log.debug("Token revogado para o usuário {}", userId);
+                return null;
+            }
+            return principalFromClaims(userId, claims);
+        }
+
+        AppUser user = loadPrincipal(claims.getSubject());
+        if (user.getTokenVersion() != tokenVersion) {
+            log.debug("Token revogado para o usuário {}", user.getId());
+            return null;
+        }
+        return user;
+    }
+
+    /**
+     * Principal leve montado apenas com os dados do token. Não possui senha, nome
+     * nem imagem de perfil: quem precisar desses dados deve buscar o usuário pelo id.
+     */
+    private AppUser principalFromClaims(Long userId, Claims claims) {
+        AppUser user = new AppUser();
+        user.setId(userId);
+        user.setEmail(claims.getSubject());
+        user.setTokenVersion(tokenVersionOf(claims));
+
+        String language = claims.get(JWTUtil.LANGUAGE_CLAIM, String.class);
+        if (language != null) {
+            user.setLanguage(LanguagePreference.valueOf(language));
+        }
+
+        List<?> roles = claims.get(JWTUtil.ROLES_CLAIM, List.class);
+        Set<String> roleNames = roles == null
+            ? new HashSet<>()
+            : roles.stream().map(String::valueOf).collect(Collectors.toSet());
+        user.setRoles(roleNames);
+
+        return user;
+    }
+
+    private int tokenVersionOf(Claims claims) {
+        Integer version = claims.get(
+            JWTUtil.TOKEN_VERSION_CLAIM,
+            Integer.class
+        );
+        return version != null ? version : 0;
+    }
+
+    /**
+     * Versão de token atual do usuário, buscada no banco apenas em caso de miss.
+     *
+     * @return a versão atual, ou null se o usuário não existe mais
+     */
+    private Integer currentTokenVersion(Long userId) {
+        Cache cache = cacheManager.getCache(TOKEN_VERSIONS_CACHE);
+        Integer cached = cache != null
+            ? cache.get(userId, Integer.class)
+            : null;
+
+        if (cached == null) {
+            cached = appUserRepository.findTokenVersionById(userId).orElse(null);
+            if (cache != null && cached != null) {
+                cache.put(userId, cached);
+            }
+        }
+
+        return cached;
+    }
+
+    /**
+     * Busca o usuário no cache de principals, indo ao banco apenas em caso de miss.
+     * Devolve uma cópia para que alterações feitas durante a requisição
+     * (ex: {@code AppUserService.update}) não modifiquem a instância compartilhada do cache.
+     */
+    private AppUser loadPrincipal(String email) {
+        Cache cache = cacheManager.getCache(PRINCIPALS_CACHE);
+        AppUser cached = cache != null ? cache.get(email, AppUser.class) : null;
+
+        if (cached == null) {
+            cached = appUserRepository
+                .findByEmail(email)
+                .orElseThrow(() ->
+                    new ResourceNotFoundException("User not found")
+                );
+            if (cache != null) {
+                cache.put(email, cached);
+            }
+        }
+
+        AppUser copy = new AppUser();
+        BeanUtils.copyProperties(cached, copy, "roles");
+        copy.setRoles(
+            cached.getRoles() != null ? new HashSet<>(cached.getRoles()) : null
+        );
+        return copy;
+    }
 }
@@ -1,50 +1,214 @@
 package com.burnoutinhos.burnoutinhos_api.config;
 
 import com.burnoutinhos.burnoutinhos_api.exceptions.TokenValidationException;
+import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Date;
-import javax.crypto.SecretKey;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Emissão e verificação dos tokens JWT.
+ *
+ * Os tokens são assinados com a chave atual do {@link JwtKeyRing} e levam o seu id no
+ * header {@code kid}; na verificação a chave é escolhida pelo {@code kid}.
+ * O {@link JwtParser} é imutável e thread-safe, então é construído uma única vez.
+ * Tokens já verificados ficam num cache local (chave: SHA-256 do token) até a sua
+ * expiração, evitando decodificar e recalcular o HMAC do mesmo token a cada requisição.
+ */
 @Component
 public class JWTUtil {
 
-    private final SecretKey privateKey = Keys.secretKeyFor(
-        SignatureAlgorithm.HS256
-    );
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLES_CLAIM = "roles";
+    public static final String LANGUAGE_CLAIM = "lang";
+    public static final String TOKEN_VERSION_CLAIM = "ver";
 
-    public String buildToken(String username) {
+    private final JwtKeyRing keyRing;
+
+    private final JwtParser parser;
+
+    // null quando jwt.verified-cache.maximum-size <= 0 (cache desligado)
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JWTUtil(
+        JwtKeyRing keyRing,
+        @Value(
+            "${jwt.verified-cache.maximum-size:10000}"
+        ) long verifiedCacheMaximumSize
+    ) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parser().keyLocator(new KeyIdLocator()).build();
+        this.verifiedTokens = verifiedCacheMaximumSize > 0
+            ? Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaximumSize)
+                .expireAfter(new UntilTokenExpiration())
+                .build()
+            : null;
+    }
+
+    /**
+     * Emite o token do usuário autenticado. Além do email (subject), o token carrega
+     * id, roles, idioma e a versão de token do usuário, permitindo que o
+     * {@link JWTAuthFilter} monte o principal sem consultar o banco.
+     */
+    public String buildToken(AppUser user) {
         Date actualDate = new Date();
+        JwtKeyRing.SigningKey signingKey = keyRing.currentSigningKey();
 
         JwtBuilder builder = Jwts.builder()
-            .subject(username)
+            .header()
+            .keyId(signingKey.id())
+            .and()
+            .subject(user.getEmail())
+            .claim(USER_ID_CLAIM, user.getId())
+            .claim(
+                ROLES_CLAIM,
+                user.getRoles() != null ? List.copyOf(user.getRoles()) : List.of()
+            )
+            .claim(
+                LANGUAGE_CLAIM,
+                user.getLanguage() != null ? user.getLanguage().name() : null
+            )
+            .claim(TOKEN_VERSION_CLAIM, user.getTokenVersion())
             .issuedAt(actualDate)
             .expiration(new Date(actualDate.getTime() + (1209600000L)))
-            .signWith(privateKey);
+            .signWith(signingKey.key());
         return builder.compact();
     }
 
-    public String extractUsername(String token) {
-        JwtParser parser = Jwts.parser().verifyWith(privateKey).build();
-        return parser.parseSignedClaims(token).getPayload().getSubject();
+    /**
+     * Verifica a assinatura e a expiração do token e devolve suas claims.
+     * A verificação é feita uma única vez por token enquanto ele estiver no cache.
+     *
+     * @throws TokenValidationException se o token for inválido ou mal formado
+     */
+    public Claims extractClaims(String token) {
+        if (verifiedTokens == null) {
+            return verify(token).claims();
+        }
+
+        // Falhas não são cacheadas: a exceção se propaga e nada é gravado
+        return verifiedTokens.get(hash(token), key -> verify(token)).claims();
     }
 
-    public boolean validateToken(String token) {
+    private VerifiedToken verify(String token) {
         try {
-            Jwts.parser()
-                .setSigningKey(privateKey)
-                .build()
-                .parseClaimsJws(token);
-            return true;
+            Jws<Claims> jws = parser.parseSignedClaims(token);
+            Claims claims = jws.getPayload();
+
+            // O token deixa de valer no que vier primeiro: sua expiração ou a da chave
+            Instant validUntil = claims.getExpiration() != null
+                ? claims.getExpiration().toInstant()
+                : null;
+            JwtKeyRing.SigningKey key = keyRing.verificationKey(
+                jws.getHeader().getKeyId()
+            );
+            if (
+                key != null &&
+                key.expiresAt() != null &&
+                (validUntil == null || key.expiresAt().isBefore(validUntil))
+            ) {
+                validUntil = key.expiresAt();
+            }
+            return new VerifiedToken(claims, validUntil);
         } catch (JwtException e) {
             throw new TokenValidationException("Token inválido");
         } catch (IllegalArgumentException e) {
             throw new TokenValidationException("Token mal formado");
         }
     }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(
+                digest.digest(token.getBytes(StandardCharsets.UTF_8))
+            );
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 é obrigatório em toda JVM
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(Claims claims, Instant validUntil) {}
+
+    /**
+     * Escolhe a chave de verificação pelo {@code kid} do header.
+     */
+    private class KeyIdLocator extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            JwtKeyRing.SigningKey key = keyRing.verificationKey(
+                header.getKeyId()
+            );
+            if (key == null) {
+                throw new UnsupportedJwtException(
+                    "Chave desconhecida ou expirada: " + header.getKeyId()
+                );
+            }
+            return key.key();
+        }
+    }
+
+    /**
+     * Mantém cada token no cache apenas pelo tempo de vida que ainda lhe resta.
+     */
+    private static class UntilTokenExpiration
+        implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(
+            String key,
+            VerifiedToken token,
+            long currentTime
+        ) {
+            if (token.validUntil() == null) {
+                return Long.MAX_VALUE;
+            }
+            long remainingMillis =
+                token.validUntil().toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(
+            String key,
+            VerifiedToken token,
+            long currentTime,
+            long currentDuration
+        ) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(
+            String key,
+            VerifiedToken token,
+            long currentTime,
+            long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,169 @@
+package com.burnoutinhos.burnoutinhos_api.config;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.SecretKey;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Conjunto de chaves HMAC usadas para assinar e verificar os tokens.
+ *
+ * Como as chaves vêm da configuração, todas as réplicas assinam e verificam com as
+ * mesmas chaves e um restart não invalida as sessões. O {@code kid} do header indica
+ * qual chave assinou o token; a chave de assinatura é a mais recente já ativada.
+ * Sem nenhuma chave configurada a subida falha, exceto com
+ * {@code jwt.allow-ephemeral-key}, que gera uma chave temporária.
+ */
+@Log4j2
+public class JwtKeyRing {
+
+    public static final String DEFAULT_KEY_ID = "default";
+
+    // Mínimo exigido para HS256
+    private static final int MIN_SECRET_BYTES = 32;
+
+    public record SigningKey(
+        String id,
+        SecretKey key,
+        Instant activateAt,
+        Instant expiresAt
+    ) {
+        boolean isActive(Instant now) {
+            return !activateAt.isAfter(now) && !isExpired(now);
+        }
+
+        boolean isExpired(Instant now) {
+            return expiresAt != null && !expiresAt.isAfter(now);
+        }
+    }
+
+    private final List<SigningKey> signingKeys;
+    private final Map<String, SigningKey> keysById = new HashMap<>();
+
+    public JwtKeyRing(JwtProperties properties) {
+        List<SigningKey> keys = new ArrayList<>();
+
+        if (properties.getSecret() != null && !properties.getSecret().isBlank()) {
+            keys.add(
+                toSigningKey(
+                    properties.getKeyId(),
+                    properties.getSecret(),
+                    null,
+                    null
+                )
+            );
+        }
+        for (JwtProperties.Key key : properties.getKeys()) {
+            keys.add(
+                toSigningKey(
+                    key.getId(),
+                    key.getSecret(),
+                    key.getActivateAt(),
+                    key.getExpiresAt()
+                )
+            );
+        }
+
+        if (keys.isEmpty()) {
+            if (!properties.isAllowEphemeralKey()) {
+                throw new IllegalStateException(
+                    "Nenhuma chave JWT configurada: defina jwt.secret (JWT_SECRET) " +
+                    "ou jwt.keys, ou ligue jwt.allow-ephemeral-key em desenvolvimento"
+                );
+            }
+            log.warn(
+                "Nenhuma chave JWT configurada (jwt.secret): usando chave temporária. " +
+                "Tokens não sobrevivem a restart nem são aceitos por outras réplicas."
+            );
+            keys.add(
+                new SigningKey(
+                    DEFAULT_KEY_ID,
+                    Keys.secretKeyFor(SignatureAlgorithm.HS256),
+                    Instant.EPOCH,
+                    null
+                )
+            );
+        }
+
+        for (SigningKey key : keys) {
+            if (keysById.put(key.id(), key) != null) {
+                throw new IllegalStateException(
+                    "Chave JWT duplicada: " + key.id()
+                );
+            }
+        }
+
+        keys.sort(Comparator.comparing(SigningKey::activateAt));
+        this.signingKeys = List.copyOf(keys);
+
+        // Garante na inicialização que existe uma chave para assinar agora
+        SigningKey current = currentSigningKey();
+        log.info(
+            "JWT configurado com {} chave(s); assinando com '{}'",
+            signingKeys.size(),
+            current.id()
+        );
+    }
+
+    /**
+     * Chave mais recente já ativada e ainda não expirada. Avaliada a cada emissão,
+     * de modo que a rotação acontece no {@code activate-at} sem restart.
+     */
+    public SigningKey currentSigningKey() {
+        Instant now = Instant.now();
+        for (int i = signingKeys.size() - 1; i >= 0; i--) {
+            SigningKey key = signingKeys.get(i);
+            if (key.isActive(now)) {
+                return key;
+            }
+        }
+        throw new IllegalStateException("Nenhuma chave JWT ativa no momento");
+    }
+
+    /**
+     * Chave de verificação para o {@code kid} informado.
+     *
+     * @return a chave, ou null se o id é desconhecido ou a chave já expirou
+     */
+    public SigningKey verificationKey(String keyId) {
+        SigningKey key = keyId != null ? keysById.get(keyId) : null;
+        if (key == null || key.isExpired(Instant.now())) {
+            return null;
+        }
+        return key;
+    }
+
+    private SigningKey toSigningKey(
+        String id,
+        String secret,
+        Instant activateAt,
+        Instant expiresAt
+    ) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalStateException("Chave JWT sem id");
+        }
+        byte[] bytes = secret != null
+            ? secret.getBytes(StandardCharsets.UTF_8)
+            : new byte[0];
+        if (bytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException(
+                "Chave JWT '" + id + "' precisa ter ao menos " +
+                MIN_SECRET_BYTES +
+                " bytes"
+            );
+        }
+        return new SigningKey(
+            id,
+            Keys.hmacShaKeyFor(bytes),
+            activateAt != null ? activateAt : Instant.EPOCH,
+            expiresAt
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package com.burnoutinhos.burnoutinhos_api.config;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Chaves de assinatura do JWT.
+ *
+ * {@link #secret} é a chave principal (id {@link #keyId}). Para rotacionar sem derrubar
+ * sessões, novas chaves são adicionadas em {@link #keys} com um {@code activate-at}: a
+ * partir desse instante todas as réplicas passam a assinar com ela, e as anteriores
+ * continuam aceitas na verificação até o seu {@code expires-at}.
+ *
+ * Sem {@link #secret} nem {@link #keys} a aplicação não sobe, a menos que
+ * {@link #allowEphemeralKey} esteja ligado.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+
+    private String keyId = JwtKeyRing.DEFAULT_KEY_ID;
+
+    private String secret;
+
+    private List<Key> keys = new ArrayList<>();
+
+    // Sem nenhuma chave configurada, gera uma chave temporária em vez de falhar a
+    // subida. Apenas para desenvolvimento local: tokens não sobrevivem a restart
+    private boolean allowEphemeralKey;
+
+    @Getter
+    @Setter
+    public static class Key {
+
+        private String id;
+
+        private String secret;
+
+        // Início do uso para assinatura; null = ativa desde sempre
+        private Instant activateAt;
+
+        // Fim da aceitação na verificação; null = sem prazo
+        private Instant expiresAt;
+    }
+}
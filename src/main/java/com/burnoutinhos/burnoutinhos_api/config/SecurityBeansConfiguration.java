@@ -1,8 +1,13 @@
 package com.burnoutinhos.burnoutinhos_api.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
@@ -10,12 +15,56 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  *
  * Exposes a PasswordEncoder bean so other components (services, authentication handlers, tests)
  * can inject it without creating cycles or depending on service classes.
+ * Also exposes the JWT key ring built from the {@code jwt.*} properties.
  */
 @Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(JwtProperties.class)
 public class SecurityBeansConfiguration {
 
+    private static final String BCRYPT_ID = "bcrypt";
+
+    /**
+     * New hashes are stored as {@code {bcrypt}...} with the configured strength. Legacy
+     * hashes without prefix are still matched as BCrypt, and hashes with an old prefix or
+     * a lower strength are re-encoded on the next successful login
+     * (see {@code AppUserService#updatePassword}).
+     * Hashing runs on a bounded pool ({@link BoundedPasswordEncoder}).
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(
+        @Value("${security.password.bcrypt-strength:10}") int strength,
+        @Value(
+            "${security.password.hashing.threads:0}"
+        ) int hashingThreads,
+        @Value(
+            "${security.password.hashing.queue-capacity:100}"
+        ) int queueCapacity,
+        @Value(
+            "${security.password.hashing.timeout-ms:5000}"
+        ) long timeoutMillis,
+        MeterRegistry meterRegistry
+    ) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(
+            BCRYPT_ID,
+            Map.of(BCRYPT_ID, bcrypt)
+        );
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int threads = hashingThreads > 0
+            ? hashingThreads
+            : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+            delegating,
+            threads,
+            queueCapacity,
+            timeoutMillis,
+            meterRegistry
+        );
+    }
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public JwtKeyRing jwtKeyRing(JwtProperties properties) {
+        return new JwtKeyRing(properties);
     }
 }
@@ -1,5 +1,9 @@
 package com.burnoutinhos.burnoutinhos_api.config;
 
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.info.InfoEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -15,6 +19,12 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration
 public class SecurityConfiguration {
 
+    /**
+     * Authority (role gravada em {@code AppUser.roles}) exigida pelos endpoints do
+     * actuator, exceto health e info.
+     */
+    public static final String ADMIN_AUTHORITY = "ADMIN";
+
     private final JWTAuthFilter jwtAuthFilter;
 
     public SecurityConfiguration(JWTAuthFilter jwtAuthFilter) {
@@ -40,6 +50,9 @@ public class SecurityConfiguration {
             )
             .authorizeHttpRequests(request ->
                 request
+                    // Respostas assíncronas (SSE) de requisições já autorizadas
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                    .permitAll()
                     .requestMatchers(
                         "/v3/api-docs/**",
                         "/swagger-ui/**",
@@ -48,6 +61,14 @@ public class SecurityConfiguration {
                     .permitAll()
                     .requestMatchers(HttpMethod.POST, "/users/**")
                     .permitAll()
+                    // Métricas, caches (inclusive DELETE) e uso da IA: apenas administradores
+                    .requestMatchers(
+                        EndpointRequest.toAnyEndpoint().excluding(
+                            HealthEndpoint.class,
+                            InfoEndpoint.class
+                        )
+                    )
+                    .hasAuthority(ADMIN_AUTHORITY)
                     .anyRequest()
                     .authenticated()
             )
@@ -12,6 +12,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 import java.util.HashMap;
@@ -84,18 +85,27 @@ public class AppUserController {
                 description = "Credenciais inválidas",
                 content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
             ),
+            @ApiResponse(
+                responseCode = "429",
+                description = "Muitas tentativas de login",
+                content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
         }
     )
     @PostMapping("/login")
     public ResponseEntity<AuthResponseDTO> login(
         @Valid @RequestBody LoginDTO dto,
-        BindingResult bindingResult
+        BindingResult bindingResult,
+        HttpServletRequest request
     ) {
         if (bindingResult.hasErrors()) {
             throw new BadRequestException("Login not valid", bindingResult);
         }
 
-        AuthResponseDTO response = authService.login(dto);
+        AuthResponseDTO response = authService.login(
+            dto,
+            request.getRemoteAddr()
+        );
         return ResponseEntity.ok(response);
     }
 
@@ -125,9 +135,14 @@ public class AppUserController {
     @GetMapping("/verify-password")
     public ResponseEntity<Map<String, Object>> verifyPassword(
         @AuthenticationPrincipal AppUser user,
-        @RequestParam String password
+        @RequestParam String password,
+        HttpServletRequest request
     ) {
-        boolean isValid = authService.verifyPassword(user, password);
+        boolean isValid = authService.verifyPassword(
+            user,
+            password,
+            request.getRemoteAddr()
+        );
         Map<String, Object> response = new HashMap<>();
         response.put("validPassword", isValid);
         if (!isValid) {
@@ -197,7 +212,8 @@ public class AppUserController {
     public ResponseEntity<AppUser> findMe(
         @AuthenticationPrincipal AppUser user
     ) {
-        return ResponseEntity.ok(user);
+        // O principal pode conter apenas os dados do token (modo stateless)
+        return ResponseEntity.ok(service.findById(user.getId()));
     }
 
     @Operation(
@@ -3,6 +3,8 @@ package com.burnoutinhos.burnoutinhos_api.controller;
 import com.burnoutinhos.burnoutinhos_api.exceptions.BadRequestException;
 import com.burnoutinhos.burnoutinhos_api.model.AppUser;
 import com.burnoutinhos.burnoutinhos_api.model.Notification;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.NotificationView;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.PageView;
 import com.burnoutinhos.burnoutinhos_api.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,7 +14,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -55,7 +56,7 @@ public class NotificationController {
         }
     )
     @PostMapping
-    public ResponseEntity<Notification> create(
+    public ResponseEntity<NotificationView> create(
         @Valid @RequestBody Notification notification,
         BindingResult bindingResult
     ) {
@@ -66,7 +67,7 @@ public class NotificationController {
             );
         }
 
-        Notification saved = service.save(notification);
+        NotificationView saved = service.save(notification);
         return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
@@ -89,8 +90,8 @@ public class NotificationController {
         }
     )
     @GetMapping
-    public ResponseEntity<List<Notification>> findAll() {
-        List<Notification> list = service.findAll();
+    public ResponseEntity<List<NotificationView>> findAll() {
+        List<NotificationView> list = service.findAll();
         return ResponseEntity.ok(list);
     }
 
@@ -113,8 +114,8 @@ public class NotificationController {
         }
     )
     @GetMapping("/me")
-    public ResponseEntity<Page<Notification>> findAllByUser(@AuthenticationPrincipal AppUser user, @RequestParam(defaultValue = "0") Integer page, @RequestParam(defaultValue = "10") Integer size) {
-        Page<Notification> list = service.findAll(user.getId(), page, size);
+    public ResponseEntity<PageView<NotificationView>> findAllByUser(@AuthenticationPrincipal AppUser user, @RequestParam(defaultValue = "0") Integer page, @RequestParam(defaultValue = "10") Integer size) {
+        PageView<NotificationView> list = service.findAll(user.getId(), page, size);
         return ResponseEntity.ok(list);
     }
 
@@ -142,8 +143,8 @@ public class NotificationController {
         }
     )
     @GetMapping("/{id}")
-    public ResponseEntity<Notification> findById(@PathVariable Long id) {
-        Notification n = service.findById(id);
+    public ResponseEntity<NotificationView> findById(@PathVariable Long id) {
+        NotificationView n = service.findById(id);
         return ResponseEntity.ok(n);
     }
 
@@ -176,7 +177,7 @@ public class NotificationController {
         }
     )
     @PutMapping("/{id}")
-    public ResponseEntity<Notification> update(
+    public ResponseEntity<NotificationView> update(
         @PathVariable Long id,
         @Valid @RequestBody Notification notification,
         BindingResult bindingResult
@@ -189,7 +190,7 @@ public class NotificationController {
         }
 
         notification.setId(id);
-        Notification updated = service.update(notification);
+        NotificationView updated = service.update(notification);
         return ResponseEntity.ok(updated);
     }
 
@@ -0,0 +1,108 @@
+package com.burnoutinhos.burnoutinhos_api.controller;
+
+import com.burnoutinhos.burnoutinhos_api.exceptions.BadRequestException;
+import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.PushTokenDTO;
+import com.burnoutinhos.burnoutinhos_api.service.PushTokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for push tokens of the authenticated user's devices.
+ */
+@RestController
+@RequestMapping("/push-tokens")
+@Tag(
+    name = "Push Tokens",
+    description = "Endpoints para registrar os dispositivos que recebem push"
+)
+public class PushTokenController {
+
+    @Autowired
+    private PushTokenService service;
+
+    @Operation(
+        summary = "Registrar token de push",
+        description = "Associa o token do dispositivo ao usuário autenticado"
+    )
+    @ApiResponses(
+        {
+            @ApiResponse(
+                responseCode = "204",
+                description = "Token registrado com sucesso"
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Requisição inválida - dados de entrada incorretos",
+                content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                responseCode = "401",
+                description = "Não autorizado",
+                content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+        }
+    )
+    @PostMapping
+    public ResponseEntity<Void> register(
+        @AuthenticationPrincipal AppUser user,
+        @Valid @RequestBody PushTokenDTO dto,
+        BindingResult bindingResult
+    ) {
+        if (bindingResult.hasErrors()) {
+            throw new BadRequestException(
+                "Register push token not valid",
+                bindingResult
+            );
+        }
+
+        service.register(user, dto.getToken());
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+        summary = "Remover token de push",
+        description = "Remove o token do dispositivo do usuário autenticado"
+    )
+    @ApiResponses(
+        {
+            @ApiResponse(
+                responseCode = "204",
+                description = "Token removido com sucesso"
+            ),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Token não encontrado",
+                content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                responseCode = "401",
+                description = "Não autorizado",
+                content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+        }
+    )
+    @DeleteMapping("/{token}")
+    public ResponseEntity<Void> unregister(
+        @AuthenticationPrincipal AppUser user,
+        @PathVariable String token
+    ) {
+        service.unregister(user, token);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -3,6 +3,8 @@ package com.burnoutinhos.burnoutinhos_api.controller;
 import com.burnoutinhos.burnoutinhos_api.exceptions.BadRequestException;
 import com.burnoutinhos.burnoutinhos_api.model.AppUser;
 import com.burnoutinhos.burnoutinhos_api.model.Suggestion;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.PageView;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.SuggestionView;
 import com.burnoutinhos.burnoutinhos_api.service.SuggestionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,7 +14,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -61,18 +62,18 @@ public class SuggestionController {
         }
     )
     @GetMapping
-    public ResponseEntity<List<Suggestion>> findAll() {
-        List<Suggestion> list = service.findAll();
+    public ResponseEntity<List<SuggestionView>> findAll() {
+        List<SuggestionView> list = service.findAll();
         return ResponseEntity.ok(list);
     }
 
     @GetMapping("/me")
-    public ResponseEntity<Page<Suggestion>> findAllByUser(
+    public ResponseEntity<PageView<SuggestionView>> findAllByUser(
         @AuthenticationPrincipal AppUser user,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size
     ) {
-        Page<Suggestion> pageResult = service.findAllByUserId(
+        PageView<SuggestionView> pageResult = service.findAllByUserId(
             user.getId(),
             page,
             size
@@ -105,8 +106,8 @@ public class SuggestionController {
         }
     )
     @GetMapping("/{id}")
-    public ResponseEntity<Suggestion> findById(@PathVariable Long id) {
-        Suggestion s = service.findById(id);
+    public ResponseEntity<SuggestionView> findById(@PathVariable Long id) {
+        SuggestionView s = service.findById(id);
         return ResponseEntity.ok(s);
     }
 
@@ -139,7 +140,7 @@ public class SuggestionController {
         }
     )
     @PutMapping("/{id}")
-    public ResponseEntity<Suggestion> update(
+    public ResponseEntity<SuggestionView> update(
         @PathVariable Long id,
         @Valid @RequestBody Suggestion suggestion,
         BindingResult bindingResult
@@ -152,7 +153,7 @@ public class SuggestionController {
         }
 
         suggestion.setId(id);
-        Suggestion updated = service.update(suggestion);
+        SuggestionView updated = service.update(suggestion);
         return ResponseEntity.ok(updated);
     }
 
@@ -3,7 +3,9 @@ package com.burnoutinhos.burnoutinhos_api.controller;
 import com.burnoutinhos.burnoutinhos_api.exceptions.BadRequestException;
 import com.burnoutinhos.burnoutinhos_api.model.AppUser;
 import com.burnoutinhos.burnoutinhos_api.model.TimeBlock;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.PageView;
 import com.burnoutinhos.burnoutinhos_api.model.dtos.TimeBlockDTO;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.TimeBlockView;
 import com.burnoutinhos.burnoutinhos_api.service.TimeBlockService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,7 +16,6 @@ import jakarta.validation.Valid;
 import java.util.List;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -68,7 +69,7 @@ public class TimeBlockController {
         }
     )
     @PostMapping
-    public ResponseEntity<TimeBlock> create(
+    public ResponseEntity<TimeBlockView> create(
         @Valid @RequestBody TimeBlockDTO dto,
         BindingResult bindingResult
     ) {
@@ -82,7 +83,7 @@ public class TimeBlockController {
         TimeBlock timeBlock = new TimeBlock();
         BeanUtils.copyProperties(dto, timeBlock);
 
-        TimeBlock saved = service.save(timeBlock);
+        TimeBlockView saved = service.save(timeBlock);
         return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
@@ -109,8 +110,8 @@ public class TimeBlockController {
         }
     )
     @GetMapping
-    public ResponseEntity<List<TimeBlock>> findAll() {
-        List<TimeBlock> list = service.findAll();
+    public ResponseEntity<List<TimeBlockView>> findAll() {
+        List<TimeBlockView> list = service.findAll();
         if (list == null || list.isEmpty()) {
             return ResponseEntity.noContent().build();
         }
@@ -141,12 +142,12 @@ public class TimeBlockController {
         }
     )
     @GetMapping("/me")
-    public ResponseEntity<Page<TimeBlock>> findAllByUser(
+    public ResponseEntity<PageView<TimeBlockView>> findAllByUser(
         @AuthenticationPrincipal AppUser user,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size
     ) {
-        Page<TimeBlock> pageResult = service.findAllByUserId(
+        PageView<TimeBlockView> pageResult = service.findAllByUserId(
             user.getId(),
             page,
             size
@@ -178,8 +179,8 @@ public class TimeBlockController {
         }
     )
     @GetMapping("/{id}")
-    public ResponseEntity<TimeBlock> findById(@PathVariable Long id) {
-        TimeBlock tb = service.findById(id);
+    public ResponseEntity<TimeBlockView> findById(@PathVariable Long id) {
+        TimeBlockView tb = service.findById(id);
         return ResponseEntity.ok(tb);
     }
 
@@ -212,7 +213,7 @@ public class TimeBlockController {
         }
     )
     @PutMapping("/{id}")
-    public ResponseEntity<TimeBlock> update(
+    public ResponseEntity<TimeBlockView> update(
         @PathVariable Long id,
         @Valid @RequestBody TimeBlockDTO dto,
         BindingResult bindingResult
@@ -228,7 +229,7 @@ public class TimeBlockController {
         BeanUtils.copyProperties(dto, timeBlock);
         timeBlock.setId(id);
 
-        TimeBlock updated = service.update(timeBlock);
+        TimeBlockView updated = service.update(timeBlock);
         return ResponseEntity.ok(updated);
     }
 
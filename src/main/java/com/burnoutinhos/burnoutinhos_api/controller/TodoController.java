@@ -3,8 +3,11 @@ package com.burnoutinhos.burnoutinhos_api.controller;
 import com.burnoutinhos.burnoutinhos_api.exceptions.BadRequestException;
 import com.burnoutinhos.burnoutinhos_api.model.AppUser;
 import com.burnoutinhos.burnoutinhos_api.model.Todo;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.PageView;
 import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoDTO;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoView;
 import com.burnoutinhos.burnoutinhos_api.service.TodoService;
+import com.burnoutinhos.burnoutinhos_api.service.ai.SuggestionStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,10 +17,10 @@ import jakarta.validation.Valid;
 import java.util.List;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -29,6 +32,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 /**
  * REST controller for Todo resource.
@@ -42,6 +46,9 @@ public class TodoController {
     @Autowired
     private TodoService service;
 
+    @Autowired
+    private SuggestionStreamService suggestionStreamService;
+
     @Operation(
         summary = "Criar tarefa",
         description = "Cria uma nova tarefa (todo)"
@@ -66,7 +73,7 @@ public class TodoController {
         }
     )
     @PostMapping
-    public ResponseEntity<Todo> create(
+    public ResponseEntity<TodoView> create(
         @Valid @RequestBody TodoDTO dto,
         BindingResult bindingResult
     ) {
@@ -80,7 +87,7 @@ public class TodoController {
         Todo todo = new Todo();
         BeanUtils.copyProperties(dto, todo);
 
-        Todo saved = service.save(todo);
+        TodoView saved = service.save(todo);
         return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
@@ -107,8 +114,8 @@ public class TodoController {
         }
     )
     @GetMapping
-    public ResponseEntity<List<Todo>> findAll() {
-        List<Todo> list = service.findAll();
+    public ResponseEntity<List<TodoView>> findAll() {
+        List<TodoView> list = service.findAll();
         if (list == null || list.isEmpty()) {
             return ResponseEntity.noContent().build();
         }
@@ -138,8 +145,8 @@ public class TodoController {
         }
     )
     @GetMapping("/me")
-    public ResponseEntity<Page<Todo>> findAllByUser(@AuthenticationPrincipal AppUser user, @RequestParam(defaultValue = "0") Integer page, @RequestParam(defaultValue = "10") Integer size) {
-        Page<Todo> list = service.findAllByUser(user.getId(), page, size);
+    public ResponseEntity<PageView<TodoView>> findAllByUser(@AuthenticationPrincipal AppUser user, @RequestParam(defaultValue = "0") Integer page, @RequestParam(defaultValue = "10") Integer size) {
+        PageView<TodoView> list = service.findAllByUser(user.getId(), page, size);
         return ResponseEntity.ok(list);
     }
 
@@ -167,11 +174,47 @@ public class TodoController {
         }
     )
     @GetMapping("/{id}")
-    public ResponseEntity<Todo> findById(@PathVariable Long id) {
-        Todo todo = service.findById(id);
+    public ResponseEntity<TodoView> findById(@PathVariable Long id) {
+        TodoView todo = service.findById(id);
         return ResponseEntity.ok(todo);
     }
 
+    @Operation(
+        summary = "Gerar sugestão em streaming",
+        description = "Gera uma sugestão de IA para a tarefa e envia o texto por " +
+        "Server-Sent Events à medida que é gerado (eventos token, suggestion e error). " +
+        "A sugestão completa é gravada ao final."
+    )
+    @ApiResponses(
+        {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Stream de eventos da sugestão",
+                content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+            ),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Tarefa não encontrada",
+                content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                responseCode = "401",
+                description = "Não autorizado",
+                content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+        }
+    )
+    @GetMapping(
+        value = "/{id}/suggestion/stream",
+        produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    public Flux<ServerSentEvent<Object>> streamSuggestion(
+        @AuthenticationPrincipal AppUser user,
+        @PathVariable Long id
+    ) {
+        return suggestionStreamService.stream(user, id);
+    }
+
     @Operation(
         summary = "Atualizar tarefa",
         description = "Atualiza uma tarefa existente"
@@ -201,7 +244,7 @@ public class TodoController {
         }
     )
     @PutMapping("/{id}")
-    public ResponseEntity<Todo> update(
+    public ResponseEntity<TodoView> update(
         @PathVariable Long id,
         @Valid @RequestBody TodoDTO dto,
         BindingResult bindingResult
@@ -213,7 +256,7 @@ public class TodoController {
             );
         }
 
-        Todo updated = service.update(dto, id);
+        TodoView updated = service.update(dto, id);
         return ResponseEntity.ok(updated);
     }
 
@@ -65,6 +65,28 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Object> handleTooManyRequests(
+        TooManyRequestsException e
+    ) {
+        Map<String, String> resposta = new HashMap<>();
+        resposta.put("error", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(
+            resposta
+        );
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Object> handleServiceOverloaded(
+        ServiceOverloadedException e
+    ) {
+        Map<String, String> resposta = new HashMap<>();
+        resposta.put("error", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+            resposta
+        );
+    }
+
     @ExceptionHandler(ConversionErrorException.class)
     public ResponseEntity<String> handleConversionError(
         ConversionErrorException e
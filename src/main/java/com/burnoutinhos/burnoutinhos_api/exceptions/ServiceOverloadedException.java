@@ -0,0 +1,8 @@
+package com.burnoutinhos.burnoutinhos_api.exceptions;
+
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
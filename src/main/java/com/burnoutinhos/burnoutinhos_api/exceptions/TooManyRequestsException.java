@@ -0,0 +1,8 @@
+package com.burnoutinhos.burnoutinhos_api.exceptions;
+
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,41 @@
+package com.burnoutinhos.burnoutinhos_api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Sugestão de IA persistida pelo hash (SHA-256) do prompt que a gerou, para que o
+ * cache de sugestões sobreviva a reinícios.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+    name = "ai_suggestion_cache",
+    indexes = @Index(
+        name = "idx_ai_suggestion_cache_created_at",
+        columnList = "created_at"
+    )
+)
+public class AiSuggestionCacheEntry {
+
+    @Id
+    @Column(name = "prompt_hash", length = 64)
+    private String promptHash;
+
+    @Column(length = 1500, nullable = false)
+    private String suggestion;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,83 @@
+package com.burnoutinhos.burnoutinhos_api.model;
+
+import com.burnoutinhos.burnoutinhos_api.model.enums.NotificationKind;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * Registro de uma notificação agendada já enviada, chaveado por
+ * (usuário, todo, tipo, dia). O scheduler consulta o ledger antes de gerar
+ * mensagens para não repetir notificações nem chamadas à IA no mesmo dia.
+ *
+ * Notificações que não se referem a um todo (resumo do dia) usam {@code todoId = 0}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(
+    name = "notification_ledger",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_notification_ledger",
+        columnNames = { "user_id", "sent_on", "kind", "todo_id" }
+    ),
+    indexes = @Index(name = "idx_notification_ledger_sent_on", columnList = "sent_on")
+)
+public class NotificationLedgerEntry {
+
+    public static final long NO_TODO = 0L;
+
+    // Mesma estratégia de Notification: gravado em lote junto com as notificações
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_ledger_seq")
+    @SequenceGenerator(
+        name = "notification_ledger_seq",
+        sequenceName = "notification_ledger_seq",
+        allocationSize = 50
+    )
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "todo_id", nullable = false)
+    private Long todoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private NotificationKind kind;
+
+    @Column(name = "sent_on", nullable = false)
+    private LocalDate day;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public NotificationLedgerEntry(
+        Long userId,
+        Long todoId,
+        NotificationKind kind,
+        LocalDate day
+    ) {
+        this.userId = userId;
+        this.todoId = todoId;
+        this.kind = kind;
+        this.day = day;
+    }
+}
@@ -6,9 +6,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -19,7 +21,14 @@ import lombok.ToString;
 @ToString(exclude = "userId")
 @EqualsAndHashCode(exclude = "userId")
 @Entity
-@Table(name = "t_gp_mottu_token_push")
+@Table(
+    name = "t_gp_mottu_token_push",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_push_token_token",
+        columnNames = "token"
+    ),
+    indexes = @Index(name = "idx_push_token_user_id", columnList = "user_id")
+)
 public class PushToken {
 
     @Id
@@ -27,6 +36,8 @@ public class PushToken {
     @Column(name = "id_token_push")
     private Long id;
 
+    // Um dispositivo pertence a um único usuário: o token é único na tabela
+    @Column(nullable = false, length = 500)
     private String token;
 
     @ManyToOne
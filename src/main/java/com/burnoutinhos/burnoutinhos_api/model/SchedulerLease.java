@@ -0,0 +1,40 @@
+package com.burnoutinhos.burnoutinhos_api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Lease de um job agendado (ou de um shard dele) compartilhado entre as instâncias.
+ *
+ * Apenas o {@link #owner} executa o job enquanto {@link #expiresAt} não passar; depois
+ * disso qualquer instância pode assumir. A aquisição é um único UPDATE condicional
+ * (ver {@code SchedulerLeaseRepository#tryAcquire}).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "scheduler_lease")
+public class SchedulerLease {
+
+    @Id
+    @Column(name = "lease_name", length = 100)
+    private String name;
+
+    @Column(length = 200)
+    private String owner;
+
+    @Column(name = "acquired_at")
+    private LocalDateTime acquiredAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,19 @@
+package com.burnoutinhos.burnoutinhos_api.model.dtos;
+
+import com.burnoutinhos.burnoutinhos_api.model.Todo;
+import com.burnoutinhos.burnoutinhos_api.model.enums.TodoType;
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de um {@link Todo} pendente que entra na verificação do scheduler de
+ * notificações (começa/termina hoje ou termina nas próximas horas).
+ */
+public record DueTodo(
+    Long id,
+    Long userId,
+    String name,
+    String description,
+    TodoType type,
+    LocalDateTime start,
+    LocalDateTime end
+) {}
@@ -0,0 +1,21 @@
+package com.burnoutinhos.burnoutinhos_api.model.dtos;
+
+import com.burnoutinhos.burnoutinhos_api.model.Notification;
+import java.time.LocalDateTime;
+
+/**
+ * Projeção somente leitura de {@link Notification}, segura para cache e serialização.
+ */
+public record NotificationView(
+    Long id,
+    String message,
+    LocalDateTime createdAt
+) {
+    public static NotificationView fromNotification(Notification notification) {
+        return new NotificationView(
+            notification.getId(),
+            notification.getMessage(),
+            notification.getCreatedAt()
+        );
+    }
+}
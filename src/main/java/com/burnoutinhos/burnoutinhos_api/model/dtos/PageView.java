@@ -0,0 +1,56 @@
+package com.burnoutinhos.burnoutinhos_api.model.dtos;
+
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Page;
+
+/**
+ * Página imutável usada nas respostas paginadas e no cache.
+ *
+ * Mantém os mesmos campos principais que o JSON de {@link Page} expunha
+ * (content, number, size, totalElements, totalPages, first, last, empty),
+ * sem guardar o {@code Pageable} nem referências ao contexto de persistência.
+ */
+public record PageView<T>(
+    List<T> content,
+    int number,
+    int size,
+    long totalElements,
+    int totalPages,
+    int numberOfElements,
+    boolean first,
+    boolean last,
+    boolean empty
+) {
+    public PageView {
+        content = List.copyOf(content);
+    }
+
+    public static <T> PageView<T> fromPage(Page<T> page) {
+        return new PageView<>(
+            page.getContent(),
+            page.getNumber(),
+            page.getSize(),
+            page.getTotalElements(),
+            page.getTotalPages(),
+            page.getNumberOfElements(),
+            page.isFirst(),
+            page.isLast(),
+            page.isEmpty()
+        );
+    }
+
+    public <R> PageView<R> map(Function<T, R> mapper) {
+        return new PageView<>(
+            content.stream().map(mapper).toList(),
+            number,
+            size,
+            totalElements,
+            totalPages,
+            numberOfElements,
+            first,
+            last,
+            empty
+        );
+    }
+}
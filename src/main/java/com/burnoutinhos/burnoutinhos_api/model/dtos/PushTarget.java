@@ -0,0 +1,8 @@
+package com.burnoutinhos.burnoutinhos_api.model.dtos;
+
+import com.burnoutinhos.burnoutinhos_api.model.PushToken;
+
+/**
+ * Projeção de um {@link PushToken}: token de dispositivo e usuário dono.
+ */
+public record PushTarget(Long userId, String token) {}
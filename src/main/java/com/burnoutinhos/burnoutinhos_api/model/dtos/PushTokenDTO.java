@@ -0,0 +1,19 @@
+package com.burnoutinhos.burnoutinhos_api.model.dtos;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PushTokenDTO {
+
+    @NotBlank
+    @Size(max = 500)
+    private String token;
+}
@@ -0,0 +1,7 @@
+package com.burnoutinhos.burnoutinhos_api.model.dtos;
+
+/**
+ * Trecho de texto de uma sugestão enviado por SSE. Vai como JSON para preservar os
+ * espaços e quebras de linha do trecho.
+ */
+public record SuggestionChunk(String text) {}
@@ -0,0 +1,15 @@
+package com.burnoutinhos.burnoutinhos_api.model.dtos;
+
+import com.burnoutinhos.burnoutinhos_api.model.enums.TodoType;
+
+/**
+ * Sugestão gerada junto com o dono, o nome, a descrição e o tipo do todo que a
+ * originou.
+ */
+public record SuggestionSample(
+    Long userId,
+    String name,
+    String description,
+    TodoType type,
+    String suggestion
+) {}
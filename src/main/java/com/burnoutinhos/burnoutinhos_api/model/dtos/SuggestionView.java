@@ -0,0 +1,24 @@
+package com.burnoutinhos.burnoutinhos_api.model.dtos;
+
+import com.burnoutinhos.burnoutinhos_api.model.Suggestion;
+import java.time.LocalDateTime;
+
+/**
+ * Projeção somente leitura de {@link Suggestion}, segura para cache e serialização.
+ * Referencia o todo apenas pelo id, sem carregar a entidade.
+ */
+public record SuggestionView(
+    Long id,
+    Long todoId,
+    String suggestion,
+    LocalDateTime createdAt
+) {
+    public static SuggestionView fromSuggestion(Suggestion suggestion) {
+        return new SuggestionView(
+            suggestion.getId(),
+            suggestion.getTodo() != null ? suggestion.getTodo().getId() : null,
+            suggestion.getSuggestion(),
+            suggestion.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.burnoutinhos.burnoutinhos_api.model.dtos;
+
+import com.burnoutinhos.burnoutinhos_api.model.TimeBlock;
+import com.burnoutinhos.burnoutinhos_api.model.enums.TimeBlockType;
+import java.time.LocalDateTime;
+
+/**
+ * Projeção somente leitura de {@link TimeBlock}, segura para cache e serialização.
+ * Referencia o todo apenas pelo id, evitando o proxy LAZY de {@code TimeBlock.todo}.
+ */
+public record TimeBlockView(
+    Long id,
+    String name,
+    Integer timeCount,
+    Integer max,
+    Integer start,
+    TimeBlockType type,
+    Long todoId,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+    public static TimeBlockView fromTimeBlock(TimeBlock timeBlock) {
+        return new TimeBlockView(
+            timeBlock.getId(),
+            timeBlock.getName(),
+            timeBlock.getTimeCount(),
+            timeBlock.getMax(),
+            timeBlock.getStart(),
+            timeBlock.getType(),
+            timeBlock.getTodo() != null ? timeBlock.getTodo().getId() : null,
+            timeBlock.getCreatedAt(),
+            timeBlock.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.burnoutinhos.burnoutinhos_api.model.dtos;
+
+import com.burnoutinhos.burnoutinhos_api.model.Todo;
+import java.time.LocalDateTime;
+
+/**
+ * Projeção do prazo de um {@link Todo} pendente, usada para preencher o timer wheel
+ * de lembretes de prazo.
+ */
+public record TodoDeadline(Long id, LocalDateTime end) {}
@@ -0,0 +1,90 @@
+package com.burnoutinhos.burnoutinhos_api.model.dtos;
+
+import com.burnoutinhos.burnoutinhos_api.model.Todo;
+import com.burnoutinhos.burnoutinhos_api.model.enums.TodoType;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Projeção somente leitura de {@link Todo}, segura para cache e serialização.
+ *
+ * O construtor sem {@code suggestions} é o usado pelas consultas JPQL; as sugestões
+ * são carregadas em uma única consulta por lote e anexadas com {@link #withSuggestions}.
+ */
+public record TodoView(
+    Long id,
+    String name,
+    String description,
+    LocalDateTime start,
+    LocalDateTime end,
+    boolean completed,
+    TodoType type,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    List<SuggestionView> suggestions
+) {
+    public TodoView(
+        Long id,
+        String name,
+        String description,
+        LocalDateTime start,
+        LocalDateTime end,
+        boolean completed,
+        TodoType type,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+    ) {
+        this(
+            id,
+            name,
+            description,
+            start,
+            end,
+            completed,
+            type,
+            createdAt,
+            updatedAt,
+            List.of()
+        );
+    }
+
+    public TodoView {
+        suggestions = suggestions == null
+            ? List.of()
+            : List.copyOf(suggestions);
+    }
+
+    public TodoView withSuggestions(List<SuggestionView> suggestions) {
+        return new TodoView(
+            id,
+            name,
+            description,
+            start,
+            end,
+            completed,
+            type,
+            createdAt,
+            updatedAt,
+            suggestions
+        );
+    }
+
+    public static TodoView fromTodo(Todo todo) {
+        return new TodoView(
+            todo.getId(),
+            todo.getName(),
+            todo.getDescription(),
+            todo.getStart(),
+            todo.getEnd(),
+            todo.isCompleted(),
+            todo.getType(),
+            todo.getCreatedAt(),
+            todo.getUpdatedAt(),
+            todo
+                .getSuggestions()
+                .stream()
+                .map(SuggestionView::fromSuggestion)
+                .toList()
+        );
+    }
+}
@@ -0,0 +1,6 @@
+package com.burnoutinhos.burnoutinhos_api.model.enums;
+
+public enum NotificationKind {
+    DAILY_SUMMARY,
+    DEADLINE,
+}
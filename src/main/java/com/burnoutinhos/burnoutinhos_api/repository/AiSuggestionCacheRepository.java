@@ -0,0 +1,28 @@
+package com.burnoutinhos.burnoutinhos_api.repository;
+
+import com.burnoutinhos.burnoutinhos_api.model.AiSuggestionCacheEntry;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repositório JPA para a entidade {@link AiSuggestionCacheEntry}.
+ */
+@Repository
+public interface AiSuggestionCacheRepository
+    extends JpaRepository<AiSuggestionCacheEntry, String> {
+    Optional<AiSuggestionCacheEntry> findByPromptHashAndCreatedAtAfter(
+        String promptHash,
+        LocalDateTime createdAfter
+    );
+
+    @Modifying
+    @Transactional
+    @Query("delete from AiSuggestionCacheEntry e where e.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
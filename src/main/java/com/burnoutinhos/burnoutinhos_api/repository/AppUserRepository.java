@@ -4,6 +4,8 @@ import com.burnoutinhos.burnoutinhos_api.model.AppUser;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,4 +17,8 @@ public interface AppUserRepository extends JpaRepository<AppUser, Long> {
 
     // Busca usuários que contenham a role informada no conjunto de roles
     List<AppUser> findByRolesContaining(String role);
+
+    // Versão atual dos tokens do usuário (revogação no modo stateless do JWT)
+    @Query("select u.tokenVersion from AppUser u where u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
 }
@@ -0,0 +1,24 @@
+package com.burnoutinhos.burnoutinhos_api.repository;
+
+import com.burnoutinhos.burnoutinhos_api.model.NotificationLedgerEntry;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationLedgerRepository
+    extends JpaRepository<NotificationLedgerEntry, Long> {
+    List<NotificationLedgerEntry> findByDayAndUserIdIn(
+        LocalDate day,
+        Collection<Long> userIds
+    );
+
+    @Modifying
+    @Query("delete from NotificationLedgerEntry e where e.day < :day")
+    int deleteByDayBefore(@Param("day") LocalDate day);
+}
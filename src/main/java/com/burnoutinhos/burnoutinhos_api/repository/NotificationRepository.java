@@ -2,6 +2,7 @@ package com.burnoutinhos.burnoutinhos_api.repository;
 
 import com.burnoutinhos.burnoutinhos_api.model.Notification;
 import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.NotificationView;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -9,6 +10,8 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -28,4 +31,26 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     Optional<Notification> findTopByUserOrderByCreatedAtDesc(AppUser user);
 
     List<Notification> findByMessageContainingIgnoreCase(String text);
+
+    // Projeções somente leitura
+
+    String NOTIFICATION_VIEW_SELECT =
+        "select new com.burnoutinhos.burnoutinhos_api.model.dtos.NotificationView(" +
+        "n.id, n.message, n.createdAt" +
+        ") from Notification n";
+
+    @Query(NOTIFICATION_VIEW_SELECT + " where n.id = :id")
+    Optional<NotificationView> findViewById(@Param("id") Long id);
+
+    @Query(NOTIFICATION_VIEW_SELECT)
+    List<NotificationView> findAllViews();
+
+    @Query(
+        value = NOTIFICATION_VIEW_SELECT + " where n.user.id = :userId",
+        countQuery = "select count(n) from Notification n where n.user.id = :userId"
+    )
+    Page<NotificationView> findViewsByUserId(
+        @Param("userId") Long userId,
+        Pageable pageable
+    );
 }
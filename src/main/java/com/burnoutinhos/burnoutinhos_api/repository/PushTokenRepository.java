@@ -0,0 +1,50 @@
+package com.burnoutinhos.burnoutinhos_api.repository;
+
+import com.burnoutinhos.burnoutinhos_api.model.PushToken;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.PushTarget;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório JPA para a entidade {@link PushToken}.
+ *
+ * As consultas usam os índices de {@code t_gp_mottu_token_push}: o único em
+ * {@code token} e o de {@code user_id}.
+ */
+@Repository
+public interface PushTokenRepository extends JpaRepository<PushToken, Long> {
+    Optional<PushToken> findByToken(String token);
+
+    /**
+     * Tokens de todos os usuários informados numa única consulta.
+     */
+    @Query(
+        "select new com.burnoutinhos.burnoutinhos_api.model.dtos.PushTarget(" +
+        "t.userId.id, t.token) from PushToken t where t.userId.id in :userIds"
+    )
+    List<PushTarget> findTargetsByUserIds(
+        @Param("userIds") Collection<Long> userIds
+    );
+
+    @Modifying
+    @Query(
+        "delete from PushToken t where t.token = :token and t.userId.id = :userId"
+    )
+    int deleteByTokenAndUser(
+        @Param("token") String token,
+        @Param("userId") Long userId
+    );
+
+    /**
+     * Remove os tokens informados num único comando.
+     */
+    @Modifying
+    @Query("delete from PushToken t where t.token in :tokens")
+    int deleteByTokenIn(@Param("tokens") Collection<String> tokens);
+}
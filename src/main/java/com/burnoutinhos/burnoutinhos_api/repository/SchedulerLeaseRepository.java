@@ -0,0 +1,42 @@
+package com.burnoutinhos.burnoutinhos_api.repository;
+
+import com.burnoutinhos.burnoutinhos_api.model.SchedulerLease;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SchedulerLeaseRepository
+    extends JpaRepository<SchedulerLease, String> {
+    /**
+     * Assume o lease se ele estiver expirado ou já pertencer a {@code owner}
+     * (renovação). O banco serializa UPDATEs concorrentes na mesma linha, então
+     * no máximo uma instância recebe 1.
+     *
+     * @return 1 se o lease foi adquirido, 0 caso contrário
+     */
+    @Modifying
+    @Query(
+        "update SchedulerLease l set l.owner = :owner, l.acquiredAt = :now, " +
+        "l.expiresAt = :expiresAt " +
+        "where l.name = :name and (l.owner = :owner or l.expiresAt < :now)"
+    )
+    int tryAcquire(
+        @Param("name") String name,
+        @Param("owner") String owner,
+        @Param("now") LocalDateTime now,
+        @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    /**
+     * Libera o lease, se ainda pertencer a {@code owner}.
+     *
+     * @return 1 se o lease foi liberado, 0 se já era de outra instância
+     */
+    @Modifying
+    @Query("delete from SchedulerLease l where l.name = :name and l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
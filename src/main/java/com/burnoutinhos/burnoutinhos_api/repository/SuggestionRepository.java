@@ -2,13 +2,18 @@ package com.burnoutinhos.burnoutinhos_api.repository;
 
 import com.burnoutinhos.burnoutinhos_api.model.Suggestion;
 import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.SuggestionSample;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.SuggestionView;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -28,4 +33,49 @@ public interface SuggestionRepository extends JpaRepository<Suggestion, Long> {
     List<Suggestion> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
     Optional<Suggestion> findTopByUserOrderByCreatedAtDesc(AppUser user);
+
+    // Projeções somente leitura
+
+    String SUGGESTION_VIEW_SELECT =
+        "select new com.burnoutinhos.burnoutinhos_api.model.dtos.SuggestionView(" +
+        "s.id, t.id, s.suggestion, s.createdAt" +
+        ") from Suggestion s left join s.todo t";
+
+    @Query(SUGGESTION_VIEW_SELECT + " where s.id = :id")
+    Optional<SuggestionView> findViewById(@Param("id") Long id);
+
+    @Query(SUGGESTION_VIEW_SELECT)
+    List<SuggestionView> findAllViews();
+
+    @Query(
+        value = SUGGESTION_VIEW_SELECT + " where s.user.id = :userId",
+        countQuery = "select count(s) from Suggestion s where s.user.id = :userId"
+    )
+    Page<SuggestionView> findViewsByUserId(
+        @Param("userId") Long userId,
+        Pageable pageable
+    );
+
+    @Query(SUGGESTION_VIEW_SELECT + " where t.id in :todoIds order by s.id")
+    List<SuggestionView> findViewsByTodoIdIn(
+        @Param("todoIds") Collection<Long> todoIds
+    );
+
+    @Query(SUGGESTION_VIEW_SELECT + " where t.id is not null order by s.id")
+    List<SuggestionView> findAllViewsWithTodo();
+
+    /**
+     * Sugestões mais recentes com os dados do todo, ignorando os textos padrão
+     * ({@code excluded}) gravados quando a IA não foi chamada.
+     */
+    @Query(
+        "select new com.burnoutinhos.burnoutinhos_api.model.dtos.SuggestionSample(" +
+        "t.user.id, t.name, t.description, t.type, s.suggestion) " +
+        "from Suggestion s join s.todo t " +
+        "where s.suggestion not in :excluded order by s.id desc"
+    )
+    List<SuggestionSample> findRecentSamples(
+        @Param("excluded") Collection<String> excluded,
+        Pageable pageable
+    );
 }
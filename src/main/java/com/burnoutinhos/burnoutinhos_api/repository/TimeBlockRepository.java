@@ -3,6 +3,7 @@ package com.burnoutinhos.burnoutinhos_api.repository;
 import com.burnoutinhos.burnoutinhos_api.model.TimeBlock;
 import com.burnoutinhos.burnoutinhos_api.model.AppUser;
 import com.burnoutinhos.burnoutinhos_api.model.Todo;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.TimeBlockView;
 import com.burnoutinhos.burnoutinhos_api.model.enums.TimeBlockType;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -11,6 +12,8 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -38,4 +41,26 @@ public interface TimeBlockRepository extends JpaRepository<TimeBlock, Long> {
     Optional<TimeBlock> findTopByUserOrderByCreatedAtDesc(AppUser user);
 
     void deleteByTodoId(Long todoId);
+
+    // Projeções somente leitura (todo referenciado apenas pelo id)
+
+    String TIME_BLOCK_VIEW_SELECT =
+        "select new com.burnoutinhos.burnoutinhos_api.model.dtos.TimeBlockView(" +
+        "tb.id, tb.name, tb.timeCount, tb.max, tb.start, tb.type, t.id, tb.createdAt, tb.updatedAt" +
+        ") from TimeBlock tb left join tb.todo t";
+
+    @Query(TIME_BLOCK_VIEW_SELECT + " where tb.id = :id")
+    Optional<TimeBlockView> findViewById(@Param("id") Long id);
+
+    @Query(TIME_BLOCK_VIEW_SELECT)
+    List<TimeBlockView> findAllViews();
+
+    @Query(
+        value = TIME_BLOCK_VIEW_SELECT + " where tb.user.id = :userId",
+        countQuery = "select count(tb) from TimeBlock tb where tb.user.id = :userId"
+    )
+    Page<TimeBlockView> findViewsByUserId(
+        @Param("userId") Long userId,
+        Pageable pageable
+    );
 }
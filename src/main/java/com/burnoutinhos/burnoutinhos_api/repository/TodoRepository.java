@@ -2,13 +2,19 @@ package com.burnoutinhos.burnoutinhos_api.repository;
 
 import com.burnoutinhos.burnoutinhos_api.model.AppUser;
 import com.burnoutinhos.burnoutinhos_api.model.Todo;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.DueTodo;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoDeadline;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoView;
 import com.burnoutinhos.burnoutinhos_api.model.enums.TodoType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -39,4 +45,90 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
         boolean isCompleted,
         Pageable pageable
     );
+
+    // Projeções somente leitura (sem sugestões; anexadas pelo service em lote)
+
+    String TODO_VIEW_SELECT =
+        "select new com.burnoutinhos.burnoutinhos_api.model.dtos.TodoView(" +
+        "t.id, t.name, t.description, t.start, t.end, t.isCompleted, t.type, t.createdAt, t.updatedAt" +
+        ") from Todo t";
+
+    @Query(TODO_VIEW_SELECT + " where t.id = :id")
+    Optional<TodoView> findViewById(@Param("id") Long id);
+
+    @Query(TODO_VIEW_SELECT)
+    List<TodoView> findAllViews();
+
+    @Query(
+        value = TODO_VIEW_SELECT + " where t.user.id = :userId",
+        countQuery = "select count(t) from Todo t where t.user.id = :userId"
+    )
+    Page<TodoView> findViewsByUserId(
+        @Param("userId") Long userId,
+        Pageable pageable
+    );
+
+    // Scheduler de notificações: apenas todos pendentes que começam/terminam hoje ou
+    // terminam antes de :deadlineLimit (consultas por faixa em start/end_time)
+
+    String DUE_TODO_WHERE =
+        " where t.isCompleted = false and (" +
+        "(t.start >= :dayStart and t.start < :dayEnd) or " +
+        "(t.end >= :dayStart and t.end < :dayEnd) or " +
+        "(t.end > :now and t.end < :deadlineLimit))";
+
+    /**
+     * Próximo lote de usuários com todos a notificar, em ordem de id a partir de
+     * {@code afterUserId} (paginação por chave, sem OFFSET), restrito aos usuários
+     * do shard ({@code user_id % shardCount = shard}).
+     */
+    @Query(
+        "select distinct t.user.id from Todo t" +
+        DUE_TODO_WHERE +
+        " and mod(t.user.id, :shardCount) = :shard" +
+        " and t.user.id > :afterUserId order by t.user.id"
+    )
+    List<Long> findUserIdsWithDueTodos(
+        @Param("shard") int shard,
+        @Param("shardCount") int shardCount,
+        @Param("afterUserId") Long afterUserId,
+        @Param("dayStart") LocalDateTime dayStart,
+        @Param("dayEnd") LocalDateTime dayEnd,
+        @Param("now") LocalDateTime now,
+        @Param("deadlineLimit") LocalDateTime deadlineLimit,
+        Pageable pageable
+    );
+
+    String DUE_TODO_SELECT =
+        "select new com.burnoutinhos.burnoutinhos_api.model.dtos.DueTodo(" +
+        "t.id, t.user.id, t.name, t.description, t.type, t.start, t.end" +
+        ") from Todo t";
+
+    @Query(
+        DUE_TODO_SELECT +
+        DUE_TODO_WHERE +
+        " and t.user.id in :userIds order by t.user.id, t.id"
+    )
+    List<DueTodo> findDueTodosByUserIds(
+        @Param("userIds") Collection<Long> userIds,
+        @Param("dayStart") LocalDateTime dayStart,
+        @Param("dayEnd") LocalDateTime dayEnd,
+        @Param("now") LocalDateTime now,
+        @Param("deadlineLimit") LocalDateTime deadlineLimit
+    );
+
+    @Query(DUE_TODO_SELECT + " where t.id = :id and t.isCompleted = false")
+    Optional<DueTodo> findPendingDueTodoById(@Param("id") Long id);
+
+    // Lembretes de prazo: prazos pendentes dentro do horizonte do timer wheel
+
+    @Query(
+        "select new com.burnoutinhos.burnoutinhos_api.model.dtos.TodoDeadline(" +
+        "t.id, t.end) from Todo t where t.isCompleted = false " +
+        "and t.end > :from and t.end <= :to"
+    )
+    List<TodoDeadline> findPendingDeadlinesBetween(
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
 }
@@ -6,6 +6,7 @@ import com.burnoutinhos.burnoutinhos_api.exceptions.UserAlreadyExistsException;
 import com.burnoutinhos.burnoutinhos_api.model.AppUser;
 import com.burnoutinhos.burnoutinhos_api.model.dtos.RegisterAndUpdateUserDTO;
 import com.burnoutinhos.burnoutinhos_api.repository.AppUserRepository;
+import com.burnoutinhos.burnoutinhos_api.service.cache.CacheEvictionService;
 import java.util.List;
 import java.util.Optional;
 import lombok.extern.log4j.Log4j2;
@@ -13,6 +14,7 @@ import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -21,13 +23,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service responsável pelo CRUD de usuários e por prover UserDetails para o Spring Security.
+ * Também regrava o hash da senha quando o PasswordEncoder pede upgrade após um login.
  *
  * Observação: responsabilidades de autenticação (login, emissão de token, uso de
  * AuthenticationManager) foram movidas para um serviço separado (ex: AuthenticationService).
  */
 @Service
 @Log4j2
-public class AppUserService implements UserDetailsService {
+public class AppUserService
+    implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private AppUserRepository repository;
@@ -35,6 +39,9 @@ public class AppUserService implements UserDetailsService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private CacheEvictionService cacheEvictionService;
+
     /**
      * Cria um novo usuário a partir de DTO usado para registro/atualização.
      * NÃO realiza autenticação ou emissão de token — essa responsabilidade fica em outro serviço.
@@ -60,7 +67,9 @@ public class AppUserService implements UserDetailsService {
 
         log.info("register user: {} ", user);
 
-        return repository.saveAndFlush(user);
+        AppUser saved = repository.saveAndFlush(user);
+        cacheEvictionService.evict("appUsers", saved.getId(), null);
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -79,15 +88,19 @@ public class AppUserService implements UserDetailsService {
 
     @Transactional
     public void delete(Long id) {
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("User not found");
-        }
-        repository.deleteById(id);
+        AppUser user = repository
+            .findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        repository.delete(user);
+        cacheEvictionService.evict("appUsers", id, null);
+        cacheEvictionService.evictPrincipal(user.getEmail());
+        cacheEvictionService.evictTokenVersion(id);
     }
 
     /**
      * Atualiza os dados do usuário atualmente autenticado.
-     * Utiliza utilitários de autenticação para extrair o usuário a ser atualizado.
+     * Utiliza utilitários de autenticação para extrair o id do usuário a ser atualizado.
+     * Uma troca de senha incrementa a versão de token, revogando os tokens anteriores.
      *
      * @param dto DTO com os novos dados
      * @return o usuário atualizado
@@ -96,7 +109,12 @@ public class AppUserService implements UserDetailsService {
     public AppUser update(RegisterAndUpdateUserDTO dto) {
         Long idFromUser = AuthenticationUtil.extractUserIdFromToken();
 
-        AppUser user = AuthenticationUtil.extractUserFromToken();
+        // O principal pode ser parcial (modo stateless): altera a entidade do banco
+        AppUser user = repository
+            .findById(idFromUser)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        // O token continua apontando para o email antigo até o próximo login
+        String previousEmail = user.getEmail();
 
         if (dto.getEmail() != null) {
             Optional<AppUser> byEmail = repository.findByEmail(dto.getEmail());
@@ -113,6 +131,7 @@ public class AppUserService implements UserDetailsService {
 
         if (dto.getPassword() != null) {
             user.setPassword(passwordEncoder.encode(dto.getPassword()));
+            user.setTokenVersion(user.getTokenVersion() + 1);
         }
 
         if (dto.getLanguage() != null) {
@@ -134,7 +153,12 @@ public class AppUserService implements UserDetailsService {
             "profileImage"
         );
 
-        return repository.save(user);
+        AppUser updated = repository.save(user);
+        cacheEvictionService.evict("appUsers", updated.getId(), null);
+        cacheEvictionService.evictPrincipal(previousEmail);
+        cacheEvictionService.evictPrincipal(updated.getEmail());
+        cacheEvictionService.evictTokenVersion(updated.getId());
+        return updated;
     }
 
     @Override
@@ -148,5 +172,27 @@ public class AppUserService implements UserDetailsService {
         );
     }
 
+    /**
+     * Chamado pelo Spring Security após um login bem-sucedido cujo hash está
+     * desatualizado (sem prefixo ou com custo menor que o configurado).
+     * Não altera a versão de token: a senha continua a mesma.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        AppUser user = repository
+            .findByEmail(userDetails.getUsername())
+            .orElseThrow(() ->
+                new UsernameNotFoundException("User not exists.")
+            );
+        user.setPassword(newPassword);
+        AppUser updated = repository.save(user);
+        log.info("Hash de senha atualizado para o usuário {}", updated.getId());
+
+        cacheEvictionService.evict("appUsers", updated.getId(), null);
+        cacheEvictionService.evictPrincipal(updated.getEmail());
+        return updated;
+    }
+
     // PasswordEncoder bean moved to SecurityBeansConfiguration to avoid circular dependencies.
 }
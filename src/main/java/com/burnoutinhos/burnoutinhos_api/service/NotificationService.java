@@ -4,11 +4,13 @@ import com.burnoutinhos.burnoutinhos_api.config.AuthenticationUtil;
 import com.burnoutinhos.burnoutinhos_api.exceptions.ResourceNotFoundException;
 import com.burnoutinhos.burnoutinhos_api.model.AppUser;
 import com.burnoutinhos.burnoutinhos_api.model.Notification;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.NotificationView;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.PageView;
 import com.burnoutinhos.burnoutinhos_api.repository.NotificationRepository;
+import com.burnoutinhos.burnoutinhos_api.service.cache.CacheEvictionService;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,44 +24,51 @@ public class NotificationService {
     @Autowired
     private NotificationRepository repository;
 
+    @Autowired
+    private CacheEvictionService cacheEvictionService;
+
     /**
      * Persiste uma entidade {@link Notification}.
      * Se o usuário não estiver presente na entidade, extrai o userId do token autenticado.
      */
     @Transactional
-    public Notification save(Notification notification) {
+    public NotificationView save(Notification notification) {
         if (notification.getUser() == null) {
             AppUser user = AuthenticationUtil.extractUserFromToken();
             notification.setUser(user);
         }
-        return repository.save(notification);
+        Notification saved = repository.save(notification);
+        evictCaches(saved);
+        return NotificationView.fromNotification(saved);
     }
 
     /**
-     * Retorna todas as entidades {@link Notification}.
+     * Retorna todas as entidades {@link Notification} como {@link NotificationView}.
      * Cacheável e com transação somente leitura.
      */
     @Transactional(readOnly = true)
     @Cacheable("notifications")
-    public List<Notification> findAll() {
-        return repository.findAll();
+    public List<NotificationView> findAll() {
+        return repository.findAllViews();
     }
 
     @Transactional(readOnly = true)
     @Cacheable(value = "notifications", key = "#userId + '_' + #page + '_' + #size")
-    public Page<Notification> findAll(Long userId, Integer page, Integer size) {
-        return repository.findByUserId(userId, PageRequest.of(page, size));
+    public PageView<NotificationView> findAll(Long userId, Integer page, Integer size) {
+        return PageView.fromPage(
+            repository.findViewsByUserId(userId, PageRequest.of(page, size))
+        );
     }
 
     /**
-     * Busca uma entidade {@link Notification} por id.
+     * Busca uma entidade {@link Notification} por id como {@link NotificationView}.
      * Cacheável e com transação somente leitura.
      */
     @Transactional(readOnly = true)
     @Cacheable(value = "notifications", key = "#id")
-    public Notification findById(Long id) {
+    public NotificationView findById(Long id) {
         return repository
-            .findById(id)
+            .findViewById(id)
             .orElseThrow(() ->
                 new ResourceNotFoundException("Notification not found")
             );
@@ -70,10 +79,13 @@ public class NotificationService {
      */
     @Transactional
     public void delete(Long id) {
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("Notification not found");
-        }
-        repository.deleteById(id);
+        Notification notification = repository
+            .findById(id)
+            .orElseThrow(() ->
+                new ResourceNotFoundException("Notification not found")
+            );
+        repository.delete(notification);
+        evictCaches(notification);
     }
 
     /**
@@ -81,7 +93,7 @@ public class NotificationService {
      * Verifica existência e preenche o usuário a partir do token, se necessário.
      */
     @Transactional
-    public Notification update(Notification notification) {
+    public NotificationView update(Notification notification) {
         Long id = notification.getId();
         if (id == null || !repository.existsById(id)) {
             throw new ResourceNotFoundException("Notification not found");
@@ -92,6 +104,19 @@ public class NotificationService {
             notification.setUser(user);
         }
 
-        return repository.save(notification);
+        Notification updated = repository.save(notification);
+        evictCaches(updated);
+        return NotificationView.fromNotification(updated);
+    }
+
+    /**
+     * Invalida a entidade, a listagem geral e as páginas do usuário dono.
+     */
+    private void evictCaches(Notification notification) {
+        cacheEvictionService.evict(
+            "notifications",
+            notification.getId(),
+            notification.getUser() != null ? notification.getUser().getId() : null
+        );
     }
 }
@@ -0,0 +1,110 @@
+package com.burnoutinhos.burnoutinhos_api.service;
+
+import com.burnoutinhos.burnoutinhos_api.exceptions.ResourceNotFoundException;
+import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import com.burnoutinhos.burnoutinhos_api.model.PushToken;
+import com.burnoutinhos.burnoutinhos_api.repository.PushTokenRepository;
+import com.burnoutinhos.burnoutinhos_api.service.notifications.DeliveryReport;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Registro dos tokens de push dos dispositivos e remoção dos tokens mortos.
+ */
+@Service
+@Log4j2
+public class PushTokenService {
+
+    // Códigos do FCM para tokens que nunca mais serão aceitos. Só erros por mensagem
+    // contam: falhas do lote inteiro chegam com o prefixo BATCH_ e nunca casam aqui
+    private static final Set<String> DEAD_TOKEN_CODES = Set.of(
+        "UNREGISTERED",
+        "INVALID_ARGUMENT"
+    );
+
+    // Mantém o IN abaixo do limite de parâmetros do SQL Server (2100)
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    @Autowired
+    private PushTokenRepository repository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Registra o token do dispositivo para o usuário. Um token já registrado passa
+     * para o usuário atual (o dispositivo trocou de conta).
+     *
+     * Dois registros simultâneos do mesmo token podem não encontrá-lo e tentar inserir;
+     * o que perder na restrição única refaz o registro numa nova transação, que agora
+     * encontra a linha e apenas a atualiza.
+     */
+    public void register(AppUser user, String token) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> upsert(user, token));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Token de push registrado em paralelo; atualizando o existente");
+            transactionTemplate.executeWithoutResult(status -> upsert(user, token));
+        }
+    }
+
+    private void upsert(AppUser user, String token) {
+        PushToken pushToken = repository
+            .findByToken(token)
+            .orElseGet(PushToken::new);
+        pushToken.setToken(token);
+        pushToken.setUserId(user);
+        repository.saveAndFlush(pushToken);
+    }
+
+    @Transactional
+    public void unregister(AppUser user, String token) {
+        if (repository.deleteByTokenAndUser(token, user.getId()) == 0) {
+            throw new ResourceNotFoundException("Push token not found");
+        }
+    }
+
+    /**
+     * Remove os tokens que o provedor reportou como inválidos ou desregistrados, para
+     * que os próximos envios só alcancem dispositivos ativos.
+     *
+     * @return quantidade de tokens removidos
+     */
+    @Transactional
+    public int pruneDeadTokens(DeliveryReport report) {
+        List<String> deadTokens = report
+            .failures()
+            .stream()
+            .filter(failure -> DEAD_TOKEN_CODES.contains(failure.errorCode()))
+            .map(DeliveryReport.TokenFailure::token)
+            .distinct()
+            .toList();
+        if (deadTokens.isEmpty()) {
+            return 0;
+        }
+
+        int removed = 0;
+        for (int from = 0; from < deadTokens.size(); from += DELETE_CHUNK_SIZE) {
+            removed += repository.deleteByTokenIn(
+                deadTokens.subList(
+                    from,
+                    Math.min(from + DELETE_CHUNK_SIZE, deadTokens.size())
+                )
+            );
+        }
+
+        meterRegistry.counter("push.tokens.pruned").increment(removed);
+        log.info("{} tokens de push inválidos removidos", removed);
+        return removed;
+    }
+}
@@ -5,11 +5,14 @@ import com.burnoutinhos.burnoutinhos_api.exceptions.ResourceNotFoundException;
 import com.burnoutinhos.burnoutinhos_api.model.AppUser;
 import com.burnoutinhos.burnoutinhos_api.model.Suggestion;
 import com.burnoutinhos.burnoutinhos_api.model.Todo;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.PageView;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.SuggestionView;
 import com.burnoutinhos.burnoutinhos_api.repository.SuggestionRepository;
+import com.burnoutinhos.burnoutinhos_api.repository.TodoRepository;
+import com.burnoutinhos.burnoutinhos_api.service.cache.CacheEvictionService;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,14 +27,17 @@ public class SuggestionService {
     private SuggestionRepository repository;
 
     @Autowired
-    private TodoService todoService;
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CacheEvictionService cacheEvictionService;
 
     /**
      * Persiste uma entidade {@link Suggestion}.
      * Se o usuário não estiver presente, extrai o userId do token autenticado.
      */
     @Transactional
-    public Suggestion save(Suggestion suggestion) {
+    public SuggestionView save(Suggestion suggestion) {
         if (suggestion.getUser() == null) {
             AppUser user = AuthenticationUtil.extractUserFromToken();
             suggestion.setUser(user);
@@ -42,7 +48,7 @@ public class SuggestionService {
             suggestion.getTodo() != null && suggestion.getTodo().getId() != null
         ) {
             Long todoId = suggestion.getTodo().getId();
-            Todo todo = todoService.findById(todoId); // lança ResourceNotFoundException se não existir
+            Todo todo = findTodo(todoId); // lança ResourceNotFoundException se não existir
 
             // seta a entidade gerenciada no lado Many
             suggestion.setTodo(todo);
@@ -53,34 +59,38 @@ public class SuggestionService {
             }
         }
 
-        return repository.save(suggestion);
+        Suggestion saved = repository.save(suggestion);
+        evictCaches(saved);
+        return SuggestionView.fromSuggestion(saved);
     }
 
     /**
-     * Retorna todas as entidades {@link Suggestion}.
+     * Retorna todas as {@link Suggestion} como {@link SuggestionView}.
      * Cacheável e com transação somente leitura.
      */
     @Transactional(readOnly = true)
     @Cacheable("suggestions")
-    public List<Suggestion> findAll() {
-        return repository.findAll();
+    public List<SuggestionView> findAll() {
+        return repository.findAllViews();
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "suggestions", key = "#userId + '-' + #page + '-' + #size")
-    public Page<Suggestion> findAllByUserId(Long userId, Integer page, Integer size) {
-        return repository.findByUserId(userId, PageRequest.of(page, size));
+    @Cacheable(value = "suggestions", key = "#userId + '_' + #page + '_' + #size")
+    public PageView<SuggestionView> findAllByUserId(Long userId, Integer page, Integer size) {
+        return PageView.fromPage(
+            repository.findViewsByUserId(userId, PageRequest.of(page, size))
+        );
     }
 
     /**
-     * Busca uma entidade {@link Suggestion} por id.
+     * Busca uma {@link Suggestion} por id como {@link SuggestionView}.
      * Cacheável e com transação somente leitura.
      */
     @Transactional(readOnly = true)
     @Cacheable(value = "suggestions", key = "#id")
-    public Suggestion findById(Long id) {
+    public SuggestionView findById(Long id) {
         return repository
-            .findById(id)
+            .findViewById(id)
             .orElseThrow(() ->
                 new ResourceNotFoundException("Suggestion not found")
             );
@@ -91,10 +101,13 @@ public class SuggestionService {
      */
     @Transactional
     public void delete(Long id) {
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("Suggestion not found");
-        }
-        repository.deleteById(id);
+        Suggestion suggestion = repository
+            .findById(id)
+            .orElseThrow(() ->
+                new ResourceNotFoundException("Suggestion not found")
+            );
+        repository.delete(suggestion);
+        evictCaches(suggestion);
     }
 
     /**
@@ -102,7 +115,7 @@ public class SuggestionService {
      * Verifica existência e preenche o usuário a partir do token, se necessário.
      */
     @Transactional
-    public Suggestion update(Suggestion suggestion) {
+    public SuggestionView update(Suggestion suggestion) {
         Long id = suggestion.getId();
         if (id == null || !repository.existsById(id)) {
             throw new ResourceNotFoundException("Suggestion not found");
@@ -118,13 +131,41 @@ public class SuggestionService {
             suggestion.getTodo() != null && suggestion.getTodo().getId() != null
         ) {
             Long todoId = suggestion.getTodo().getId();
-            Todo todo = todoService.findById(todoId);
+            Todo todo = findTodo(todoId);
             suggestion.setTodo(todo);
             if (!todo.getSuggestions().contains(suggestion)) {
                 todo.getSuggestions().add(suggestion);
             }
         }
 
-        return repository.save(suggestion);
+        Suggestion updated = repository.save(suggestion);
+        evictCaches(updated);
+        return SuggestionView.fromSuggestion(updated);
+    }
+
+    private Todo findTodo(Long todoId) {
+        return todoRepository
+            .findById(todoId)
+            .orElseThrow(() -> new ResourceNotFoundException("Todo not found"));
+    }
+
+    /**
+     * Invalida a sugestão, as páginas do usuário e o todo associado
+     * (a coleção de sugestões do todo também muda).
+     */
+    private void evictCaches(Suggestion suggestion) {
+        Long userId = suggestion.getUser() != null
+            ? suggestion.getUser().getId()
+            : null;
+
+        cacheEvictionService.evict("suggestions", suggestion.getId(), userId);
+
+        if (suggestion.getTodo() != null) {
+            cacheEvictionService.evict(
+                "todos",
+                suggestion.getTodo().getId(),
+                userId
+            );
+        }
     }
 }
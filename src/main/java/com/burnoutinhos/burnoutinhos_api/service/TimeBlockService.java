@@ -4,11 +4,13 @@ import com.burnoutinhos.burnoutinhos_api.config.AuthenticationUtil;
 import com.burnoutinhos.burnoutinhos_api.exceptions.ResourceNotFoundException;
 import com.burnoutinhos.burnoutinhos_api.model.AppUser;
 import com.burnoutinhos.burnoutinhos_api.model.TimeBlock;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.TimeBlockView;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.PageView;
 import com.burnoutinhos.burnoutinhos_api.repository.TimeBlockRepository;
+import com.burnoutinhos.burnoutinhos_api.service.cache.CacheEvictionService;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,44 +26,51 @@ public class TimeBlockService {
     @Autowired
     private TimeBlockRepository repository;
 
+    @Autowired
+    private CacheEvictionService cacheEvictionService;
+
     /**
      * Persiste uma entidade {@link TimeBlock}.
      * Se o usuário não estiver presente na entidade, extrai o userId do token autenticado.
      */
     @Transactional
-    public TimeBlock save(TimeBlock timeBlock) {
+    public TimeBlockView save(TimeBlock timeBlock) {
         if (timeBlock.getUser() == null) {
             AppUser user = AuthenticationUtil.extractUserFromToken();
             timeBlock.setUser(user);
         }
-        return repository.save(timeBlock);
+        TimeBlock saved = repository.save(timeBlock);
+        evictCaches(saved);
+        return TimeBlockView.fromTimeBlock(saved);
     }
 
     /**
-     * Retorna todas as entidades {@link TimeBlock}.
+     * Retorna todas as entidades {@link TimeBlock} como {@link TimeBlockView}.
      * Cacheável e com transação somente leitura.
      */
     @Transactional(readOnly = true)
     @Cacheable("timeBlocks")
-    public List<TimeBlock> findAll() {
-        return repository.findAll();
+    public List<TimeBlockView> findAll() {
+        return repository.findAllViews();
     }
 
     @Transactional(readOnly = true)
     @Cacheable(value = "timeBlocks", key = "#userId + '_' + #page + '_' + #size")
-    public Page<TimeBlock> findAllByUserId(Long userId, Integer page, Integer size) {
-        return repository.findByUserId(userId, PageRequest.of(page, size));
+    public PageView<TimeBlockView> findAllByUserId(Long userId, Integer page, Integer size) {
+        return PageView.fromPage(
+            repository.findViewsByUserId(userId, PageRequest.of(page, size))
+        );
     }
 
     /**
-     * Busca uma entidade {@link TimeBlock} por id.
+     * Busca uma entidade {@link TimeBlock} por id como {@link TimeBlockView}.
      * Cacheável e com transação somente leitura.
      */
     @Transactional(readOnly = true)
     @Cacheable(value = "timeBlocks", key = "#id")
-    public TimeBlock findById(Long id) {
+    public TimeBlockView findById(Long id) {
         return repository
-            .findById(id)
+            .findViewById(id)
             .orElseThrow(() ->
                 new ResourceNotFoundException("TimeBlock not found")
             );
@@ -72,10 +81,13 @@ public class TimeBlockService {
      */
     @Transactional
     public void delete(Long id) {
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("TimeBlock not found");
-        }
-        repository.deleteById(id);
+        TimeBlock timeBlock = repository
+            .findById(id)
+            .orElseThrow(() ->
+                new ResourceNotFoundException("TimeBlock not found")
+            );
+        repository.delete(timeBlock);
+        evictCaches(timeBlock);
     }
 
     /**
@@ -83,7 +95,7 @@ public class TimeBlockService {
      * Verifica existência e, se necessário, define o usuário a partir do token.
      */
     @Transactional
-    public TimeBlock update(TimeBlock timeBlock) {
+    public TimeBlockView update(TimeBlock timeBlock) {
         Long id = timeBlock.getId();
         if (id == null || !repository.existsById(id)) {
             throw new ResourceNotFoundException("TimeBlock not found");
@@ -94,6 +106,19 @@ public class TimeBlockService {
             timeBlock.setUser(user);
         }
 
-        return repository.save(timeBlock);
+        TimeBlock updated = repository.save(timeBlock);
+        evictCaches(updated);
+        return TimeBlockView.fromTimeBlock(updated);
+    }
+
+    /**
+     * Invalida a entidade, a listagem geral e as páginas do usuário dono.
+     */
+    private void evictCaches(TimeBlock timeBlock) {
+        cacheEvictionService.evict(
+            "timeBlocks",
+            timeBlock.getId(),
+            timeBlock.getUser() != null ? timeBlock.getUser().getId() : null
+        );
     }
 }
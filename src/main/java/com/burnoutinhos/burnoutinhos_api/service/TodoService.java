@@ -3,17 +3,25 @@ package com.burnoutinhos.burnoutinhos_api.service;
 import com.burnoutinhos.burnoutinhos_api.config.AuthenticationUtil;
 import com.burnoutinhos.burnoutinhos_api.exceptions.ResourceNotFoundException;
 import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import com.burnoutinhos.burnoutinhos_api.model.Suggestion;
 import com.burnoutinhos.burnoutinhos_api.model.Todo;
 import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoDTO;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.PageView;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.SuggestionView;
 import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoEventDTO;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoView;
+import com.burnoutinhos.burnoutinhos_api.repository.SuggestionRepository;
 import com.burnoutinhos.burnoutinhos_api.repository.TodoRepository;
+import com.burnoutinhos.burnoutinhos_api.service.cache.CacheEvictionService;
 import com.burnoutinhos.burnoutinhos_api.service.messagery.EventHubProducerService;
+import com.burnoutinhos.burnoutinhos_api.service.scheduler.DeadlineReminderService;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,15 +38,24 @@ public class TodoService {
     @Autowired
     private TodoRepository repository;
 
+    @Autowired
+    private SuggestionRepository suggestionRepository;
+
     @Autowired
     private EventHubProducerService eventHubProducerService;
 
+    @Autowired
+    private CacheEvictionService cacheEvictionService;
+
+    @Autowired
+    private DeadlineReminderService deadlineReminderService;
+
     /**
      * Persiste uma entidade {@link Todo}.
      * Se o usuário não estiver presente na entidade, extrai o userId do token autenticado.
      */
     @Transactional
-    public Todo save(Todo todo) {
+    public TodoView save(Todo todo) {
         if (todo.getUser() == null) {
             AppUser user = AuthenticationUtil.extractUserFromToken();
             todo.setUser(user);
@@ -46,6 +63,8 @@ public class TodoService {
 
         Todo savedTodo = repository.save(todo);
         log.info("Todo salvo com ID: {}", savedTodo.getId());
+        evictCaches(savedTodo);
+        deadlineReminderService.onTodoSaved(savedTodo);
 
         try {
             TodoEventDTO eventDTO = TodoEventDTO.fromTodo(savedTodo);
@@ -58,46 +77,89 @@ public class TodoService {
             );
         }
 
-        return savedTodo;
+        return TodoView.fromTodo(savedTodo);
     }
 
     /**
-     * Retorna todas as entidades {@link Todo}.
+     * Retorna todos os {@link Todo} como {@link TodoView}.
      * Cacheável e com transação somente leitura.
      */
     @Transactional(readOnly = true)
     @Cacheable("todos")
-    public List<Todo> findAll() {
-        return repository.findAll();
+    public List<TodoView> findAll() {
+        return attachSuggestions(
+            repository.findAllViews(),
+            suggestionRepository.findAllViewsWithTodo()
+        );
     }
 
     @Transactional(readOnly = true)
     @Cacheable(value = "todos", key = "#userId + '_' + #page + '_' + #size")
-    public Page<Todo> findAllByUser(Long userId, Integer page, Integer size) {
-        return repository.findByUserId(userId, PageRequest.of(page, size));
+    public PageView<TodoView> findAllByUser(
+        Long userId,
+        Integer page,
+        Integer size
+    ) {
+        PageView<TodoView> views = PageView.fromPage(
+            repository.findViewsByUserId(userId, PageRequest.of(page, size))
+        );
+        if (views.empty()) {
+            return views;
+        }
+
+        List<Long> todoIds = views
+            .content()
+            .stream()
+            .map(TodoView::id)
+            .toList();
+        Map<Long, List<SuggestionView>> suggestionsByTodo = groupByTodo(
+            suggestionRepository.findViewsByTodoIdIn(todoIds)
+        );
+        return views.map(todo ->
+            todo.withSuggestions(
+                suggestionsByTodo.getOrDefault(todo.id(), List.of())
+            )
+        );
     }
 
     /**
-     * Busca uma entidade {@link Todo} por id.
+     * Busca um {@link Todo} por id como {@link TodoView}.
      * Cacheável e com transação somente leitura.
      */
     @Transactional(readOnly = true)
     @Cacheable(value = "todos", key = "#id")
-    public Todo findById(Long id) {
-        return repository
-            .findById(id)
+    public TodoView findById(Long id) {
+        TodoView todo = repository
+            .findViewById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Todo not found"));
+        return todo.withSuggestions(
+            suggestionRepository.findViewsByTodoIdIn(List.of(id))
+        );
     }
 
     /**
      * Remove uma entidade {@link Todo} por id.
+     * As sugestões do todo são removidas em cascata, então seus caches também são invalidados.
      */
     @Transactional
     public void delete(Long id) {
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("Todo not found");
+        Todo todo = repository
+            .findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Todo not found"));
+        Long userId = todo.getUser() != null ? todo.getUser().getId() : null;
+
+        for (Suggestion suggestion : todo.getSuggestions()) {
+            cacheEvictionService.evict(
+                "suggestions",
+                suggestion.getId(),
+                userId
+            );
         }
-        repository.deleteById(id);
+        cacheEvictionService.evictUserPages("timeBlocks", userId);
+
+        repository.delete(todo);
+        evictCaches(todo);
+        deadlineReminderService.onTodoDeleted(id);
     }
 
     /**
@@ -105,8 +167,10 @@ public class TodoService {
      * Verifica existência e preenche o usuário a partir do token, se necessário.
      */
     @Transactional
-    public Todo update(TodoDTO dto, Long id) {
-        Todo todo = findById(id);
+    public TodoView update(TodoDTO dto, Long id) {
+        Todo todo = repository
+            .findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Todo not found"));
         BeanUtils.copyProperties(dto, todo);
 
         if (id == null || !repository.existsById(id)) {
@@ -118,6 +182,48 @@ public class TodoService {
             todo.setUser(user);
         }
 
-        return repository.save(todo);
+        Todo updated = repository.save(todo);
+        evictCaches(updated);
+        deadlineReminderService.onTodoSaved(updated);
+        return TodoView.fromTodo(updated);
+    }
+
+    /**
+     * Anexa a cada todo as sugestões já carregadas em lote (uma consulta, sem N+1).
+     */
+    private List<TodoView> attachSuggestions(
+        List<TodoView> todos,
+        List<SuggestionView> suggestions
+    ) {
+        Map<Long, List<SuggestionView>> suggestionsByTodo = groupByTodo(
+            suggestions
+        );
+        return todos
+            .stream()
+            .map(todo ->
+                todo.withSuggestions(
+                    suggestionsByTodo.getOrDefault(todo.id(), List.of())
+                )
+            )
+            .toList();
+    }
+
+    private Map<Long, List<SuggestionView>> groupByTodo(
+        List<SuggestionView> suggestions
+    ) {
+        return suggestions
+            .stream()
+            .collect(Collectors.groupingBy(SuggestionView::todoId));
+    }
+
+    /**
+     * Invalida o todo, a listagem geral e as páginas do usuário dono.
+     */
+    private void evictCaches(Todo todo) {
+        cacheEvictionService.evict(
+            "todos",
+            todo.getId(),
+            todo.getUser() != null ? todo.getUser().getId() : null
+        );
     }
 }
@@ -0,0 +1,214 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import com.burnoutinhos.burnoutinhos_api.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Protege as chamadas ao provedor de IA com timeout, bulkhead e circuit breaker.
+ *
+ * Cada chamada roda numa virtual thread e quem chama espera no máximo o timeout
+ * informado; ao estourar, a thread da chamada é interrompida. No máximo
+ * {@code maxConcurrentCalls} chamadas ficam em andamento; sem vaga em
+ * {@code bulkheadWait}, ou com o {@link CircuitBreaker} aberto, a chamada é recusada na
+ * hora com {@link ServiceOverloadedException}. Falhas e timeouts contam para o circuit
+ * breaker.
+ *
+ * Respostas em streaming ({@link #stream}) ocupam a vaga do bulkhead até o fim do
+ * stream; o timeout vale para o intervalo entre dois trechos da resposta.
+ *
+ * Métricas: {@code ai.calls} (tempo por chamada com percentis, tag
+ * result=success|failure|timeout), {@code ai.calls.rejected} (tag
+ * reason=bulkhead|circuit_open) e {@code ai.circuit_breaker.state} (0 fechado, 1 aberto,
+ * 2 meio-aberto).
+ */
+public class AiCallGuard {
+
+    private final Semaphore bulkhead;
+    private final Duration bulkheadWait;
+    private final CircuitBreaker circuitBreaker;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedByBulkhead;
+    private final Counter rejectedByCircuit;
+
+    public AiCallGuard(
+        int maxConcurrentCalls,
+        Duration bulkheadWait,
+        CircuitBreaker circuitBreaker,
+        MeterRegistry meterRegistry
+    ) {
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.bulkheadWait = bulkheadWait;
+        this.circuitBreaker = circuitBreaker;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.meterRegistry = meterRegistry;
+
+        this.rejectedByBulkhead = Counter.builder("ai.calls.rejected")
+            .tag("reason", "bulkhead")
+            .register(meterRegistry);
+        this.rejectedByCircuit = Counter.builder("ai.calls.rejected")
+            .tag("reason", "circuit_open")
+            .register(meterRegistry);
+        Gauge.builder("ai.circuit_breaker.state", circuitBreaker, breaker ->
+            switch (breaker.getState()) {
+                case CLOSED -> 0;
+                case OPEN -> 1;
+                case HALF_OPEN -> 2;
+            }
+        ).register(meterRegistry);
+    }
+
+    /**
+     * Indica se o circuito está aberto: chamadas agora seriam recusadas.
+     */
+    public boolean isOpen() {
+        return circuitBreaker.getState() == CircuitBreaker.State.OPEN;
+    }
+
+    public <T> T call(Duration timeout, Supplier<T> call) {
+        acquire();
+
+        long start = System.nanoTime();
+        // A vaga do bulkhead só é devolvida quando a chamada termina de fato
+        Future<T> future = executor.submit(() -> {
+            try {
+                return call.get();
+            } finally {
+                bulkhead.release();
+            }
+        });
+
+        try {
+            T result = future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess();
+            record("success", start);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onFailure();
+            record("timeout", start);
+            throw new ServiceOverloadedException(
+                "Tempo limite da chamada à IA excedido"
+            );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            circuitBreaker.release();
+            throw new ServiceOverloadedException("Operação interrompida");
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure();
+            record("failure", start);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Chamada em streaming: a vaga do bulkhead e a permissão do circuit breaker são
+     * obtidas na inscrição (fora da thread de quem se inscreve) e devolvidas quando o
+     * stream termina, falha ou é cancelado.
+     *
+     * @param idleTimeout tempo máximo sem receber nenhum trecho da resposta
+     */
+    public <T> Flux<T> stream(Duration idleTimeout, Supplier<Flux<T>> call) {
+        return Flux.defer(() -> {
+            acquire();
+
+            Flux<T> response;
+            try {
+                response = call.get();
+            } catch (RuntimeException e) {
+                circuitBreaker.release();
+                bulkhead.release();
+                throw e;
+            }
+
+            long start = System.nanoTime();
+            AtomicBoolean finished = new AtomicBoolean();
+            return response
+                .timeout(idleTimeout)
+                .onErrorMap(TimeoutException.class, e ->
+                    new ServiceOverloadedException(
+                        "Tempo limite da chamada à IA excedido"
+                    )
+                )
+                .doOnComplete(() -> {
+                    finished.set(true);
+                    circuitBreaker.onSuccess();
+                    record("success", start);
+                })
+                .doOnError(e -> {
+                    finished.set(true);
+                    circuitBreaker.onFailure();
+                    record(
+                        e instanceof ServiceOverloadedException
+                            ? "timeout"
+                            : "failure",
+                        start
+                    );
+                })
+                .doFinally(signal -> {
+                    // Cancelado por quem consumia (ex.: cliente desconectou)
+                    if (signal == SignalType.CANCEL && !finished.get()) {
+                        circuitBreaker.release();
+                    }
+                    bulkhead.release();
+                });
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Obtém uma vaga do bulkhead e a permissão do circuit breaker, ou recusa a chamada.
+     */
+    private void acquire() {
+        try {
+            if (!bulkhead.tryAcquire(bulkheadWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                rejectedByBulkhead.increment();
+                throw new ServiceOverloadedException(
+                    "Limite de chamadas simultâneas à IA atingido"
+                );
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Operação interrompida");
+        }
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            rejectedByCircuit.increment();
+            throw new ServiceOverloadedException(
+                "Serviço de IA indisponível no momento"
+            );
+        }
+    }
+
+    private void record(String result, long start) {
+        Timer.builder("ai.calls")
+            .tag("result", result)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry)
+            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
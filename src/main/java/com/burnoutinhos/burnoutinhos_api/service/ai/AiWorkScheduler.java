@@ -0,0 +1,295 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import com.burnoutinhos.burnoutinhos_api.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Fila central dos pedidos à IA, com classes de prioridade e justiça entre usuários.
+ *
+ * No máximo {@code maxInFlight} pedidos ficam em andamento. Uma vaga livre vai sempre
+ * para um pedido {@link Priority#INTERACTIVE} (o usuário acabou de criar o todo) antes
+ * de um {@link Priority#BACKGROUND} (lembretes do scheduler), e os pedidos em segundo
+ * plano nunca ocupam mais que {@code maxBackgroundInFlight} vagas: sobra sempre espaço
+ * para os interativos.
+ *
+ * Dentro de cada classe a fila é justa por usuário (weighted fair queuing, todos com
+ * peso 1): cada pedido recebe a etiqueta {@code max(tempo virtual, última etiqueta do
+ * usuário) + 1} e sai em ordem de etiqueta, então quem enfileira muitos pedidos não
+ * atrasa o primeiro pedido de outro usuário. Com a fila da classe cheia o pedido é
+ * recusado na hora com {@link ServiceOverloadedException}.
+ *
+ * O trabalho de cada pedido apenas inicia a chamada e devolve um future (não deve
+ * bloquear); a vaga é devolvida quando o future completa.
+ *
+ * Métricas: {@code ai.scheduler.queue.depth} (tag priority), {@code ai.scheduler.in_flight},
+ * {@code ai.scheduler.wait} (tempo na fila com percentis, tag priority) e
+ * {@code ai.scheduler.shed} (pedidos recusados, tag priority).
+ */
+public class AiWorkScheduler {
+
+    public enum Priority {
+        INTERACTIVE,
+        BACKGROUND;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private record Task(
+        Priority priority,
+        Long userId,
+        long finishTag,
+        long sequence,
+        long enqueuedNanos,
+        Runnable start
+    ) {}
+
+    private final int maxInFlight;
+    private final int maxBackgroundInFlight;
+    private final Map<Priority, FairQueue> queues = new EnumMap<>(Priority.class);
+    private final Map<Priority, Timer> waits = new EnumMap<>(Priority.class);
+    private final Map<Priority, Counter> shed = new EnumMap<>(Priority.class);
+    private int inFlight;
+    private int backgroundInFlight;
+    private long sequence;
+    private boolean dispatching;
+
+    public AiWorkScheduler(
+        int maxInFlight,
+        int maxBackgroundInFlight,
+        int maxInteractiveQueued,
+        int maxBackgroundQueued,
+        MeterRegistry meterRegistry
+    ) {
+        this.maxInFlight = maxInFlight;
+        this.maxBackgroundInFlight = Math.min(maxBackgroundInFlight, maxInFlight);
+        queues.put(Priority.INTERACTIVE, new FairQueue(maxInteractiveQueued));
+        queues.put(Priority.BACKGROUND, new FairQueue(maxBackgroundQueued));
+
+        for (Priority priority : Priority.values()) {
+            FairQueue queue = queues.get(priority);
+            Gauge.builder("ai.scheduler.queue.depth", this, scheduler ->
+                scheduler.depth(queue)
+            )
+                .tag("priority", priority.tag())
+                .register(meterRegistry);
+            waits.put(
+                priority,
+                Timer.builder("ai.scheduler.wait")
+                    .tag("priority", priority.tag())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)
+            );
+            shed.put(
+                priority,
+                Counter.builder("ai.scheduler.shed")
+                    .tag("priority", priority.tag())
+                    .register(meterRegistry)
+            );
+        }
+        Gauge.builder("ai.scheduler.in_flight", this, AiWorkScheduler::inFlight)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Enfileira um pedido e devolve o future do resultado do trabalho.
+     *
+     * @param userId usuário do pedido ({@code null} conta como um usuário à parte)
+     * @param work inicia o trabalho quando houver vaga; não deve bloquear
+     * @return future que falha com {@link ServiceOverloadedException} se a fila da
+     *     classe estiver cheia
+     */
+    public <T> CompletableFuture<T> submit(
+        Priority priority,
+        Long userId,
+        Supplier<CompletableFuture<T>> work
+    ) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable start = () -> {
+            CompletableFuture<T> running;
+            try {
+                running = work.get();
+            } catch (RuntimeException e) {
+                running = CompletableFuture.failedFuture(e);
+            }
+            running.whenComplete((value, error) -> {
+                finished(priority);
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        };
+
+        boolean queued;
+        synchronized (this) {
+            queued = queues
+                .get(priority)
+                .offer(priority, userId, ++sequence, System.nanoTime(), start);
+        }
+        if (!queued) {
+            shed.get(priority).increment();
+            result.completeExceptionally(
+                new ServiceOverloadedException(
+                    "Fila de pedidos à IA cheia; tente novamente em instantes"
+                )
+            );
+            return result;
+        }
+
+        dispatch();
+        return result;
+    }
+
+    /**
+     * Inicia os pedidos que cabem nas vagas livres, fora do lock. Só uma thread por vez
+     * executa o laço; quem chega enquanto ele roda apenas retorna, e o laço relê o
+     * estado antes de terminar (evita recursão quando um trabalho completa na hora).
+     */
+    private void dispatch() {
+        synchronized (this) {
+            if (dispatching) {
+                return;
+            }
+            dispatching = true;
+        }
+
+        while (true) {
+            List<Task> ready = new ArrayList<>();
+            synchronized (this) {
+                while (inFlight < maxInFlight) {
+                    Task next = queues.get(Priority.INTERACTIVE).poll();
+                    if (
+                        next == null &&
+                        backgroundInFlight < maxBackgroundInFlight
+                    ) {
+                        next = queues.get(Priority.BACKGROUND).poll();
+                    }
+                    if (next == null) {
+                        break;
+                    }
+                    inFlight++;
+                    if (next.priority() == Priority.BACKGROUND) {
+                        backgroundInFlight++;
+                    }
+                    ready.add(next);
+                }
+                if (ready.isEmpty()) {
+                    dispatching = false;
+                    return;
+                }
+            }
+
+            for (Task task : ready) {
+                waits
+                    .get(task.priority())
+                    .record(
+                        System.nanoTime() - task.enqueuedNanos(),
+                        TimeUnit.NANOSECONDS
+                    );
+                task.start().run();
+            }
+        }
+    }
+
+    private void finished(Priority priority) {
+        synchronized (this) {
+            inFlight--;
+            if (priority == Priority.BACKGROUND) {
+                backgroundInFlight--;
+            }
+        }
+        dispatch();
+    }
+
+    private synchronized int depth(FairQueue queue) {
+        return queue.size();
+    }
+
+    private synchronized int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Fila de uma classe, ordenada pela etiqueta de término de cada pedido. Não é
+     * thread-safe: acessada sob o lock do scheduler.
+     */
+    private static final class FairQueue {
+
+        private final int capacity;
+        private final PriorityQueue<Task> tasks = new PriorityQueue<>(
+            Comparator.comparingLong(Task::finishTag).thenComparingLong(
+                Task::sequence
+            )
+        );
+        // Última etiqueta de cada usuário com pedidos na fila
+        private final Map<Long, Long> lastFinish = new HashMap<>();
+        private long virtualTime;
+
+        private FairQueue(int capacity) {
+            this.capacity = capacity;
+        }
+
+        boolean offer(
+            Priority priority,
+            Long userId,
+            long sequence,
+            long enqueuedNanos,
+            Runnable start
+        ) {
+            if (tasks.size() >= capacity) {
+                return false;
+            }
+
+            long startTag = Math.max(
+                virtualTime,
+                lastFinish.getOrDefault(userId, 0L)
+            );
+            long finishTag = startTag + 1;
+            lastFinish.put(userId, finishTag);
+            tasks.add(
+                new Task(
+                    priority,
+                    userId,
+                    finishTag,
+                    sequence,
+                    enqueuedNanos,
+                    start
+                )
+            );
+            return true;
+        }
+
+        Task poll() {
+            Task next = tasks.poll();
+            if (next == null) {
+                return null;
+            }
+
+            virtualTime = Math.max(virtualTime, next.finishTag() - 1);
+            // Era o último pedido do usuário na fila
+            lastFinish.remove(next.userId(), next.finishTag());
+            return next;
+        }
+
+        int size() {
+            return tasks.size();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker por taxa de falhas numa janela das últimas chamadas.
+ *
+ * Fechado, registra o resultado das últimas {@code windowSize} chamadas; com pelo menos
+ * {@code minimumCalls} registradas e taxa de falhas de {@code failureRatePercent}% ou
+ * mais, abre. Aberto, recusa tudo por {@code openDuration}; depois passa a meio-aberto e
+ * libera uma única chamada de teste: sucesso fecha o circuito (janela zerada), falha
+ * abre de novo.
+ *
+ * Quem recebe permissão ({@link #tryAcquirePermission()}) deve sempre reportar o
+ * resultado com {@link #onSuccess()} ou {@link #onFailure()}.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN,
+    }
+
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final int failureRatePercent;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int failures;
+    private int next;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(
+        int windowSize,
+        int minimumCalls,
+        int failureRatePercent,
+        Duration openDuration
+    ) {
+        this(
+            windowSize,
+            minimumCalls,
+            failureRatePercent,
+            openDuration,
+            System::nanoTime
+        );
+    }
+
+    CircuitBreaker(
+        int windowSize,
+        int minimumCalls,
+        int failureRatePercent,
+        Duration openDuration,
+        LongSupplier nanoClock
+    ) {
+        this.window = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRatePercent = failureRatePercent;
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        switch (currentState()) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (
+                recorded >= minimumCalls &&
+                failures * 100 >= failureRatePercent * recorded
+            ) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * Devolve a permissão de uma chamada que não chegou a ser feita.
+     */
+    public synchronized void release() {
+        trialInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return currentState();
+    }
+
+    private State currentState() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == window.length) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+        trialInFlight = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recorded = 0;
+        failures = 0;
+        next = 0;
+        trialInFlight = false;
+    }
+}
@@ -0,0 +1,117 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Agrupa pedidos individuais em lotes: um lote é despachado quando junta
+ * {@code maxSize} itens ou quando o primeiro item completa {@code maxWait} de espera,
+ * o que vier primeiro.
+ *
+ * O {@code handler} recebe os itens do lote e devolve um resultado por item, na mesma
+ * ordem; cada resultado completa o future de quem pediu. Os lotes rodam em virtual
+ * threads, então vários podem estar em andamento ao mesmo tempo.
+ */
+public class MicroBatcher<T, R> implements AutoCloseable {
+
+    private record Pending<T, R>(T item, CompletableFuture<R> future) {}
+
+    private final int maxSize;
+    private final Duration maxWait;
+    private final Function<List<T>, List<R>> handler;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService workers;
+
+    private List<Pending<T, R>> pending = new ArrayList<>();
+    private ScheduledFuture<?> flushTask;
+
+    public MicroBatcher(
+        String name,
+        int maxSize,
+        Duration maxWait,
+        Function<List<T>, List<R>> handler
+    ) {
+        this.maxSize = maxSize;
+        this.maxWait = maxWait;
+        this.handler = handler;
+        this.workers = Executors.newVirtualThreadPerTaskExecutor();
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public CompletableFuture<R> submit(T item) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        List<Pending<T, R>> full = null;
+
+        synchronized (this) {
+            pending.add(new Pending<>(item, future));
+            if (pending.size() >= maxSize) {
+                full = drain();
+            } else if (pending.size() == 1) {
+                flushTask = timer.schedule(
+                    this::flush,
+                    maxWait.toNanos(),
+                    TimeUnit.NANOSECONDS
+                );
+            }
+        }
+
+        if (full != null) {
+            dispatch(full);
+        }
+        return future;
+    }
+
+    @Override
+    public void close() {
+        flush();
+        timer.shutdownNow();
+        workers.shutdown();
+    }
+
+    private void flush() {
+        List<Pending<T, R>> batch;
+        synchronized (this) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private List<Pending<T, R>> drain() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        List<Pending<T, R>> batch = pending;
+        pending = new ArrayList<>();
+        return batch;
+    }
+
+    private void dispatch(List<Pending<T, R>> batch) {
+        workers.submit(() -> {
+            try {
+                List<R> results = handler.apply(
+                    batch.stream().map(Pending::item).toList()
+                );
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).future().complete(results.get(i));
+                }
+            } catch (Throwable e) {
+                batch.forEach(p -> p.future().completeExceptionally(e));
+            }
+        });
+    }
+}
@@ -0,0 +1,243 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Índice de similaridade de textos curtos (nome e descrição de todos) por MinHash com
+ * LSH, em memória.
+ *
+ * Cada texto é normalizado (minúsculas, sem acentos nem pontuação, sem palavras de
+ * preenchimento como "hoje") e vira um conjunto de palavras e trigramas de caracteres
+ * de cada palavra. A assinatura MinHash de {@value #HASHES} valores estima a
+ * similaridade de Jaccard entre dois conjuntos; ela é dividida em {@value #BANDS}
+ * faixas e só entradas que coincidem em alguma faixa são comparadas, então a busca
+ * não percorre o índice inteiro.
+ *
+ * As entradas pertencem a um grupo (ex: o tipo do todo) e só são comparadas dentro
+ * dele. O índice guarda no máximo {@code maxEntries} entradas, descartando a menos
+ * usada. Os métodos são sincronizados.
+ */
+public class MinHashIndex {
+
+    static final int HASHES = 64;
+    static final int BANDS = 16;
+    private static final int ROWS = HASHES / BANDS;
+    private static final int NGRAM = 3;
+
+    private static final Set<String> FILLER_WORDS = Set.of(
+        "a",
+        "o",
+        "as",
+        "os",
+        "e",
+        "de",
+        "da",
+        "do",
+        "das",
+        "dos",
+        "em",
+        "no",
+        "na",
+        "um",
+        "uma",
+        "para",
+        "pra",
+        "com",
+        "hoje",
+        "amanha"
+    );
+
+    /**
+     * Entrada mais parecida encontrada e a similaridade de Jaccard estimada.
+     */
+    public record Match(String value, double similarity) {}
+
+    private record Entry(String key, String group, int[] signature, String value) {}
+
+    private final double threshold;
+    private final long[] seedsA = new long[HASHES];
+    private final long[] seedsB = new long[HASHES];
+    private final Map<String, Entry> entries;
+    private final Map<Long, Set<Entry>> buckets = new HashMap<>();
+
+    public MinHashIndex(double threshold, int maxEntries) {
+        this.threshold = threshold;
+
+        // Semente fixa: as assinaturas são estáveis entre execuções
+        Random random = new Random(0x5EED);
+        for (int i = 0; i < HASHES; i++) {
+            seedsA[i] = random.nextLong() | 1;
+            seedsB[i] = random.nextLong();
+        }
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxEntries) {
+                    unindex(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Adiciona (ou substitui) o valor associado ao texto no grupo.
+     */
+    public synchronized void put(String group, String text, String value) {
+        int[] signature = signature(text);
+        if (signature == null) {
+            return;
+        }
+
+        String key = group + '\u0000' + normalize(text);
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            unindex(previous);
+        }
+
+        Entry entry = new Entry(key, group, signature, value);
+        entries.put(key, entry);
+        for (int band = 0; band < BANDS; band++) {
+            buckets
+                .computeIfAbsent(bandKey(group, signature, band), k -> new HashSet<>())
+                .add(entry);
+        }
+    }
+
+    /**
+     * Busca, no grupo, o valor do texto mais parecido com similaridade estimada de
+     * pelo menos {@code threshold}.
+     */
+    public synchronized Optional<Match> findSimilar(String group, String text) {
+        int[] signature = signature(text);
+        if (signature == null) {
+            return Optional.empty();
+        }
+
+        Set<Entry> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            Set<Entry> bucket = buckets.get(bandKey(group, signature, band));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+
+        Entry best = null;
+        double bestSimilarity = threshold;
+        for (Entry entry : candidates) {
+            double similarity = similarity(signature, entry.signature());
+            if (similarity >= bestSimilarity) {
+                best = entry;
+                bestSimilarity = similarity;
+            }
+        }
+        if (best == null) {
+            return Optional.empty();
+        }
+        entries.get(best.key()); // renova a entrada no LRU
+        return Optional.of(new Match(best.value(), bestSimilarity));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    static String normalize(String text) {
+        String plain = Normalizer.normalize(text, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "")
+            .toLowerCase(Locale.ROOT)
+            .replaceAll("[^a-z0-9]+", " ")
+            .trim();
+
+        List<String> words = new ArrayList<>();
+        for (String word : plain.split(" ")) {
+            if (!word.isEmpty() && !FILLER_WORDS.contains(word)) {
+                words.add(word);
+            }
+        }
+        return String.join(" ", words);
+    }
+
+    private int[] signature(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+
+        Set<String> shingles = new HashSet<>();
+        for (String word : normalized.split(" ")) {
+            shingles.add(word);
+            String padded = " " + word + " ";
+            for (int i = 0; i + NGRAM <= padded.length(); i++) {
+                shingles.add("#" + padded.substring(i, i + NGRAM));
+            }
+        }
+
+        int[] signature = new int[HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String shingle : shingles) {
+            long x = mix(shingle.hashCode());
+            for (int i = 0; i < HASHES; i++) {
+                int h = (int) ((seedsA[i] * x + seedsB[i]) >>> 33);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / HASHES;
+    }
+
+    private long bandKey(String group, int[] signature, int band) {
+        long key = group.hashCode() * 31L + band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[i];
+        }
+        return key;
+    }
+
+    private void unindex(Entry entry) {
+        for (int band = 0; band < BANDS; band++) {
+            long bandKey = bandKey(entry.group(), entry.signature(), band);
+            Set<Entry> bucket = buckets.get(bandKey);
+            if (bucket != null) {
+                bucket.remove(entry);
+                if (bucket.isEmpty()) {
+                    buckets.remove(bandKey);
+                }
+            }
+        }
+    }
+
+    // Finalizador do MurmurHash3: espalha os bits do hashCode da String
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb3f99ae0e23bL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
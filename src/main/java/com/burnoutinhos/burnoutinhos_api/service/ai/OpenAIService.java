@@ -1,78 +1,622 @@
 package com.burnoutinhos.burnoutinhos_api.service.ai;
 
+import com.burnoutinhos.burnoutinhos_api.exceptions.ServiceOverloadedException;
 import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoEventDTO;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 /**
  * Serviço para integração com OpenAI usando Spring AI.
+ *
+ * Prompts já respondidos são atendidos pelo {@link SuggestionCache} e todos quase
+ * iguais a outros já respondidos pelo {@link SuggestionSimilarityService}, sem chamar
+ * a API.
+ *
+ * Os demais pedidos passam por um {@link MicroBatcher}: pedidos que chegam juntos (até
+ * {@code ai.batch.max-size} ou {@code ai.batch.max-wait}) viram um único prompt que pede
+ * um array JSON com uma sugestão por tarefa, identificada pelo número da tarefa. Cada
+ * tarefa sem sugestão na resposta (ou com a resposta ilegível) é pedida individualmente.
+ *
+ * A API é assíncrona ({@link #generateSuggestionAsync}): nenhuma thread de quem chama
+ * fica presa esperando a OpenAI. Os pedidos que vão à API passam antes pelo
+ * {@link AiWorkScheduler}, que atende os interativos antes dos de segundo plano e
+ * reveza entre os usuários. Toda chamada passa pelo {@link AiCallGuard} (timeout,
+ * bulkhead e circuit breaker); com o circuito aberto a sugestão padrão é devolvida na
+ * hora, sem enfileirar o pedido.
+ *
+ * {@link #streamSuggestion} entrega a sugestão em trechos, à medida que o modelo gera o
+ * texto, sem passar pelos micro-lotes nem pelo {@link AiWorkScheduler}: o stream vai
+ * direto ao {@link AiCallGuard} e ocupa uma vaga do bulkhead até terminar, sem
+ * prioridade nem justiça entre usuários. Com o bulkhead cheio (streams mais pedidos da
+ * fila) o stream é recusado após {@code bulkhead-wait}.
+ *
+ * Os tokens de cada chamada (lidos dos metadados da resposta) são contabilizados no
+ * {@link TokenBudget}. Cada pedido que vai à API reserva antes a estimativa do seu gasto
+ * na cota, devolvida quando ele termina (inclusive descartado ou com falha). Sem cota
+ * do usuário ou global na hora, o pedido recebe a {@link #BUDGET_EXCEEDED_SUGGESTION}
+ * sem chamar a API (sugestões em cache e de todos parecidos continuam sendo servidas).
  */
 @Service
 @Slf4j
 public class OpenAIService {
 
-    private final ChatClient chatClient;
     private static final int MAX_SUGGESTION_LENGTH = 1500;
 
+    public static final String FALLBACK_SUGGESTION =
+        "Não foi possível gerar uma sugestão no momento. Por favor, tente novamente mais tarde.";
+
+    public static final String BUDGET_EXCEEDED_SUGGESTION =
+        "Divida a tarefa em passos pequenos e comece pelo mais simples: concluir o primeiro passo ajuda a manter o ritmo.";
+
+    /**
+     * Textos padrão devolvidos sem a IA: são gravados como sugestão do todo, mas nunca
+     * reaproveitados para outros todos.
+     */
+    public static final Set<String> CANNED_SUGGESTIONS = Set.of(
+        FALLBACK_SUGGESTION,
+        BUDGET_EXCEEDED_SUGGESTION
+    );
+
+    private final ChatClient chatClient;
+    private final SuggestionCache suggestionCache;
+    private final SuggestionSimilarityService similarityService;
+    private final ObjectMapper objectMapper;
+    private final AiCallGuard callGuard;
+    private final TokenBudget tokenBudget;
+    private final AiWorkScheduler workScheduler;
+    private final ExecutorService executor;
+    private final DistributionSummary batchSizes;
+    private final Counter batchFallbacks;
+
+    @Value("${ai.batch.enabled:true}")
+    private boolean batchEnabled;
+
+    @Value("${ai.batch.max-size:10}")
+    private int batchMaxSize;
+
+    @Value("${ai.batch.max-wait:PT0.1S}")
+    private Duration batchMaxWait;
+
+    @Value("${ai.resilience.call-timeout:PT15S}")
+    private Duration callTimeout;
+
+    // Um lote gera várias sugestões na mesma resposta: precisa de mais tempo
+    @Value("${ai.resilience.batch-call-timeout:PT45S}")
+    private Duration batchCallTimeout;
+
+    private MicroBatcher<TodoEventDTO, String> batcher;
+
     @Autowired
-    public OpenAIService(ChatClient.Builder chatClientBuilder) {
+    public OpenAIService(
+        ChatClient.Builder chatClientBuilder,
+        SuggestionCache suggestionCache,
+        SuggestionSimilarityService similarityService,
+        ObjectMapper objectMapper,
+        AiCallGuard callGuard,
+        TokenBudget tokenBudget,
+        AiWorkScheduler workScheduler,
+        MeterRegistry meterRegistry
+    ) {
         this.chatClient = chatClientBuilder
             .defaultOptions(
                 OpenAiChatOptions.builder()
-                    .withMaxTokens(150) // Limita tokens da resposta
+                    .withMaxTokens(tokenBudget.getMaxCompletionTokens()) // Limita tokens da resposta
                     .build()
             )
             .build();
+        this.suggestionCache = suggestionCache;
+        this.similarityService = similarityService;
+        this.objectMapper = objectMapper;
+        this.callGuard = callGuard;
+        this.tokenBudget = tokenBudget;
+        this.workScheduler = workScheduler;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.batchSizes = DistributionSummary.builder("ai.batch.size").register(
+            meterRegistry
+        );
+        this.batchFallbacks = Counter.builder("ai.batch.fallbacks").register(
+            meterRegistry
+        );
+    }
+
+    @PostConstruct
+    void start() {
+        if (batchEnabled) {
+            batcher = new MicroBatcher<>(
+                "ai-suggestion",
+                batchMaxSize,
+                batchMaxWait,
+                this::generateBatch
+            );
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+        executor.shutdown();
     }
 
     /**
-     * Gera uma sugestão baseada em um Todo usando OpenAI.
+     * Gera uma sugestão baseada em um Todo usando OpenAI, bloqueando até a resposta
+     * (limitada pelos timeouts das chamadas). Pedido interativo.
      *
      * @param todo DTO do todo para gerar sugestão
      * @return Texto da sugestão gerada pela IA
      */
     public String generateSuggestionForTodo(TodoEventDTO todo) {
+        return generateSuggestionForTodo(
+            todo,
+            AiWorkScheduler.Priority.INTERACTIVE
+        );
+    }
+
+    /**
+     * Como {@link #generateSuggestionForTodo(TodoEventDTO)}, com a prioridade informada.
+     */
+    public String generateSuggestionForTodo(
+        TodoEventDTO todo,
+        AiWorkScheduler.Priority priority
+    ) {
+        return generateSuggestionAsync(todo, priority).join();
+    }
+
+    /**
+     * Gera uma sugestão baseada em um Todo usando OpenAI, sem bloquear. Pedido
+     * interativo.
+     *
+     * @param todo DTO do todo para gerar sugestão
+     * @return future com o texto da sugestão; nunca completa com erro (falhas viram a
+     *     sugestão padrão)
+     */
+    public CompletableFuture<String> generateSuggestionAsync(TodoEventDTO todo) {
+        return generateSuggestionAsync(todo, AiWorkScheduler.Priority.INTERACTIVE);
+    }
+
+    /**
+     * Como {@link #generateSuggestionAsync(TodoEventDTO)}, com a prioridade informada
+     * na fila do {@link AiWorkScheduler}.
+     */
+    public CompletableFuture<String> generateSuggestionAsync(
+        TodoEventDTO todo,
+        AiWorkScheduler.Priority priority
+    ) {
         log.info("Gerando sugestão de IA para todo: {}", todo.getName());
 
         String prompt = buildPrompt(todo);
+        Optional<String> cached = suggestionCache.get(prompt);
+        if (cached.isPresent()) {
+            log.info("Sugestão em cache para todo ID: {}", todo.getId());
+            return CompletableFuture.completedFuture(cached.get());
+        }
 
-        try {
-            String suggestion = chatClient
-                .prompt()
-                .user(prompt)
-                .call()
-                .content();
-
-            // Garante que não excede o tamanho máximo
-            if (
-                suggestion != null &&
-                suggestion.length() > MAX_SUGGESTION_LENGTH
-            ) {
-                log.warn(
-                    "Sugestão muito longa ({}), truncando para {} caracteres",
-                    suggestion.length(),
-                    MAX_SUGGESTION_LENGTH
-                );
-                suggestion =
-                    suggestion.substring(0, MAX_SUGGESTION_LENGTH - 3) + "...";
+        Optional<String> similar = similarityService.findSimilar(todo);
+        if (similar.isPresent()) {
+            suggestionCache.put(prompt, similar.get());
+            return CompletableFuture.completedFuture(similar.get());
+        }
+
+        TokenBudget.Reservation reservation = tokenBudget
+            .tryAcquire(todo.getUserId(), TokenBudget.estimateTokens(prompt))
+            .orElse(null);
+        if (reservation == null) {
+            return CompletableFuture.completedFuture(BUDGET_EXCEEDED_SUGGESTION);
+        }
+
+        if (callGuard.isOpen()) {
+            tokenBudget.release(reservation);
+            log.warn(
+                "Circuito da OpenAI aberto: sugestão padrão para todo ID: {}",
+                todo.getId()
+            );
+            return CompletableFuture.completedFuture(FALLBACK_SUGGESTION);
+        }
+
+        CompletableFuture<String> pending = workScheduler.submit(
+            priority,
+            todo.getUserId(),
+            () ->
+                batcher != null
+                    ? batcher.submit(todo)
+                    : CompletableFuture.supplyAsync(
+                        () -> generateSingle(todo),
+                        executor
+                    )
+        );
+        return pending.handle((suggestion, error) -> {
+            // O gasto real já foi registrado pela chamada (se houve)
+            tokenBudget.release(reservation);
+            if (error != null || suggestion == null) {
+                Throwable cause = error instanceof CompletionException
+                    ? error.getCause()
+                    : error;
+                if (cause instanceof ServiceOverloadedException) {
+                    log.warn(
+                        "Sugestão do todo ID {} não gerada: {}",
+                        todo.getId(),
+                        cause.getMessage()
+                    );
+                } else if (cause != null) {
+                    log.error(
+                        "❌ Erro ao gerar sugestão com OpenAI: {}",
+                        cause.getMessage(),
+                        cause
+                    );
+                }
+                return FALLBACK_SUGGESTION;
             }
 
             log.info(
                 "✅ Sugestão gerada com sucesso para todo ID: {}",
                 todo.getId()
             );
+            suggestionCache.put(prompt, suggestion);
+            similarityService.add(todo, suggestion);
             return suggestion;
+        });
+    }
+
+    /**
+     * Gera uma sugestão em streaming: cada elemento é um trecho do texto, na ordem em que
+     * o modelo o gera. Não passa pelo {@link AiWorkScheduler} (ver a documentação da
+     * classe). Sugestões em cache ou de todos parecidos vêm num único trecho. O
+     * texto completo é limitado ao tamanho máximo de uma sugestão e, ao terminar, entra
+     * no cache e no índice de similaridade.
+     *
+     * @return trechos da sugestão; falha com {@link ServiceOverloadedException} se o
+     *     circuito estiver aberto ou a chamada for recusada
+     */
+    public Flux<String> streamSuggestion(TodoEventDTO todo) {
+        String prompt = buildPrompt(todo);
+        Optional<String> cached = suggestionCache.get(prompt);
+        if (cached.isPresent()) {
+            return Flux.just(cached.get());
+        }
+
+        Optional<String> similar = similarityService.findSimilar(todo);
+        if (similar.isPresent()) {
+            suggestionCache.put(prompt, similar.get());
+            return Flux.just(similar.get());
+        }
+
+        return Flux.defer(() -> {
+            // Reservada só na assinatura, para ser devolvida no doFinally
+            TokenBudget.Reservation reservation = tokenBudget
+                .tryAcquire(todo.getUserId(), TokenBudget.estimateTokens(prompt))
+                .orElse(null);
+            if (reservation == null) {
+                return Flux.just(BUDGET_EXCEEDED_SUGGESTION);
+            }
+
+            StringBuilder text = new StringBuilder();
+            AtomicReference<Usage> usage = new AtomicReference<>();
+            return callGuard
+                .stream(callTimeout, () ->
+                    chatClient
+                        .prompt()
+                        .user(prompt)
+                        .options(maxTokens(todo.getUserId()))
+                        .stream()
+                        .chatResponse()
+                        .<String>handle((response, sink) -> {
+                            // A contagem, quando enviada, vem num dos últimos trechos
+                            if (hasUsage(response)) {
+                                usage.set(response.getMetadata().getUsage());
+                            }
+                            String chunk = content(response);
+                            if (chunk == null) {
+                                return;
+                            }
+                            int room = MAX_SUGGESTION_LENGTH - text.length();
+                            String piece = chunk.length() > room
+                                ? chunk.substring(0, room)
+                                : chunk;
+                            text.append(piece);
+                            if (!piece.isEmpty()) {
+                                sink.next(piece);
+                            }
+                            if (text.length() >= MAX_SUGGESTION_LENGTH) {
+                                sink.complete();
+                            }
+                        })
+                )
+                .doFinally(signal -> {
+                    // Sem nenhum trecho o prompt pode nem ter sido enviado (chamada recusada)
+                    if (usage.get() != null || !text.isEmpty()) {
+                        recordUsage(
+                            List.of(todo),
+                            prompt,
+                            usage.get(),
+                            text.toString()
+                        );
+                    }
+                    tokenBudget.release(reservation);
+                })
+                .doOnComplete(() -> {
+                    if (!text.isEmpty()) {
+                        suggestionCache.put(prompt, text.toString());
+                        similarityService.add(todo, text.toString());
+                    }
+                });
+        });
+    }
+
+    /**
+     * Gera as sugestões de um lote numa única chamada. Itens sem sugestão válida na
+     * resposta são pedidos individualmente; itens que falharem ficam {@code null}.
+     */
+    private List<String> generateBatch(List<TodoEventDTO> todos) {
+        batchSizes.record(todos.size());
+        if (todos.size() == 1) {
+            return Collections.singletonList(generateSingle(todos.get(0)));
+        }
+
+        List<String> answers;
+        try {
+            answers = parseBatch(callBatch(todos), todos.size());
+        } catch (ServiceOverloadedException e) {
+            log.warn(
+                "Lote de {} sugestões não enviado à OpenAI: {}",
+                todos.size(),
+                e.getMessage()
+            );
+            return Collections.nCopies(todos.size(), null);
+        } catch (Exception e) {
+            // Falha da chamada (não da resposta): pedir item a item falharia igual
+            log.error(
+                "❌ Erro ao gerar lote de {} sugestões com OpenAI: {}",
+                todos.size(),
+                e.getMessage(),
+                e
+            );
+            return Collections.nCopies(todos.size(), null);
+        }
+
+        List<CompletableFuture<String>> results = new ArrayList<>(todos.size());
+        for (int i = 0; i < todos.size(); i++) {
+            String answer = answers != null ? answers.get(i) : null;
+            if (answer != null && !answer.isBlank()) {
+                results.add(CompletableFuture.completedFuture(truncate(answer)));
+            } else {
+                batchFallbacks.increment();
+                TodoEventDTO todo = todos.get(i);
+                results.add(
+                    CompletableFuture.supplyAsync(
+                        () -> generateSingle(todo),
+                        executor
+                    )
+                );
+            }
+        }
+        return results.stream().map(CompletableFuture::join).toList();
+    }
+
+    private String generateSingle(TodoEventDTO todo) {
+        try {
+            return truncate(callSingle(todo));
+        } catch (ServiceOverloadedException e) {
+            log.warn(
+                "Sugestão do todo ID {} não enviada à OpenAI: {}",
+                todo.getId(),
+                e.getMessage()
+            );
+            return null;
         } catch (Exception e) {
             log.error(
                 "❌ Erro ao gerar sugestão com OpenAI: {}",
                 e.getMessage(),
                 e
             );
-            return "Não foi possível gerar uma sugestão no momento. Por favor, tente novamente mais tarde.";
+            return null;
+        }
+    }
+
+    private String callSingle(TodoEventDTO todo) {
+        String prompt = buildPrompt(todo);
+        ChatResponse response = callGuard.call(callTimeout, () ->
+            chatClient
+                .prompt()
+                .user(prompt)
+                .options(maxTokens(todo.getUserId()))
+                .call()
+                .chatResponse()
+        );
+        String content = content(response);
+        recordUsage(List.of(todo), prompt, usage(response), content);
+        return content;
+    }
+
+    private String callBatch(List<TodoEventDTO> todos) {
+        String prompt = buildBatchPrompt(todos);
+        int maxTokens = todos
+            .stream()
+            .mapToInt(todo -> tokenBudget.maxCompletionTokens(todo.getUserId()))
+            .sum();
+        ChatResponse response = callGuard.call(batchCallTimeout, () ->
+            chatClient
+                .prompt()
+                .user(prompt)
+                .options(OpenAiChatOptions.builder().withMaxTokens(maxTokens).build())
+                .call()
+                .chatResponse()
+        );
+        String content = content(response);
+        recordUsage(todos, prompt, usage(response), content);
+        return content;
+    }
+
+    private OpenAiChatOptions maxTokens(Long userId) {
+        return OpenAiChatOptions.builder()
+            .withMaxTokens(tokenBudget.maxCompletionTokens(userId))
+            .build();
+    }
+
+    /**
+     * Registra os tokens da chamada no {@link TokenBudget}, estimando a partir do texto
+     * quando a resposta não traz a contagem. Num lote, o gasto é dividido igualmente
+     * entre as tarefas.
+     */
+    private void recordUsage(
+        List<TodoEventDTO> todos,
+        String prompt,
+        Usage usage,
+        String completion
+    ) {
+        long promptTokens = usage != null && positive(usage.getPromptTokens())
+            ? usage.getPromptTokens()
+            : TokenBudget.estimateTokens(prompt);
+        long completionTokens =
+            usage != null && positive(usage.getGenerationTokens())
+                ? usage.getGenerationTokens()
+                : TokenBudget.estimateTokens(completion);
+
+        int count = todos.size();
+        for (int i = 0; i < count; i++) {
+            tokenBudget.record(
+                todos.get(i).getUserId(),
+                share(promptTokens, count, i),
+                share(completionTokens, count, i)
+            );
+        }
+    }
+
+    private static long share(long total, int count, int index) {
+        return total / count + (index < total % count ? 1 : 0);
+    }
+
+    private static boolean positive(Long tokens) {
+        return tokens != null && tokens > 0;
+    }
+
+    private static Usage usage(ChatResponse response) {
+        return hasUsage(response) ? response.getMetadata().getUsage() : null;
+    }
+
+    private static boolean hasUsage(ChatResponse response) {
+        return (
+            response != null &&
+            response.getMetadata() != null &&
+            response.getMetadata().getUsage() != null &&
+            positive(response.getMetadata().getUsage().getTotalTokens())
+        );
+    }
+
+    private static String content(ChatResponse response) {
+        if (response == null || response.getResult() == null) {
+            return null;
+        }
+        return response.getResult().getOutput().getContent();
+    }
+
+    /**
+     * Lê o array JSON da resposta do lote, em que cada item traz o número da tarefa
+     * ({@code i}) e a sugestão ({@code s}). As sugestões são associadas às tarefas pelo
+     * número, não pela posição no array: um número fora da faixa é ignorado, e uma
+     * tarefa sem sugestão ou com mais de uma fica sem resposta (é pedida
+     * individualmente), para que uma tarefa nunca receba a sugestão de outra.
+     *
+     * @return uma sugestão por tarefa ({@code null} nas que ficaram sem resposta), ou
+     *     {@code null} se a resposta não tiver o formato esperado
+     */
+    private List<String> parseBatch(String content, int expected) {
+        if (content == null) {
+            return null;
+        }
+
+        // O modelo às vezes envolve o JSON em bloco de código ou texto
+        int start = content.indexOf('[');
+        int end = content.lastIndexOf(']');
+        if (start < 0 || end < start) {
+            log.warn("Resposta do lote sem array JSON; gerando item a item");
+            return null;
+        }
+
+        List<BatchAnswer> items;
+        try {
+            items = objectMapper.readValue(
+                content.substring(start, end + 1),
+                new TypeReference<List<BatchAnswer>>() {}
+            );
+        } catch (Exception e) {
+            log.warn(
+                "Resposta do lote não é um array JSON de sugestões numeradas: {}",
+                e.getMessage()
+            );
+            return null;
+        }
+
+        String[] answers = new String[expected];
+        boolean[] seen = new boolean[expected];
+        for (BatchAnswer item : items) {
+            if (item == null || item.i() == null) {
+                continue;
+            }
+            int index = item.i() - 1;
+            if (index < 0 || index >= expected) {
+                log.warn("Resposta do lote cita a tarefa inexistente {}", item.i());
+                continue;
+            }
+            // Duas sugestões para a mesma tarefa: não dá para saber qual é a certa
+            answers[index] = seen[index] ? null : item.s();
+            seen[index] = true;
+        }
+
+        long missing = Arrays.stream(answers)
+            .filter(answer -> answer == null || answer.isBlank())
+            .count();
+        if (missing > 0) {
+            log.warn(
+                "Resposta do lote sem sugestão válida para {} de {} tarefas; gerando essas item a item",
+                missing,
+                expected
+            );
+        }
+        return Arrays.asList(answers);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record BatchAnswer(Integer i, String s) {}
+
+    private String truncate(String suggestion) {
+        // Garante que não excede o tamanho máximo
+        if (suggestion != null && suggestion.length() > MAX_SUGGESTION_LENGTH) {
+            log.warn(
+                "Sugestão muito longa ({}), truncando para {} caracteres",
+                suggestion.length(),
+                MAX_SUGGESTION_LENGTH
+            );
+            return suggestion.substring(0, MAX_SUGGESTION_LENGTH - 3) + "...";
         }
+        return suggestion;
     }
 
     private String buildPrompt(TodoEventDTO todo) {
@@ -85,10 +629,46 @@ public class OpenAIService {
                 "Tipo: %s\n\n" +
                 "Responda de forma concisa e motivadora.",
             todo.getName(),
-            todo.getDescription() != null
-                ? todo.getDescription()
-                : "Sem descrição",
-            todo.getType() != null ? todo.getType() : "Não especificado"
+            description(todo),
+            type(todo)
+        );
+    }
+
+    private String buildBatchPrompt(List<TodoEventDTO> todos) {
+        StringBuilder tasks = new StringBuilder();
+        for (int i = 0; i < todos.size(); i++) {
+            TodoEventDTO todo = todos.get(i);
+            tasks.append(
+                String.format(
+                    "%d. Tarefa: %s | Descrição: %s | Tipo: %s\n",
+                    i + 1,
+                    todo.getName(),
+                    description(todo),
+                    type(todo)
+                )
+            );
+        }
+
+        return String.format(
+            "Você é um assistente especializado em produtividade. " +
+                "Para cada uma das %d tarefas abaixo, forneça uma sugestão prática (máximo de dois parágrafos e 3 frases) " +
+                "para ajudar a pessoa a completá-la, de forma concisa e motivadora:\n\n" +
+                "%s\n" +
+                "Responda somente com um array JSON de %d objetos, um por tarefa, no formato " +
+                "[{\"i\": <número da tarefa>, \"s\": \"<sugestão>\"}], sem nenhum texto fora do array.",
+            todos.size(),
+            tasks,
+            todos.size()
         );
     }
+
+    private static String description(TodoEventDTO todo) {
+        return todo.getDescription() != null
+            ? todo.getDescription()
+            : "Sem descrição";
+    }
+
+    private static Object type(TodoEventDTO todo) {
+        return todo.getType() != null ? todo.getType() : "Não especificado";
+    }
 }
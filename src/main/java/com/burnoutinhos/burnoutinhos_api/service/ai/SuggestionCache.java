@@ -0,0 +1,153 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import com.burnoutinhos.burnoutinhos_api.model.AiSuggestionCacheEntry;
+import com.burnoutinhos.burnoutinhos_api.repository.AiSuggestionCacheRepository;
+import com.burnoutinhos.burnoutinhos_api.service.scheduler.SchedulerLeaseService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache de sugestões de IA endereçado pelo conteúdo do prompt: prompts idênticos
+ * (mesmo nome, descrição e tipo de todo) reaproveitam a sugestão já gerada.
+ *
+ * A chave é o SHA-256 do prompt. O primeiro nível é o cache {@code aiSuggestions}
+ * (Caffeine, limitado e com TTL em {@code cache.caffeine.specs}); com
+ * {@code ai.suggestion-cache.persistent=true} as sugestões também são gravadas na
+ * tabela {@code ai_suggestion_cache} e valem por {@code ai.suggestion-cache.ttl},
+ * inclusive após reinícios e entre instâncias.
+ *
+ * Métrica: {@code ai.suggestion_cache.requests} (tag result=memory|database|miss).
+ */
+@Component
+@Slf4j
+public class SuggestionCache {
+
+    public static final String CACHE_NAME = "aiSuggestions";
+    public static final String SWEEP_JOB_NAME = "ai-suggestion-cache-sweep";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private AiSuggestionCacheRepository repository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SchedulerLeaseService leaseService;
+
+    @Value("${ai.suggestion-cache.persistent:false}")
+    private boolean persistent;
+
+    @Value("${ai.suggestion-cache.ttl:P1D}")
+    private Duration ttl;
+
+    public Optional<String> get(String prompt) {
+        String hash = hash(prompt);
+        String cached = cache().get(hash, String.class);
+        if (cached != null) {
+            count("memory");
+            return Optional.of(cached);
+        }
+
+        if (persistent) {
+            try {
+                Optional<String> stored = repository
+                    .findByPromptHashAndCreatedAtAfter(
+                        hash,
+                        LocalDateTime.now().minus(ttl)
+                    )
+                    .map(AiSuggestionCacheEntry::getSuggestion);
+                if (stored.isPresent()) {
+                    cache().put(hash, stored.get());
+                    count("database");
+                    return stored;
+                }
+            } catch (Exception e) {
+                log.warn("Erro ao consultar cache de sugestões: {}", e.getMessage());
+            }
+        }
+
+        count("miss");
+        return Optional.empty();
+    }
+
+    public void put(String prompt, String suggestion) {
+        if (OpenAIService.CANNED_SUGGESTIONS.contains(suggestion)) {
+            return;
+        }
+
+        String hash = hash(prompt);
+        cache().put(hash, suggestion);
+
+        if (persistent) {
+            try {
+                repository.save(
+                    new AiSuggestionCacheEntry(
+                        hash,
+                        suggestion,
+                        LocalDateTime.now()
+                    )
+                );
+            } catch (Exception e) {
+                // Outra instância pode ter gravado o mesmo prompt; o cache é só otimização
+                log.warn("Erro ao persistir sugestão em cache: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Remove diariamente as sugestões persistidas que já passaram do TTL. Roda em apenas
+     * uma instância por dia (lease {@value #SWEEP_JOB_NAME}).
+     */
+    @Scheduled(cron = "${ai.suggestion-cache.sweep-cron:0 30 3 * * *}")
+    public void sweep() {
+        if (
+            !persistent ||
+            !leaseService.tryAcquire(SWEEP_JOB_NAME, Duration.ofHours(23))
+        ) {
+            return;
+        }
+
+        int removed = repository.deleteCreatedBefore(
+            LocalDateTime.now().minus(ttl)
+        );
+        log.info("🧹 {} sugestões expiradas removidas do cache", removed);
+    }
+
+    static String hash(String prompt) {
+        try {
+            return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(
+                    prompt.getBytes(StandardCharsets.UTF_8)
+                )
+            );
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    private void count(String result) {
+        meterRegistry
+            .counter("ai.suggestion_cache.requests", "result", result)
+            .increment();
+    }
+}
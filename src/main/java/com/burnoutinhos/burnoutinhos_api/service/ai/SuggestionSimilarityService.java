@@ -0,0 +1,140 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import com.burnoutinhos.burnoutinhos_api.model.dtos.SuggestionSample;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoEventDTO;
+import com.burnoutinhos.burnoutinhos_api.model.enums.TodoType;
+import com.burnoutinhos.burnoutinhos_api.repository.SuggestionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reaproveita sugestões de todos quase iguais ("estudar java" e "Estudar Java hoje")
+ * sem chamar a OpenAI.
+ *
+ * As sugestões geradas ficam num {@link MinHashIndex} em memória, agrupadas pelo dono
+ * e pelo tipo do todo e indexadas pelo nome e descrição. Um todo com similaridade
+ * estimada de pelo menos {@code ai.similarity.threshold} com outro do mesmo usuário já
+ * respondido recebe a mesma sugestão; sugestões nunca são reaproveitadas entre
+ * usuários, já que o texto pode citar dados pessoais do todo original. Na subida o
+ * índice é preenchido com as sugestões mais recentes do banco.
+ *
+ * Métricas: {@code ai.similarity.lookups} (tag result=hit|miss) e
+ * {@code ai.similarity.entries}.
+ */
+@Service
+@Slf4j
+public class SuggestionSimilarityService {
+
+    private final SuggestionRepository suggestionRepository;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final MinHashIndex index;
+    private final Counter hits;
+    private final Counter misses;
+
+    public SuggestionSimilarityService(
+        SuggestionRepository suggestionRepository,
+        @Value("${ai.similarity.enabled:true}") boolean enabled,
+        @Value("${ai.similarity.threshold:0.7}") double threshold,
+        @Value("${ai.similarity.max-entries:5000}") int maxEntries,
+        MeterRegistry meterRegistry
+    ) {
+        this.suggestionRepository = suggestionRepository;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.index = new MinHashIndex(threshold, maxEntries);
+
+        this.hits = Counter.builder("ai.similarity.lookups")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("ai.similarity.lookups")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("ai.similarity.entries", index, MinHashIndex::size).register(
+            meterRegistry
+        );
+    }
+
+    public Optional<String> findSimilar(TodoEventDTO todo) {
+        if (!enabled || todo.getUserId() == null) {
+            return Optional.empty();
+        }
+
+        Optional<MinHashIndex.Match> match = index.findSimilar(
+            group(todo.getUserId(), todo.getType()),
+            text(todo.getName(), todo.getDescription())
+        );
+        if (match.isEmpty()) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        log.info(
+            "Sugestão reaproveitada de todo similar ({}) para todo ID: {}",
+            String.format("%.2f", match.get().similarity()),
+            todo.getId()
+        );
+        return Optional.of(match.get().value());
+    }
+
+    public void add(TodoEventDTO todo, String suggestion) {
+        if (
+            enabled &&
+            todo.getUserId() != null &&
+            !OpenAIService.CANNED_SUGGESTIONS.contains(suggestion)
+        ) {
+            index.put(
+                group(todo.getUserId(), todo.getType()),
+                text(todo.getName(), todo.getDescription()),
+                suggestion
+            );
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            List<SuggestionSample> samples = suggestionRepository.findRecentSamples(
+                OpenAIService.CANNED_SUGGESTIONS,
+                PageRequest.of(0, maxEntries)
+            );
+            // Das mais antigas para as mais recentes, que ficam no topo do LRU
+            for (int i = samples.size() - 1; i >= 0; i--) {
+                SuggestionSample sample = samples.get(i);
+                index.put(
+                    group(sample.userId(), sample.type()),
+                    text(sample.name(), sample.description()),
+                    sample.suggestion()
+                );
+            }
+            log.info("{} sugestões carregadas no índice de similaridade", index.size());
+        } catch (Exception e) {
+            log.warn(
+                "Erro ao carregar o índice de similaridade: {}",
+                e.getMessage()
+            );
+        }
+    }
+
+    private static String group(Long userId, TodoType type) {
+        return userId + ":" + (type != null ? type.name() : "NONE");
+    }
+
+    private static String text(String name, String description) {
+        return description != null ? name + " " + description : name;
+    }
+}
@@ -0,0 +1,127 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import com.burnoutinhos.burnoutinhos_api.exceptions.ResourceNotFoundException;
+import com.burnoutinhos.burnoutinhos_api.exceptions.ServiceOverloadedException;
+import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import com.burnoutinhos.burnoutinhos_api.model.Suggestion;
+import com.burnoutinhos.burnoutinhos_api.model.Todo;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.SuggestionChunk;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.SuggestionView;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoEventDTO;
+import com.burnoutinhos.burnoutinhos_api.repository.TodoRepository;
+import com.burnoutinhos.burnoutinhos_api.service.SuggestionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Sugestão de IA de um todo entregue por Server-Sent Events, à medida que é gerada.
+ *
+ * Eventos enviados:
+ * - {@code token}: um trecho do texto ({@link SuggestionChunk});
+ * - {@code suggestion}: ao final, a sugestão gravada ({@link SuggestionView});
+ * - {@code error}: a sugestão não pôde ser gerada; traz a mensagem padrão e nada é
+ *   gravado.
+ */
+@Service
+@Slf4j
+public class SuggestionStreamService {
+
+    public static final String TOKEN_EVENT = "token";
+    public static final String SUGGESTION_EVENT = "suggestion";
+    public static final String ERROR_EVENT = "error";
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private OpenAIService openAIService;
+
+    @Autowired
+    private SuggestionService suggestionService;
+
+    /**
+     * Gera por streaming a sugestão do todo do usuário.
+     *
+     * @throws ResourceNotFoundException se o todo não existir ou for de outro usuário
+     *     (verificado antes de abrir o stream)
+     */
+    public Flux<ServerSentEvent<Object>> stream(AppUser user, Long todoId) {
+        Todo todo = todoRepository
+            .findById(todoId)
+            .filter(
+                found ->
+                    found.getUser() != null &&
+                    found.getUser().getId().equals(user.getId())
+            )
+            .orElseThrow(() -> new ResourceNotFoundException("Todo not found"));
+        TodoEventDTO todoEvent = TodoEventDTO.fromTodo(todo);
+
+        return Flux.defer(() -> {
+            StringBuilder text = new StringBuilder();
+            Flux<ServerSentEvent<Object>> tokens = openAIService
+                .streamSuggestion(todoEvent)
+                .doOnNext(text::append)
+                .map(chunk -> event(TOKEN_EVENT, new SuggestionChunk(chunk)));
+
+            // Gravação bloqueante (JPA): fora da thread do stream
+            Mono<ServerSentEvent<Object>> saved = Mono.defer(() ->
+                text.toString().isBlank()
+                    ? Mono.just(fallbackEvent())
+                    : Mono.fromCallable(() -> save(user, todoId, text.toString()))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .map(view -> event(SUGGESTION_EVENT, view))
+            );
+
+            return tokens
+                .concatWith(saved)
+                .onErrorResume(e -> {
+                    if (e instanceof ServiceOverloadedException) {
+                        log.warn(
+                            "Streaming da sugestão do todo ID {} recusado: {}",
+                            todoId,
+                            e.getMessage()
+                        );
+                    } else {
+                        log.error(
+                            "❌ Erro no streaming da sugestão do todo ID {}: {}",
+                            todoId,
+                            e.getMessage(),
+                            e
+                        );
+                    }
+                    return Mono.just(fallbackEvent());
+                });
+        });
+    }
+
+    private SuggestionView save(AppUser user, Long todoId, String text) {
+        Suggestion suggestion = new Suggestion();
+        suggestion.setSuggestion(text);
+        suggestion.setUser(user);
+
+        // Basta o id: a SuggestionService.save carrega o Todo gerenciado
+        Todo todo = new Todo();
+        todo.setId(todoId);
+        suggestion.setTodo(todo);
+
+        SuggestionView saved = suggestionService.save(suggestion);
+        log.info("✅ Sugestão por streaming gravada para todo ID: {}", todoId);
+        return saved;
+    }
+
+    private static ServerSentEvent<Object> fallbackEvent() {
+        return event(
+            ERROR_EVENT,
+            new SuggestionChunk(OpenAIService.FALLBACK_SUGGESTION)
+        );
+    }
+
+    private static ServerSentEvent<Object> event(String name, Object data) {
+        return ServerSentEvent.<Object>builder(data).event(name).build();
+    }
+}
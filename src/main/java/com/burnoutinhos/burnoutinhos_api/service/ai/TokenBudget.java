@@ -0,0 +1,359 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Contabiliza os tokens gastos com a OpenAI (prompt e resposta) por usuário e no total,
+ * em janelas de uma hora cheia, e aplica as cotas de cada janela.
+ *
+ * Antes da chamada, {@link #tryAcquire} reserva na cota uma estimativa do gasto (tokens
+ * do prompt mais o limite da resposta), de forma atômica: chamadas concorrentes não
+ * passam juntas da cota, mesmo enquanto esperam na fila. Depois da chamada o gasto real
+ * é registrado ({@link #record}), com os números da resposta, e a reserva é devolvida
+ * ({@link #release}) — também quando o pedido é descartado ou falha. A cota só é
+ * ultrapassada se a estimativa do prompt ficar abaixo do real. O limite de tokens da
+ * resposta ({@link #maxCompletionTokens}) também é reduzido ao que resta da cota. Os
+ * contadores ficam em memória, por instância.
+ *
+ * Métricas: {@code ai.tokens} (tag type=prompt|completion), {@code ai.budget.rejected}
+ * (tag scope=user|global) e {@code ai.budget.global.used} (tokens na hora atual).
+ */
+@Component
+@Slf4j
+public class TokenBudget {
+
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    /**
+     * Tokens reservados por um pedido na hora em que foi aceito; devolvidos com
+     * {@link #release}.
+     */
+    public record Reservation(Long userId, long hour, long tokens) {}
+
+    /**
+     * Tokens gastos numa janela.
+     */
+    public record Usage(long promptTokens, long completionTokens) {
+        @JsonProperty
+        public long totalTokens() {
+            return promptTokens + completionTokens;
+        }
+    }
+
+    private final boolean enabled;
+    private final long userTokensPerHour;
+    private final long globalTokensPerHour;
+    private final int maxCompletionTokens;
+    private final LongSupplier clock;
+    private final Cache<Long, HourlyUsage> users;
+    private final HourlyUsage global = new HourlyUsage();
+    private final Counter promptTokens;
+    private final Counter completionTokens;
+    private final Counter rejectedByUser;
+    private final Counter rejectedByGlobal;
+
+    @Autowired
+    public TokenBudget(
+        @Value("${ai.budget.enabled:true}") boolean enabled,
+        @Value("${ai.budget.user-tokens-per-hour:20000}") long userTokensPerHour,
+        @Value(
+            "${ai.budget.global-tokens-per-hour:1000000}"
+        ) long globalTokensPerHour,
+        @Value(
+            "${ai.budget.max-completion-tokens:150}"
+        ) int maxCompletionTokens,
+        @Value("${ai.budget.max-users:100000}") long maxUsers,
+        MeterRegistry meterRegistry
+    ) {
+        this(
+            enabled,
+            userTokensPerHour,
+            globalTokensPerHour,
+            maxCompletionTokens,
+            maxUsers,
+            meterRegistry,
+            System::currentTimeMillis
+        );
+    }
+
+    TokenBudget(
+        boolean enabled,
+        long userTokensPerHour,
+        long globalTokensPerHour,
+        int maxCompletionTokens,
+        long maxUsers,
+        MeterRegistry meterRegistry,
+        LongSupplier clock
+    ) {
+        this.enabled = enabled;
+        this.userTokensPerHour = userTokensPerHour;
+        this.globalTokensPerHour = globalTokensPerHour;
+        this.maxCompletionTokens = maxCompletionTokens;
+        this.clock = clock;
+        this.users = Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterAccess(Duration.ofHours(2))
+            .build();
+
+        this.promptTokens = Counter.builder("ai.tokens")
+            .tag("type", "prompt")
+            .register(meterRegistry);
+        this.completionTokens = Counter.builder("ai.tokens")
+            .tag("type", "completion")
+            .register(meterRegistry);
+        this.rejectedByUser = Counter.builder("ai.budget.rejected")
+            .tag("scope", "user")
+            .register(meterRegistry);
+        this.rejectedByGlobal = Counter.builder("ai.budget.rejected")
+            .tag("scope", "global")
+            .register(meterRegistry);
+        Gauge.builder("ai.budget.global.used", this, budget ->
+            budget.globalUsage().totalTokens()
+        ).register(meterRegistry);
+    }
+
+    /**
+     * Reserva na hora atual a estimativa de uma chamada do usuário (ou sem usuário,
+     * apenas na cota global): os tokens do prompt mais o limite da resposta. Falha se a
+     * reserva passar da cota do usuário ou da global, considerando o gasto e as reservas
+     * ainda abertas.
+     *
+     * @return a reserva, a devolver com {@link #release} ao fim do pedido; vazio se
+     *     não houver cota
+     */
+    public Optional<Reservation> tryAcquire(Long userId, long promptTokens) {
+        long hour = currentHour();
+        if (!enabled) {
+            return Optional.of(new Reservation(userId, hour, 0));
+        }
+
+        long tokens = promptTokens + maxCompletionTokens;
+        if (!global.tryReserve(hour, tokens, globalTokensPerHour)) {
+            rejectedByGlobal.increment();
+            log.warn("Cota global de tokens da OpenAI esgotada nesta hora");
+            return Optional.empty();
+        }
+        if (
+            userId != null &&
+            !user(userId).tryReserve(hour, tokens, userTokensPerHour)
+        ) {
+            global.release(hour, tokens);
+            rejectedByUser.increment();
+            log.warn(
+                "Cota de tokens da OpenAI do usuário {} esgotada nesta hora",
+                userId
+            );
+            return Optional.empty();
+        }
+        return Optional.of(new Reservation(userId, hour, tokens));
+    }
+
+    /**
+     * Devolve uma reserva de {@link #tryAcquire}. Reservas de uma hora já encerrada não
+     * afetam a hora atual.
+     */
+    public void release(Reservation reservation) {
+        if (reservation.tokens() == 0) {
+            return;
+        }
+        global.release(reservation.hour(), reservation.tokens());
+        if (reservation.userId() != null) {
+            HourlyUsage usage = users.getIfPresent(reservation.userId());
+            if (usage != null) {
+                usage.release(reservation.hour(), reservation.tokens());
+            }
+        }
+    }
+
+    /**
+     * Limite de tokens da resposta de uma sugestão do usuário: o configurado, reduzido
+     * ao que resta das cotas na hora atual (no mínimo 1).
+     */
+    public int maxCompletionTokens(Long userId) {
+        if (!enabled) {
+            return maxCompletionTokens;
+        }
+
+        long hour = currentHour();
+        long remaining = globalTokensPerHour - global.get(hour).totalTokens();
+        if (userId != null) {
+            remaining = Math.min(
+                remaining,
+                userTokensPerHour - user(userId).get(hour).totalTokens()
+            );
+        }
+        return (int) Math.max(1, Math.min(maxCompletionTokens, remaining));
+    }
+
+    public void record(Long userId, long prompt, long completion) {
+        promptTokens.increment(prompt);
+        completionTokens.increment(completion);
+
+        long hour = currentHour();
+        global.add(hour, prompt, completion);
+        if (userId != null) {
+            user(userId).add(hour, prompt, completion);
+        }
+    }
+
+    public Usage globalUsage() {
+        return global.get(currentHour());
+    }
+
+    public Usage usage(Long userId) {
+        HourlyUsage usage = users.getIfPresent(userId);
+        return usage != null ? usage.get(currentHour()) : new Usage(0, 0);
+    }
+
+    /**
+     * Usuários que mais gastaram tokens na hora atual, do maior para o menor.
+     */
+    public Map<Long, Usage> topUsers(int limit) {
+        long hour = currentHour();
+        Map<Long, Usage> top = new LinkedHashMap<>();
+        users
+            .asMap()
+            .entrySet()
+            .stream()
+            .map(entry -> Map.entry(entry.getKey(), entry.getValue().get(hour)))
+            .filter(entry -> entry.getValue().totalTokens() > 0)
+            .sorted(
+                Comparator.comparingLong(
+                    (Map.Entry<Long, Usage> entry) -> entry.getValue().totalTokens()
+                ).reversed()
+            )
+            .limit(limit)
+            .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+
+    public int getMaxCompletionTokens() {
+        return maxCompletionTokens;
+    }
+
+    public long getUserTokensPerHour() {
+        return userTokensPerHour;
+    }
+
+    public long getGlobalTokensPerHour() {
+        return globalTokensPerHour;
+    }
+
+    /**
+     * Início da hora atual, em epoch millis.
+     */
+    public long currentHourStart() {
+        return currentHour() * HOUR_MILLIS;
+    }
+
+    /**
+     * Estimativa para respostas sem contagem de tokens (ex.: streaming): cerca de quatro
+     * caracteres por token.
+     */
+    public static long estimateTokens(String text) {
+        return text == null ? 0 : (text.length() + 3) / 4;
+    }
+
+    private HourlyUsage user(Long userId) {
+        return users.get(userId, id -> new HourlyUsage());
+    }
+
+    private long currentHour() {
+        return clock.getAsLong() / HOUR_MILLIS;
+    }
+
+    /**
+     * Contadores da hora cheia atual; a troca de hora é feita por CAS, sem locks.
+     * Tokens registrados junto com a troca podem cair na hora anterior.
+     *
+     * {@code charged} soma o gasto registrado e as reservas abertas; é o valor comparado
+     * com a cota, reservado por CAS para que duas reservas não passem juntas.
+     */
+    static final class HourlyUsage {
+
+        private record Window(
+            long hour,
+            LongAdder prompt,
+            LongAdder completion,
+            AtomicLong charged
+        ) {}
+
+        private final AtomicReference<Window> window = new AtomicReference<>(
+            new Window(
+                Long.MIN_VALUE,
+                new LongAdder(),
+                new LongAdder(),
+                new AtomicLong()
+            )
+        );
+
+        void add(long hour, long prompt, long completion) {
+            Window current = rotate(hour);
+            current.prompt().add(prompt);
+            current.completion().add(completion);
+            current.charged().addAndGet(prompt + completion);
+        }
+
+        boolean tryReserve(long hour, long tokens, long limit) {
+            AtomicLong charged = rotate(hour).charged();
+            long current = charged.get();
+            while (current + tokens <= limit) {
+                if (charged.compareAndSet(current, current + tokens)) {
+                    return true;
+                }
+                current = charged.get();
+            }
+            return false;
+        }
+
+        void release(long hour, long tokens) {
+            Window current = window.get();
+            if (current.hour() == hour) {
+                current.charged().addAndGet(-tokens);
+            }
+        }
+
+        Usage get(long hour) {
+            Window current = window.get();
+            return current.hour() == hour
+                ? new Usage(current.prompt().sum(), current.completion().sum())
+                : new Usage(0, 0);
+        }
+
+        private Window rotate(long hour) {
+            Window current = window.get();
+            while (current.hour() != hour) {
+                Window next = new Window(
+                    hour,
+                    new LongAdder(),
+                    new LongAdder(),
+                    new AtomicLong()
+                );
+                if (window.compareAndSet(current, next)) {
+                    return next;
+                }
+                current = window.get();
+            }
+            return current;
+        }
+    }
+}
@@ -10,8 +10,6 @@ import com.burnoutinhos.burnoutinhos_api.service.AppUserService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.beans.BeanUtils;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -36,15 +34,20 @@ public class AuthenticationService {
     private final JWTUtil jwtUtil;
     private final AppUserService appUserService;
     private final PasswordEncoder passwordEncoder;
+    private final LoginRateLimiter loginRateLimiter;
 
     /**
      * Autentica um usuário com as credenciais fornecidas e, em caso de sucesso,
      * devolve um DTO contendo o token JWT.
+     * Os limites de tentativas por IP e por email são verificados antes do BCrypt.
      *
      * @param dto DTO com email e password (raw)
+     * @param clientIp endereço do cliente, usado no limite de tentativas por IP
      * @return AuthResponseDTO contendo mensagem e token JWT
      */
-    public AuthResponseDTO login(LoginDTO dto) {
+    public AuthResponseDTO login(LoginDTO dto, String clientIp) {
+        loginRateLimiter.checkAllowed(dto.getEmail(), clientIp);
+
         try {
             log.info("dto in login: {}", dto);
 
@@ -56,13 +59,13 @@ public class AuthenticationService {
             log.info("auth token: {}", authToken);
 
             // Lança AuthenticationException se credenciais inválidas
-            authenticationManager.authenticate(authToken);
-
-            AuthResponseDTO response = new AuthResponseDTO();
-            response.setMessage("User logged in successfully");
-            response.setToken(jwtUtil.buildToken(dto.getEmail()));
-            return response;
+            Authentication authentication = authenticationManager.authenticate(
+                authToken
+            );
+            loginRateLimiter.recordSuccess(dto.getEmail());
+            return issueToken((AppUser) authentication.getPrincipal());
         } catch (AuthenticationException ex) {
+            // A vaga reservada em checkAllowed fica contando como falha
             // Reutiliza a exceção de domínio já existente para manter consistência com o projeto
             log.info("error: {}", ex.getMessage());
             throw new ResourceNotFoundException("Usuário ou senha inválidos");
@@ -70,8 +73,9 @@ public class AuthenticationService {
     }
 
     /**
-     * Registra um novo usuário e retorna o resultado do login imediato (token JWT).
-     * Delega a criação do usuário ao AppUserService e em seguida realiza autenticação.
+     * Registra um novo usuário e retorna o token JWT do usuário criado.
+     * Delega a criação do usuário ao AppUserService; a senha acabou de ser codificada,
+     * então o token é emitido direto, sem uma segunda verificação BCrypt.
      *
      * Nota: o {@link AppUserService#createUser} é responsável por codificar a senha ao persistir.
      *
@@ -80,47 +84,45 @@ public class AuthenticationService {
      */
     @Transactional
     public AuthResponseDTO register(RegisterAndUpdateUserDTO dto) {
-        log.info("dto before app user service: {}", dto);
-        RegisterAndUpdateUserDTO sendedData = new RegisterAndUpdateUserDTO();
-        BeanUtils.copyProperties(dto, sendedData);
-
         AppUser user = appUserService.createUser(dto);
-        log.info("dto: {}", sendedData);
-        log.info("user: {}", user);
-        // Após criação, autentica usando as credenciais originais (raw password)
-        LoginDTO loginDto = new LoginDTO(
-            sendedData.getEmail(),
-            sendedData.getPassword()
-        );
-        AuthResponseDTO result = login(loginDto);
-        return result;
+        log.info("user registered: {}", user.getId());
+        return issueToken(user);
     }
 
+    /**
+     * Atualiza o usuário autenticado e devolve um novo token, que reflete o email e a
+     * versão de token atuais (uma troca de senha revoga os tokens anteriores).
+     */
     @Transactional
     public AuthResponseDTO updateAndRegister(RegisterAndUpdateUserDTO dto) {
-        log.info("dto before app user service: {}", dto);
-        RegisterAndUpdateUserDTO sendedData = new RegisterAndUpdateUserDTO();
-        BeanUtils.copyProperties(dto, sendedData);
-
         AppUser user = appUserService.update(dto);
+        log.info("user updated: {}", user.getId());
+        return issueToken(user);
+    }
 
-        log.info("dto: {}", sendedData);
-        log.info("user: {}", user);
-
-        LoginDTO loginDto = new LoginDTO(
-            sendedData.getEmail(),
-            sendedData.getPassword()
-        );
-        AuthResponseDTO result = login(loginDto);
-        return result;
+    private AuthResponseDTO issueToken(AppUser user) {
+        AuthResponseDTO response = new AuthResponseDTO();
+        response.setMessage("User logged in successfully");
+        response.setToken(jwtUtil.buildToken(user));
+        return response;
     }
 
     @Transactional(readOnly = true)
     public boolean verifyPassword(
         AppUser user,
-        String password
+        String password,
+        String clientIp
     ) {
-        boolean isValid = passwordEncoder.matches(password, user.getPassword());
+        loginRateLimiter.checkAllowed(user.getEmail(), clientIp);
+
+        // No modo stateless o principal não carrega a senha
+        String encodedPassword = user.getPassword() != null
+            ? user.getPassword()
+            : appUserService.findById(user.getId()).getPassword();
+        boolean isValid = passwordEncoder.matches(password, encodedPassword);
+        if (isValid) {
+            loginRateLimiter.recordSuccess(user.getEmail());
+        }
         return isValid;
     }
 }
@@ -0,0 +1,217 @@
+package com.burnoutinhos.burnoutinhos_api.service.auth;
+
+import com.burnoutinhos.burnoutinhos_api.exceptions.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limita tentativas de login (e de verificação de senha) antes de qualquer hash BCrypt.
+ *
+ * - por IP: toda tentativa conta, limitando o custo que um único cliente pode gerar;
+ * - por email: cada tentativa reserva uma vaga antes do BCrypt, e um login bem-sucedido
+ *   zera a janela ({@link #recordSuccess}); assim só as falhas (e as tentativas ainda
+ *   em andamento) ficam contando, e tentativas concorrentes não passam juntas do limite.
+ *
+ * Cada chave usa uma janela deslizante aproximada (janela atual + fração da anterior)
+ * com a vaga reservada por CAS, sem locks. As chaves ficam num cache limitado por
+ * tamanho e expiram após duas janelas sem acesso.
+ *
+ * Métricas: {@code login.rate_limit.rejected} (tag scope=ip|email) e
+ * {@code login.rate_limit.keys}.
+ */
+@Component
+@Log4j2
+public class LoginRateLimiter {
+
+    private static final String IP_SCOPE = "ip";
+    private static final String EMAIL_SCOPE = "email";
+
+    private final boolean enabled;
+    private final int maxAttemptsPerIp;
+    private final int maxFailuresPerEmail;
+    private final long windowMillis;
+    private final LongSupplier clock;
+    private final Cache<String, SlidingWindow> windows;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByEmail;
+
+    @Autowired
+    public LoginRateLimiter(
+        @Value("${security.login.rate-limit.enabled:true}") boolean enabled,
+        @Value("${security.login.rate-limit.per-ip:20}") int maxAttemptsPerIp,
+        @Value(
+            "${security.login.rate-limit.per-email:5}"
+        ) int maxFailuresPerEmail,
+        @Value("${security.login.rate-limit.window:PT1M}") Duration window,
+        @Value("${security.login.rate-limit.max-keys:100000}") long maxKeys,
+        MeterRegistry meterRegistry
+    ) {
+        this(
+            enabled,
+            maxAttemptsPerIp,
+            maxFailuresPerEmail,
+            window,
+            maxKeys,
+            meterRegistry,
+            System::currentTimeMillis
+        );
+    }
+
+    LoginRateLimiter(
+        boolean enabled,
+        int maxAttemptsPerIp,
+        int maxFailuresPerEmail,
+        Duration window,
+        long maxKeys,
+        MeterRegistry meterRegistry,
+        LongSupplier clock
+    ) {
+        this.enabled = enabled;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+        this.windows = Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(window.multipliedBy(2))
+            .build();
+
+        this.rejectedByIp = Counter.builder("login.rate_limit.rejected")
+            .tag("scope", IP_SCOPE)
+            .register(meterRegistry);
+        this.rejectedByEmail = Counter.builder("login.rate_limit.rejected")
+            .tag("scope", EMAIL_SCOPE)
+            .register(meterRegistry);
+        Gauge.builder("login.rate_limit.keys", windows, Cache::estimatedSize)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Reserva uma vaga da tentativa nas janelas do IP e do email. A vaga do email só é
+     * devolvida por {@link #recordSuccess}; sem ela, a tentativa conta como falha.
+     *
+     * @throws TooManyRequestsException se algum dos limites foi atingido
+     */
+    public void checkAllowed(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = clock.getAsLong();
+
+        if (
+            clientIp != null &&
+            !window(IP_SCOPE, clientIp).tryAcquire(maxAttemptsPerIp, now)
+        ) {
+            rejectedByIp.increment();
+            log.warn("Limite de tentativas de login atingido para o IP {}", clientIp);
+            throw new TooManyRequestsException(
+                "Muitas tentativas de login. Tente novamente em instantes."
+            );
+        }
+
+        if (
+            email != null &&
+            !window(EMAIL_SCOPE, normalize(email)).tryAcquire(
+                maxFailuresPerEmail,
+                now
+            )
+        ) {
+            rejectedByEmail.increment();
+            log.warn("Limite de falhas de login atingido para {}", email);
+            throw new TooManyRequestsException(
+                "Muitas tentativas de login. Tente novamente em instantes."
+            );
+        }
+    }
+
+    /**
+     * Login (ou verificação de senha) bem-sucedido: zera a janela do email, inclusive a
+     * vaga reservada por {@link #checkAllowed}.
+     */
+    public void recordSuccess(String email) {
+        if (enabled && email != null) {
+            windows.invalidate(key(EMAIL_SCOPE, normalize(email)));
+        }
+    }
+
+    private SlidingWindow window(String scope, String value) {
+        return windows.get(key(scope, value), k -> new SlidingWindow(windowMillis));
+    }
+
+    private String key(String scope, String value) {
+        return scope + ":" + value;
+    }
+
+    private String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Janela deslizante aproximada: contagem da janela atual somada à da anterior
+     * ponderada pela fração dela que ainda está dentro do intervalo.
+     * A vaga é reservada por CAS na contagem atual, então duas tentativas não passam
+     * juntas do limite; incrementos concorrentes com a troca de janela podem se perder.
+     */
+    static final class SlidingWindow {
+
+        private record Buckets(
+            long index,
+            AtomicLong current,
+            long previousCount
+        ) {}
+
+        private final long windowMillis;
+        private final AtomicReference<Buckets> buckets;
+
+        SlidingWindow(long windowMillis) {
+            this.windowMillis = windowMillis;
+            this.buckets = new AtomicReference<>(
+                new Buckets(Long.MIN_VALUE, new AtomicLong(), 0)
+            );
+        }
+
+        boolean tryAcquire(int limit, long now) {
+            Buckets current = rotate(now);
+            double previousWeight =
+                1.0 - (now % windowMillis) / (double) windowMillis;
+            double previous = current.previousCount() * previousWeight;
+            long count = current.current().get();
+            while (previous + count < limit) {
+                if (current.current().compareAndSet(count, count + 1)) {
+                    return true;
+                }
+                count = current.current().get();
+            }
+            return false;
+        }
+
+        private Buckets rotate(long now) {
+            long index = now / windowMillis;
+            Buckets current = buckets.get();
+            while (current.index() != index) {
+                long previousCount = current.index() == index - 1
+                    ? current.current().get()
+                    : 0;
+                Buckets next = new Buckets(index, new AtomicLong(), previousCount);
+                if (buckets.compareAndSet(current, next)) {
+                    return next;
+                }
+                current = buckets.get();
+            }
+            return current;
+        }
+    }
+}
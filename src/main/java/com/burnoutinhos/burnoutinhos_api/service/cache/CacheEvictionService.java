@@ -0,0 +1,137 @@
+package com.burnoutinhos.burnoutinhos_api.service.cache;
+
+import com.burnoutinhos.burnoutinhos_api.config.JWTAuthFilter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Centraliza a invalidação dos caches de entidades após escritas.
+ *
+ * Convenção de chaves usada pelos services:
+ * - {@code #id} para a entidade individual;
+ * - {@code #userId + '_' + #page + '_' + #size} para as páginas de um usuário;
+ * - {@link SimpleKey#EMPTY} para o {@code findAll()} sem parâmetros.
+ *
+ * Toda mutação remove as três entradas. A remoção é feita imediatamente e repetida
+ * após o commit da transação, para que uma leitura concorrente feita antes do commit
+ * não deixe uma versão antiga no cache.
+ */
+@Service
+@Log4j2
+public class CacheEvictionService {
+
+    public static final String PAGE_KEY_SEPARATOR = "_";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Invalida a entidade {@code id}, a listagem geral e as páginas do usuário dono.
+     *
+     * @param cacheName nome do cache (ex: "todos")
+     * @param id id da entidade alterada (pode ser null em inserções)
+     * @param userId id do usuário dono da entidade (pode ser null)
+     */
+    public void evict(String cacheName, Long id, Long userId) {
+        Runnable eviction = () -> doEvict(cacheName, id, userId);
+        eviction.run();
+        afterCommit(eviction);
+    }
+
+    /**
+     * Invalida o usuário autenticado em cache pelo {@code JWTAuthFilter} (chave: email).
+     */
+    public void evictPrincipal(String email) {
+        if (email == null) {
+            return;
+        }
+
+        Runnable eviction = () -> {
+            Cache cache = cacheManager.getCache(
+                JWTAuthFilter.PRINCIPALS_CACHE
+            );
+            if (cache != null) {
+                cache.evict(email);
+            }
+        };
+        eviction.run();
+        afterCommit(eviction);
+    }
+
+    /**
+     * Invalida a versão de token em cache do usuário (modo stateless do {@code JWTAuthFilter}).
+     */
+    public void evictTokenVersion(Long userId) {
+        if (userId == null) {
+            return;
+        }
+
+        Runnable eviction = () -> {
+            Cache cache = cacheManager.getCache(
+                JWTAuthFilter.TOKEN_VERSIONS_CACHE
+            );
+            if (cache != null) {
+                cache.evict(userId);
+            }
+        };
+        eviction.run();
+        afterCommit(eviction);
+    }
+
+    /**
+     * Invalida apenas a listagem geral e as páginas de um usuário.
+     */
+    public void evictUserPages(String cacheName, Long userId) {
+        evict(cacheName, null, userId);
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        eviction.run();
+                    }
+                }
+            );
+        }
+    }
+
+    private void doEvict(String cacheName, Long id, Long userId) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+
+        if (id != null) {
+            cache.evict(id);
+        }
+        cache.evict(SimpleKey.EMPTY);
+
+        if (userId != null && cache instanceof CaffeineCache caffeineCache) {
+            String prefix = userId + PAGE_KEY_SEPARATOR;
+            caffeineCache
+                .getNativeCache()
+                .asMap()
+                .keySet()
+                .removeIf(key ->
+                    key instanceof String k && k.startsWith(prefix)
+                );
+        }
+
+        log.debug(
+            "Cache '{}' invalidado (id: {}, userId: {})",
+            cacheName,
+            id,
+            userId
+        );
+    }
+}
@@ -9,7 +9,6 @@ import com.burnoutinhos.burnoutinhos_api.model.Todo;
 import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoEventDTO;
 import com.burnoutinhos.burnoutinhos_api.service.AppUserService;
 import com.burnoutinhos.burnoutinhos_api.service.SuggestionService;
-import com.burnoutinhos.burnoutinhos_api.service.TodoService;
 import com.burnoutinhos.burnoutinhos_api.service.ai.OpenAIService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
@@ -54,9 +53,6 @@ public class EventHubConsumerService {
     @Autowired
     private AppUserService appUserService;
 
-    @Autowired
-    private TodoService todoService;
-
     private final ObjectMapper objectMapper;
     private EventHubConsumerAsyncClient consumerClient;
     private final List<Disposable> subscriptions = new ArrayList<>();
@@ -93,70 +89,44 @@ public class EventHubConsumerService {
                         EventPosition.latest()
                     );
                 })
-                .flatMap(
-                    partitionEvent ->
-                        // Processa cada evento em uma thread separada (boundedElastic scheduler)
-                        Mono.fromCallable(() -> {
-                            try {
-                                String json = partitionEvent
-                                    .getData()
-                                    .getBodyAsString();
-                                log.info(
-                                    "Evento recebido da partição {}: {}",
-                                    partitionEvent
-                                        .getPartitionContext()
-                                        .getPartitionId(),
-                                    json
-                                );
-
-                                TodoEventDTO todoEvent = objectMapper.readValue(
-                                    json,
-                                    TodoEventDTO.class
-                                );
-
-                                // Gera sugestão usando IA (execução bloqueante permitida aqui)
-                                String suggestionText =
-                                    openAIService.generateSuggestionForTodo(
-                                        todoEvent
-                                    );
-
-                                // Cria a suggestion no banco
-                                Suggestion suggestion = new Suggestion();
-                                suggestion.setSuggestion(suggestionText);
-
-                                if (todoEvent.getUserId() != null) {
-                                    AppUser user = appUserService.findById(
-                                        todoEvent.getUserId()
-                                    );
-                                    suggestion.setUser(user);
-                                }
-
-                                // Se o evento tiver um todoId, vincula ao Todo para manter relação
-                                if (todoEvent.getId() != null) {
-                                    Todo todo = todoService.findById(
-                                        todoEvent.getId()
-                                    );
-                                    suggestion.setTodo(todo);
-                                    // a SuggestionService.save vai adicionar a suggestion na lista do todo
-                                }
-
-                                suggestionService.save(suggestion);
-                                log.info(
-                                    "✅ Suggestion criada com sucesso para todo ID: {}",
-                                    todoEvent.getId()
-                                );
-
-                                return true;
-                            } catch (Exception e) {
-                                log.error(
-                                    "❌ Erro ao processar evento: {}",
-                                    e.getMessage(),
-                                    e
-                                );
-                                return false;
-                            }
-                        }).subscribeOn(Schedulers.boundedElastic()) // Thread pool para operações bloqueantes
-                )
+                .flatMap(partitionEvent -> {
+                    TodoEventDTO todoEvent;
+                    try {
+                        String json = partitionEvent.getData().getBodyAsString();
+                        log.info(
+                            "Evento recebido da partição {}: {}",
+                            partitionEvent.getPartitionContext().getPartitionId(),
+                            json
+                        );
+                        todoEvent = objectMapper.readValue(json, TodoEventDTO.class);
+                    } catch (Exception e) {
+                        log.error(
+                            "❌ Erro ao processar evento: {}",
+                            e.getMessage(),
+                            e
+                        );
+                        return Mono.just(false);
+                    }
+
+                    // Nenhuma thread espera a OpenAI (timeouts no OpenAIService); no
+                    // boundedElastic rodam só a consulta ao cache e a gravação no banco
+                    return Mono.fromFuture(() ->
+                        openAIService.generateSuggestionAsync(todoEvent)
+                    )
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(suggestionText ->
+                            saveSuggestion(todoEvent, suggestionText)
+                        )
+                        .onErrorResume(e -> {
+                            log.error(
+                                "❌ Erro ao processar evento: {}",
+                                e.getMessage(),
+                                e
+                            );
+                            return Mono.just(false);
+                        });
+                })
                 .retryWhen(
                     reactor.util.retry.Retry.backoff(
                         Long.MAX_VALUE,
@@ -192,6 +162,33 @@ public class EventHubConsumerService {
         }
     }
 
+    private boolean saveSuggestion(TodoEventDTO todoEvent, String suggestionText) {
+        // Cria a suggestion no banco
+        Suggestion suggestion = new Suggestion();
+        suggestion.setSuggestion(suggestionText);
+
+        if (todoEvent.getUserId() != null) {
+            AppUser user = appUserService.findById(todoEvent.getUserId());
+            suggestion.setUser(user);
+        }
+
+        // Se o evento tiver um todoId, vincula ao Todo para manter relação
+        if (todoEvent.getId() != null) {
+            // Basta o id: a SuggestionService.save carrega o Todo gerenciado
+            // e adiciona a suggestion na lista do todo
+            Todo todo = new Todo();
+            todo.setId(todoEvent.getId());
+            suggestion.setTodo(todo);
+        }
+
+        suggestionService.save(suggestion);
+        log.info(
+            "✅ Suggestion criada com sucesso para todo ID: {}",
+            todoEvent.getId()
+        );
+        return true;
+    }
+
     @PreDestroy
     public void stop() {
         log.info("Parando Event Hub Consumer...");
@@ -0,0 +1,45 @@
+package com.burnoutinhos.burnoutinhos_api.service.notifications;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Resultado agregado de um envio de push notifications.
+ *
+ * @param succeeded mensagens aceitas pelo provedor
+ * @param failures tokens que falharam, com o código de erro do provedor
+ */
+public record DeliveryReport(int succeeded, List<TokenFailure> failures) {
+    public record TokenFailure(String token, String errorCode) {}
+
+    public static DeliveryReport empty() {
+        return new DeliveryReport(0, List.of());
+    }
+
+    public int failed() {
+        return failures.size();
+    }
+
+    public int requested() {
+        return succeeded + failed();
+    }
+
+    public Map<String, Long> failuresByCode() {
+        return failures
+            .stream()
+            .collect(
+                Collectors.groupingBy(
+                    TokenFailure::errorCode,
+                    Collectors.counting()
+                )
+            );
+    }
+
+    public DeliveryReport merge(DeliveryReport other) {
+        List<TokenFailure> merged = new ArrayList<>(failures);
+        merged.addAll(other.failures);
+        return new DeliveryReport(succeeded + other.succeeded, merged);
+    }
+}
@@ -1,80 +1,152 @@
 package com.burnoutinhos.burnoutinhos_api.service.notifications;
 
 import com.burnoutinhos.burnoutinhos_api.model.PushToken;
-import com.google.firebase.messaging.*;
+import jakarta.annotation.PreDestroy;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+/**
+ * Envio de push notifications em lotes de até {@value PushGateway#MAX_BATCH_SIZE}
+ * mensagens por chamada ao provedor.
+ *
+ * Os lotes são enviados em paralelo (virtual threads), com no máximo
+ * {@code push.max-in-flight} lotes em andamento: acima disso quem chama espera. Os
+ * resultados por token são agregados num {@link DeliveryReport}.
+ */
 @Service
 @Log4j2
 public class FirebaseMessagingService {
 
-    public void sendNotification(
+    private final PushGateway pushGateway;
+    private final Semaphore inFlight;
+    private final ExecutorService executor;
+
+    public FirebaseMessagingService(
+        PushGateway pushGateway,
+        @Value("${push.max-in-flight:4}") int maxInFlight
+    ) {
+        this.pushGateway = pushGateway;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Envia a mesma notificação para todos os tokens informados.
+     */
+    public DeliveryReport sendNotification(
         List<PushToken> tokens,
         String title,
         String body
     ) {
         if (tokens == null || tokens.isEmpty()) {
             log.warn("No tokens to send notification");
-            return;
+            return DeliveryReport.empty();
         }
 
-        List<String> tokenList = tokens
+        List<PushGateway.Message> messages = tokens
             .stream()
             .map(PushToken::getToken)
             .filter(t -> t != null && !t.trim().isEmpty())
-            .collect(Collectors.toList());
-
-        log.info("Sending notification to {} tokens", tokenList.size());
+            .map(token -> new PushGateway.Message(token, title, body))
+            .toList();
+        return send(messages);
+    }
 
-        int successCount = 0;
-        List<String> failedTokens = new ArrayList<>();
+    /**
+     * Envia as mensagens em lotes e aguarda todos os resultados.
+     */
+    public DeliveryReport send(List<PushGateway.Message> messages) {
+        if (messages.isEmpty()) {
+            return DeliveryReport.empty();
+        }
 
-        // Enviar individualmente para cada token usando a API HTTP v1
-        for (String token : tokenList) {
+        List<CompletableFuture<DeliveryReport>> futures = new ArrayList<>();
+        for (
+            int from = 0;
+            from < messages.size();
+            from += PushGateway.MAX_BATCH_SIZE
+        ) {
+            List<PushGateway.Message> batch = messages.subList(
+                from,
+                Math.min(from + PushGateway.MAX_BATCH_SIZE, messages.size())
+            );
             try {
-                Message message = Message.builder()
-                    .setToken(token)
-                    .setNotification(
-                        Notification.builder()
-                            .setTitle(title)
-                            .setBody(body)
-                            .build()
-                    )
-                    .putData("click_action", "FLUTTER_NOTIFICATION_CLICK")
-                    .build();
-
-                String response = FirebaseMessaging.getInstance().send(message);
-                log.debug(
-                    "Successfully sent message to token: {} - Response: {}",
-                    token,
-                    response
-                );
-                successCount++;
-            } catch (FirebaseMessagingException e) {
-                log.error(
-                    "Error sending notification to token: {} - Error: {}",
-                    token,
-                    e.getMessage()
-                );
-                failedTokens.add(token);
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
             }
+            futures.add(
+                CompletableFuture.supplyAsync(
+                    () -> sendBatch(batch),
+                    executor
+                ).whenComplete((report, error) -> inFlight.release())
+            );
         }
 
+        DeliveryReport report = futures
+            .stream()
+            .map(CompletableFuture::join)
+            .reduce(DeliveryReport.empty(), DeliveryReport::merge);
+
         log.info(
             "Sent {} messages successfully out of {}",
-            successCount,
-            tokenList.size()
+            report.succeeded(),
+            report.requested()
         );
-        if (!failedTokens.isEmpty()) {
+        if (report.failed() > 0) {
             log.warn(
-                "Failed to send to {} tokens: {}",
-                failedTokens.size(),
-                failedTokens
+                "Failed to send {} messages: {}",
+                report.failed(),
+                report.failuresByCode()
             );
         }
+        return report;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private DeliveryReport sendBatch(List<PushGateway.Message> batch) {
+        List<PushGateway.Result> results;
+        try {
+            results = pushGateway.sendEach(batch);
+        } catch (Exception e) {
+            log.error(
+                "Error sending batch of {} messages - Error: {}",
+                batch.size(),
+                e.getMessage()
+            );
+            results = batch
+                .stream()
+                .map(message -> PushGateway.Result.batchFailure("UNKNOWN"))
+                .toList();
+        }
+
+        int succeeded = 0;
+        List<DeliveryReport.TokenFailure> failures = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            PushGateway.Result result = results.get(i);
+            if (result.delivered()) {
+                succeeded++;
+            } else {
+                failures.add(
+                    new DeliveryReport.TokenFailure(
+                        batch.get(i).token(),
+                        result.errorCode()
+                    )
+                );
+            }
+        }
+        return new DeliveryReport(succeeded, failures);
     }
 }
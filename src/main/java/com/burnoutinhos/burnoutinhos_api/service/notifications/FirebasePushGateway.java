@@ -0,0 +1,72 @@
+package com.burnoutinhos.burnoutinhos_api.service.notifications;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import java.util.Collections;
+import java.util.List;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link PushGateway} sobre o Firebase Cloud Messaging: cada lote é uma única
+ * chamada {@code sendEach} (API HTTP v1).
+ */
+@Component
+@Profile("!test")
+@Log4j2
+public class FirebasePushGateway implements PushGateway {
+
+    @Override
+    public List<Result> sendEach(List<Message> messages) {
+        List<com.google.firebase.messaging.Message> firebaseMessages = messages
+            .stream()
+            .map(message ->
+                com.google.firebase.messaging.Message.builder()
+                    .setToken(message.token())
+                    .setNotification(
+                        Notification.builder()
+                            .setTitle(message.title())
+                            .setBody(message.body())
+                            .build()
+                    )
+                    .putData("click_action", "FLUTTER_NOTIFICATION_CLICK")
+                    .build()
+            )
+            .toList();
+
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance().sendEach(
+                firebaseMessages
+            );
+            return response.getResponses().stream().map(this::toResult).toList();
+        } catch (FirebaseMessagingException e) {
+            // Falha do lote inteiro (ex: credenciais, indisponibilidade): o código não é
+            // de nenhum token, então vai marcado como falha de lote
+            log.error(
+                "Error sending batch of {} messages - Error: {}",
+                messages.size(),
+                e.getMessage()
+            );
+            return Collections.nCopies(
+                messages.size(),
+                Result.batchFailure(errorCode(e))
+            );
+        }
+    }
+
+    private Result toResult(SendResponse response) {
+        return response.isSuccessful()
+            ? Result.success()
+            : Result.failure(errorCode(response.getException()));
+    }
+
+    private String errorCode(FirebaseMessagingException e) {
+        return e.getMessagingErrorCode() != null
+            ? e.getMessagingErrorCode().name()
+            : e.getErrorCode().name();
+    }
+}
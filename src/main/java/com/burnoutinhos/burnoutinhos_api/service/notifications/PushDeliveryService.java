@@ -0,0 +1,148 @@
+package com.burnoutinhos.burnoutinhos_api.service.notifications;
+
+import com.burnoutinhos.burnoutinhos_api.model.dtos.PushTarget;
+import com.burnoutinhos.burnoutinhos_api.repository.PushTokenRepository;
+import com.burnoutinhos.burnoutinhos_api.service.PushTokenService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Entrega assíncrona das notificações criadas pelo scheduler como push notifications.
+ *
+ * {@link #deliver} apenas enfileira e retorna: deve ser chamado após o commit das
+ * notificações, para que nenhuma chamada ao provedor aconteça dentro de uma transação.
+ * Cada lote resolve os tokens de todos os seus usuários numa consulta e envia todas as
+ * mensagens pelo {@link FirebaseMessagingService}, em chamadas de até 500 mensagens.
+ * Tokens que o Firebase reporta como mortos são removidos após o envio. Acima de
+ * {@code max-pending} notificações aguardando, novos lotes são descartados (a
+ * notificação continua gravada e visível no app).
+ *
+ * Métricas: {@code push.sent} (tag result=success|failure), {@code push.dropped},
+ * {@code push.pending} e {@code push.batch} (tempo por lote).
+ */
+@Service
+@Log4j2
+public class PushDeliveryService {
+
+    /**
+     * Notificação a entregar para todos os dispositivos do usuário.
+     */
+    public record Push(Long userId, String body) {}
+
+    private final PushTokenRepository pushTokenRepository;
+    private final FirebaseMessagingService firebaseMessagingService;
+    private final PushTokenService pushTokenService;
+    private final String title;
+    private final int maxPending;
+    private final ExecutorService executor;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter dropped;
+    private final Timer batchTimer;
+
+    public PushDeliveryService(
+        PushTokenRepository pushTokenRepository,
+        FirebaseMessagingService firebaseMessagingService,
+        PushTokenService pushTokenService,
+        @Value("${push.title:Burnoutinhos}") String title,
+        @Value("${push.max-pending:10000}") int maxPending,
+        MeterRegistry meterRegistry
+    ) {
+        this.pushTokenRepository = pushTokenRepository;
+        this.firebaseMessagingService = firebaseMessagingService;
+        this.pushTokenService = pushTokenService;
+        this.title = title;
+        this.maxPending = maxPending;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        this.delivered = Counter.builder("push.sent")
+            .tag("result", "success")
+            .register(meterRegistry);
+        this.failed = Counter.builder("push.sent")
+            .tag("result", "failure")
+            .register(meterRegistry);
+        this.dropped = Counter.builder("push.dropped").register(meterRegistry);
+        this.batchTimer = Timer.builder("push.batch").register(meterRegistry);
+        Gauge.builder("push.pending", pending, AtomicInteger::get).register(
+            meterRegistry
+        );
+    }
+
+    /**
+     * Enfileira a entrega de um lote de notificações e retorna imediatamente.
+     */
+    public void deliver(List<Push> pushes) {
+        if (pushes.isEmpty()) {
+            return;
+        }
+
+        if (pending.addAndGet(pushes.size()) > maxPending) {
+            pending.addAndGet(-pushes.size());
+            dropped.increment(pushes.size());
+            log.warn(
+                "Fila de push cheia: {} notificações não serão enviadas",
+                pushes.size()
+            );
+            return;
+        }
+
+        executor.submit(() -> {
+            try {
+                batchTimer.record(() -> deliverBatch(pushes));
+            } catch (Exception e) {
+                log.error("Erro ao entregar lote de push: {}", e.getMessage(), e);
+            } finally {
+                pending.addAndGet(-pushes.size());
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private void deliverBatch(List<Push> pushes) {
+        Map<Long, List<String>> tokensByUser = pushTokenRepository
+            .findTargetsByUserIds(
+                pushes.stream().map(Push::userId).distinct().toList()
+            )
+            .stream()
+            .filter(target -> target.token() != null && !target.token().isBlank())
+            .collect(
+                Collectors.groupingBy(
+                    PushTarget::userId,
+                    Collectors.mapping(PushTarget::token, Collectors.toList())
+                )
+            );
+
+        List<PushGateway.Message> messages = pushes
+            .stream()
+            .flatMap(push ->
+                tokensByUser
+                    .getOrDefault(push.userId(), List.of())
+                    .stream()
+                    .map(token -> new PushGateway.Message(token, title, push.body()))
+            )
+            .toList();
+
+        DeliveryReport report = firebaseMessagingService.send(messages);
+        delivered.increment(report.succeeded());
+        failed.increment(report.failed());
+        pushTokenService.pruneDeadTokens(report);
+    }
+}
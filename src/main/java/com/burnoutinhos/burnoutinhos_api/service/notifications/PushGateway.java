@@ -0,0 +1,51 @@
+package com.burnoutinhos.burnoutinhos_api.service.notifications;
+
+import java.util.List;
+
+/**
+ * Envio de push notifications em lote para tokens de dispositivo.
+ *
+ * Em produção é o {@link FirebasePushGateway}; os testes usam um gateway falso que
+ * apenas registra as mensagens.
+ */
+public interface PushGateway {
+    // Limite de mensagens por chamada do FCM (sendEach)
+    int MAX_BATCH_SIZE = 500;
+
+    // Prefixo dos códigos de erro de falhas do lote inteiro, não de um token
+    String BATCH_ERROR_PREFIX = "BATCH_";
+
+    record Message(String token, String title, String body) {}
+
+    /**
+     * Resultado do envio para um token.
+     *
+     * @param delivered true se o provedor aceitou a mensagem
+     * @param errorCode código de erro do provedor quando não entregue (ex: UNREGISTERED);
+     *     com o prefixo {@link #BATCH_ERROR_PREFIX} quando a chamada inteira falhou
+     */
+    record Result(boolean delivered, String errorCode) {
+        public static Result success() {
+            return new Result(true, null);
+        }
+
+        public static Result failure(String errorCode) {
+            return new Result(false, errorCode);
+        }
+
+        /**
+         * Falha da chamada inteira (credenciais, indisponibilidade, requisição
+         * recusada): não diz nada sobre o token, que não deve ser removido.
+         */
+        public static Result batchFailure(String errorCode) {
+            return new Result(false, BATCH_ERROR_PREFIX + errorCode);
+        }
+    }
+
+    /**
+     * Envia até {@link #MAX_BATCH_SIZE} mensagens numa única chamada.
+     *
+     * @return um resultado por mensagem, na mesma ordem
+     */
+    List<Result> sendEach(List<Message> messages);
+}
@@ -0,0 +1,223 @@
+package com.burnoutinhos.burnoutinhos_api.service.scheduler;
+
+import com.burnoutinhos.burnoutinhos_api.model.Todo;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoDeadline;
+import com.burnoutinhos.burnoutinhos_api.repository.TodoRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Lembretes de prazo próximo disparados por evento, em vez de esperar a verificação
+ * de hora em hora.
+ *
+ * Cada todo pendente com prazo dentro do {@code horizon} tem um timer no
+ * {@link DeadlineTimerWheel} para o momento em que entra na janela de prazo próximo
+ * ({@code end - DueWindow.DEADLINE_HOURS}). O wheel é alimentado pelo {@code TodoService}
+ * (save/update/delete, após o commit) e preenchido a partir do banco na subida e a cada
+ * {@code refresh}, o que também recolhe prazos gravados por outras instâncias.
+ *
+ * Com várias instâncias, todas podem ter o mesmo timer: um lease por todo garante que
+ * apenas uma chame a IA e o ledger de notificações que apenas uma envie o lembrete
+ * ({@link TaskNotificationScheduler#notifyDeadline}).
+ */
+@Service
+@Slf4j
+public class DeadlineReminderService {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TaskNotificationScheduler taskNotificationScheduler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${scheduler.deadline-timers.enabled:true}")
+    private boolean enabled;
+
+    // Resolução do wheel: lembretes disparam até um tick após abrir a janela
+    @Value("${scheduler.deadline-timers.tick:PT1S}")
+    private Duration tick;
+
+    // Prazos carregados do banco a cada refresh
+    @Value("${scheduler.deadline-timers.horizon:PT6H}")
+    private Duration horizon;
+
+    @Value("${scheduler.notifications.max-concurrency:32}")
+    private int maxConcurrency;
+
+    private DeadlineTimerWheel wheel;
+    private ScheduledExecutorService ticker;
+    private ExecutorService workers;
+    private Semaphore permits;
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+
+        wheel = new DeadlineTimerWheel(
+            tick.toMillis(),
+            64,
+            4,
+            System.currentTimeMillis()
+        );
+        workers = Executors.newVirtualThreadPerTaskExecutor();
+        permits = new Semaphore(maxConcurrency);
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "deadline-timer-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(
+            this::advance,
+            tick.toMillis(),
+            tick.toMillis(),
+            TimeUnit.MILLISECONDS
+        );
+
+        Gauge.builder("scheduler.deadline_timers.pending", wheel, DeadlineTimerWheel::size)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            workers.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Agenda, reagenda ou cancela o lembrete do todo conforme o estado salvo.
+     * Dentro de uma transação, só é aplicado após o commit.
+     */
+    public void onTodoSaved(Todo todo) {
+        if (!enabled || todo.getId() == null) {
+            return;
+        }
+
+        Long id = todo.getId();
+        LocalDateTime end = todo.isCompleted() ? null : todo.getEnd();
+        afterCommit(() -> {
+            if (end == null) {
+                wheel.cancel(id);
+            } else {
+                schedule(id, end);
+            }
+        });
+    }
+
+    public void onTodoDeleted(Long id) {
+        if (!enabled || id == null) {
+            return;
+        }
+        afterCommit(() -> wheel.cancel(id));
+    }
+
+    /**
+     * Carrega os prazos pendentes dentro do horizonte. A primeira execução, na subida,
+     * reconstrói o wheel; nas seguintes, só entram os todos que não estão no wheel
+     * (novos, disparados sem envio ou com prazo alterado por outra instância).
+     */
+    @Scheduled(fixedRateString = "${scheduler.deadline-timers.refresh:PT1H}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TodoDeadline> deadlines = todoRepository.findPendingDeadlinesBetween(
+            now,
+            now.plus(horizon)
+        );
+        long scheduled = deadlines
+            .stream()
+            .filter(deadline -> schedule(deadline.id(), deadline.end()))
+            .count();
+        log.info(
+            "⏲️ {} de {} prazos agendados no timer wheel ({} pendentes)",
+            scheduled,
+            deadlines.size(),
+            wheel.size()
+        );
+    }
+
+    private boolean schedule(Long id, LocalDateTime end) {
+        LocalDateTime windowOpens = end.minusHours(DueWindow.DEADLINE_HOURS);
+        // Um tick a mais garante que o prazo já esteja dentro da janela ao disparar
+        long fireAt =
+            windowOpens.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() +
+            tick.toMillis();
+        return wheel.schedule(id, fireAt);
+    }
+
+    private void advance() {
+        try {
+            for (Long todoId : wheel.advanceTo(System.currentTimeMillis())) {
+                workers.submit(() -> fire(todoId));
+            }
+        } catch (Exception e) {
+            log.error("❌ Erro ao avançar o timer wheel: {}", e.getMessage(), e);
+        }
+    }
+
+    private void fire(Long todoId) {
+        try {
+            permits.acquire();
+            try {
+                taskNotificationScheduler.notifyDeadline(todoId);
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error(
+                "❌ Erro ao enviar lembrete de prazo do todo {}: {}",
+                todoId,
+                e.getMessage(),
+                e
+            );
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                }
+            );
+        } else {
+            action.run();
+        }
+    }
+}
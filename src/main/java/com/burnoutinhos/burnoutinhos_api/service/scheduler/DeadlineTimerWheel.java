@@ -0,0 +1,170 @@
+package com.burnoutinhos.burnoutinhos_api.service.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Timer wheel hierárquico de prazos, indexado pelo id do todo.
+ *
+ * O nível 0 tem {@code wheelSize} slots de {@code tickMillis}; cada nível seguinte
+ * tem slots {@code wheelSize} vezes maiores. Um timer fica no nível mais baixo que
+ * cobre o seu horário e desce de nível quando o slot dele é alcançado, então agendar,
+ * cancelar e avançar um tick custam O(1) independentemente de quantos timers existem.
+ * Horários além do último nível ficam no último slot e são reposicionados quando ele
+ * é alcançado.
+ *
+ * Os métodos são sincronizados: o avanço é feito por uma única thread e os
+ * agendamentos podem vir de qualquer thread.
+ */
+public class DeadlineTimerWheel {
+
+    private static final class Timer {
+
+        private final long id;
+        private final long fireAtMillis;
+        private boolean cancelled;
+
+        private Timer(long id, long fireAtMillis) {
+            this.id = id;
+            this.fireAtMillis = fireAtMillis;
+        }
+    }
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] spans;
+    private final List<List<List<Timer>>> levels;
+    private final Map<Long, Timer> timersById = new HashMap<>();
+    private final List<Timer> ready = new ArrayList<>();
+    private long currentTick;
+
+    public DeadlineTimerWheel(
+        long tickMillis,
+        int wheelSize,
+        int levelCount,
+        long startMillis
+    ) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.spans = new long[levelCount];
+        this.levels = new ArrayList<>(levelCount);
+
+        long span = 1;
+        for (int level = 0; level < levelCount; level++) {
+            spans[level] = span;
+            List<List<Timer>> slots = new ArrayList<>(wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots.add(new ArrayList<>());
+            }
+            levels.add(slots);
+            span = Math.multiplyExact(span, wheelSize);
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Agenda (ou reagenda) o timer {@code id} para {@code fireAtMillis}. Horários
+     * já passados disparam no próximo avanço. Um timer já agendado para o mesmo
+     * horário é mantido: reagendar deixaria o anterior cancelado ocupando o slot até
+     * ser alcançado.
+     *
+     * @return true se um timer novo foi agendado
+     */
+    public synchronized boolean schedule(long id, long fireAtMillis) {
+        Timer existing = timersById.get(id);
+        if (existing != null && existing.fireAtMillis == fireAtMillis) {
+            return false;
+        }
+
+        cancel(id);
+        Timer timer = new Timer(id, fireAtMillis);
+        timersById.put(id, timer);
+        place(timer);
+        return true;
+    }
+
+    public synchronized void cancel(long id) {
+        Timer timer = timersById.remove(id);
+        if (timer != null) {
+            timer.cancelled = true;
+        }
+    }
+
+    public synchronized int size() {
+        return timersById.size();
+    }
+
+    /**
+     * Avança o wheel até {@code nowMillis}.
+     *
+     * @return ids dos timers que venceram, em ordem de disparo
+     */
+    public synchronized List<Long> advanceTo(long nowMillis) {
+        List<Long> fired = new ArrayList<>();
+        collect(ready, fired);
+        ready.clear();
+
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // Desce os timers dos níveis superiores cujo slot começa neste tick
+            for (int level = spans.length - 1; level > 0; level--) {
+                if (currentTick % spans[level] == 0) {
+                    List<Timer> slot = slot(level, currentTick / spans[level]);
+                    List<Timer> cascading = new ArrayList<>(slot);
+                    slot.clear();
+                    cascading.forEach(this::place);
+                }
+            }
+
+            List<Timer> expired = slot(0, currentTick);
+            collect(expired, fired);
+            expired.clear();
+
+            collect(ready, fired);
+            ready.clear();
+        }
+        return fired;
+    }
+
+    private void place(Timer timer) {
+        if (timer.cancelled) {
+            return;
+        }
+
+        long fireTick = timer.fireAtMillis / tickMillis;
+        if (fireTick <= currentTick) {
+            ready.add(timer);
+            return;
+        }
+
+        for (int level = 0; level < spans.length; level++) {
+            long bucket = fireTick / spans[level];
+            if (bucket - currentTick / spans[level] < wheelSize) {
+                slot(level, bucket).add(timer);
+                return;
+            }
+        }
+
+        // Além do último nível: fica no slot mais distante e é reposicionado depois
+        int top = spans.length - 1;
+        slot(top, currentTick / spans[top] + wheelSize - 1).add(timer);
+    }
+
+    private List<Timer> slot(int level, long bucket) {
+        return levels.get(level).get((int) (bucket % wheelSize));
+    }
+
+    private void collect(List<Timer> timers, List<Long> fired) {
+        for (Timer timer : timers) {
+            if (!timer.cancelled) {
+                timer.cancelled = true;
+                timersById.remove(timer.id);
+                fired.add(timer.id);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.burnoutinhos.burnoutinhos_api.service.scheduler;
+
+import com.burnoutinhos.burnoutinhos_api.model.dtos.DueTodo;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Janela de verificação de uma execução do {@link TaskNotificationScheduler}.
+ *
+ * Calculada uma única vez por execução, para que as consultas ao banco e a
+ * classificação em memória usem exatamente os mesmos limites.
+ *
+ * @param now instante da execução
+ * @param dayStart início do dia atual (inclusivo)
+ * @param dayEnd início do dia seguinte (exclusivo)
+ * @param deadlineLimit limite da janela de prazo próximo (exclusivo)
+ */
+public record DueWindow(
+    LocalDateTime now,
+    LocalDateTime dayStart,
+    LocalDateTime dayEnd,
+    LocalDateTime deadlineLimit
+) {
+    // Antecedência das notificações de prazo próximo
+    public static final int DEADLINE_HOURS = 2;
+
+    public static DueWindow startingAt(LocalDateTime now) {
+        LocalDateTime dayStart = now.toLocalDate().atStartOfDay();
+        return new DueWindow(
+            now,
+            dayStart,
+            dayStart.plusDays(1),
+            now.plusHours(DEADLINE_HOURS)
+        );
+    }
+
+    /**
+     * Dia da execução, usado como chave do ledger de notificações.
+     */
+    public LocalDate day() {
+        return dayStart.toLocalDate();
+    }
+
+    /**
+     * Verifica se a tarefa é para hoje.
+     *
+     * @return true se a tarefa tem início ou fim hoje
+     */
+    public boolean isTaskForToday(DueTodo task) {
+        return isToday(task.start()) || isToday(task.end());
+    }
+
+    /**
+     * Verifica se a tarefa está próxima do prazo de conclusão.
+     *
+     * @return true se a tarefa termina nas próximas {@value #DEADLINE_HOURS} horas
+     */
+    public boolean isTaskNearDeadline(DueTodo task) {
+        return (
+            task.end() != null &&
+            task.end().isAfter(now) &&
+            task.end().isBefore(deadlineLimit)
+        );
+    }
+
+    private boolean isToday(LocalDateTime dateTime) {
+        return (
+            dateTime != null &&
+            !dateTime.isBefore(dayStart) &&
+            dateTime.isBefore(dayEnd)
+        );
+    }
+}
@@ -0,0 +1,226 @@
+package com.burnoutinhos.burnoutinhos_api.service.scheduler;
+
+import com.burnoutinhos.burnoutinhos_api.model.NotificationLedgerEntry;
+import com.burnoutinhos.burnoutinhos_api.model.enums.NotificationKind;
+import com.burnoutinhos.burnoutinhos_api.repository.NotificationLedgerRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Ledger das notificações agendadas já enviadas (tabela {@code notification_ledger}).
+ *
+ * Na frente do banco fica o cache {@code notificationLedger} (Caffeine, LRU com TTL),
+ * que guarda apenas chaves sabidamente enviadas: uma chave ausente do cache é
+ * conferida no banco, numa única consulta por lote de usuários. Assim o cache nunca
+ * responde "não enviado" por engano, mesmo com várias instâncias ou após reinício.
+ *
+ * Entradas de dias anteriores a {@code retention-days} são removidas diariamente.
+ */
+@Service
+@Slf4j
+public class NotificationLedgerService {
+
+    public static final String LEDGER_CACHE = "notificationLedger";
+    public static final String SWEEP_JOB_NAME = "notification-ledger-sweep";
+
+    /**
+     * Chave de deduplicação: (usuário, todo, tipo, dia).
+     */
+    public record Key(
+        Long userId,
+        Long todoId,
+        NotificationKind kind,
+        LocalDate day
+    ) {
+        public static Key of(
+            Long userId,
+            Long todoId,
+            NotificationKind kind,
+            LocalDate day
+        ) {
+            return new Key(
+                userId,
+                todoId != null ? todoId : NotificationLedgerEntry.NO_TODO,
+                kind,
+                day
+            );
+        }
+    }
+
+    @Autowired
+    private NotificationLedgerRepository repository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private SchedulerLeaseService leaseService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${notifications.ledger.retention-days:7}")
+    private int retentionDays;
+
+    /**
+     * Retorna, dentre {@code candidates}, as chaves que já foram enviadas.
+     * Consulta o banco apenas para os usuários com alguma chave fora do cache.
+     */
+    public Set<Key> findSent(Collection<Key> candidates) {
+        Cache cache = cacheManager.getCache(LEDGER_CACHE);
+        Set<Key> sent = new HashSet<>();
+        Set<Key> unknown = new HashSet<>();
+
+        for (Key key : candidates) {
+            if (cache.get(key) != null) {
+                sent.add(key);
+            } else {
+                unknown.add(key);
+            }
+        }
+        if (unknown.isEmpty()) {
+            return sent;
+        }
+
+        Map<LocalDate, Set<Long>> usersByDay = unknown
+            .stream()
+            .collect(
+                Collectors.groupingBy(
+                    Key::day,
+                    Collectors.mapping(Key::userId, Collectors.toSet())
+                )
+            );
+        usersByDay.forEach((day, userIds) -> {
+            for (NotificationLedgerEntry entry : repository.findByDayAndUserIdIn(
+                day,
+                userIds
+            )) {
+                Key key = new Key(
+                    entry.getUserId(),
+                    entry.getTodoId(),
+                    entry.getKind(),
+                    entry.getDay()
+                );
+                cache.put(key, Boolean.TRUE);
+                if (unknown.contains(key)) {
+                    sent.add(key);
+                }
+            }
+        });
+        return sent;
+    }
+
+    /**
+     * Registra as chaves como enviadas. Deve ser chamado dentro da transação que grava
+     * as notificações; o cache só é atualizado após o commit.
+     */
+    public void record(Collection<Key> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        List<NotificationLedgerEntry> entries = keys
+            .stream()
+            .map(key ->
+                new NotificationLedgerEntry(
+                    key.userId(),
+                    key.todoId(),
+                    key.kind(),
+                    key.day()
+                )
+            )
+            .toList();
+        repository.saveAll(entries);
+
+        Runnable addToCache = () -> {
+            Cache cache = cacheManager.getCache(LEDGER_CACHE);
+            keys.forEach(key -> cache.put(key, Boolean.TRUE));
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        addToCache.run();
+                    }
+                }
+            );
+        } else {
+            addToCache.run();
+        }
+    }
+
+    /**
+     * Registra a chave como enviada e executa {@code work} (a gravação da notificação)
+     * na mesma transação, se a chave ainda não estiver no ledger. A restrição única da
+     * tabela garante que, entre instâncias concorrentes, apenas uma obtenha
+     * {@code true}; como o registro e a notificação são confirmados juntos, uma falha
+     * entre os dois não deixa a chave registrada sem a notificação.
+     *
+     * @return true se esta chamada registrou a chave e gravou a notificação
+     */
+    public boolean tryClaim(Key key, Runnable work) {
+        Cache cache = cacheManager.getCache(LEDGER_CACHE);
+        if (cache.get(key) != null) {
+            return false;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                repository.saveAndFlush(
+                    new NotificationLedgerEntry(
+                        key.userId(),
+                        key.todoId(),
+                        key.kind(),
+                        key.day()
+                    )
+                );
+                work.run();
+            });
+            cache.put(key, Boolean.TRUE);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Outra instância registrou primeiro
+            cache.put(key, Boolean.TRUE);
+            return false;
+        }
+    }
+
+    /**
+     * Remove entradas mais antigas que {@code retention-days}. Roda em apenas uma
+     * instância por dia (lease {@value #SWEEP_JOB_NAME}).
+     */
+    @Scheduled(cron = "${notifications.ledger.sweep-cron:0 30 3 * * *}")
+    public void sweep() {
+        if (!leaseService.tryAcquire(SWEEP_JOB_NAME, Duration.ofHours(23))) {
+            return;
+        }
+
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+        Integer removed = transactionTemplate.execute(status ->
+            repository.deleteByDayBefore(cutoff)
+        );
+        log.info(
+            "🧹 {} entradas do ledger de notificações anteriores a {} removidas",
+            removed,
+            cutoff
+        );
+    }
+}
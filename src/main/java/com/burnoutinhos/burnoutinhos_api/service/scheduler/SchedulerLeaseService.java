@@ -0,0 +1,104 @@
+package com.burnoutinhos.burnoutinhos_api.service.scheduler;
+
+import com.burnoutinhos.burnoutinhos_api.model.SchedulerLease;
+import com.burnoutinhos.burnoutinhos_api.repository.SchedulerLeaseRepository;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Leases de jobs agendados guardados na tabela {@code scheduler_lease}, para que
+ * apenas uma instância execute cada job (ou shard) por vez.
+ *
+ * Os horários usam o relógio da aplicação: a diferença entre os relógios das
+ * instâncias deve ser bem menor que a duração do lease.
+ */
+@Service
+@Slf4j
+public class SchedulerLeaseService {
+
+    private static final LocalDateTime NEVER = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private SchedulerLeaseRepository repository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final String nodeId;
+
+    public SchedulerLeaseService(
+        @Value("${scheduler.node-id:}") String configuredNodeId
+    ) {
+        this.nodeId = configuredNodeId.isBlank()
+            ? defaultNodeId()
+            : configuredNodeId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Tenta adquirir (ou renovar) o lease {@code name} por {@code duration}.
+     *
+     * @return true se esta instância é a dona do lease até o fim de {@code duration}
+     */
+    public boolean tryAcquire(String name, Duration duration) {
+        createIfMissing(name);
+
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = transactionTemplate.execute(status ->
+            repository.tryAcquire(name, nodeId, now, now.plus(duration))
+        );
+        boolean acquired = updated != null && updated == 1;
+
+        if (acquired) {
+            log.debug("🔒 Lease {} adquirido por {}", name, nodeId);
+        } else {
+            log.debug("Lease {} pertence a outra instância", name);
+        }
+        return acquired;
+    }
+
+    /**
+     * Libera o lease {@code name} se ele pertencer a esta instância, para que outra
+     * possa assumi-lo sem esperar a expiração.
+     */
+    public void release(String name) {
+        transactionTemplate.executeWithoutResult(status ->
+            repository.release(name, nodeId)
+        );
+        log.debug("🔓 Lease {} liberado por {}", name, nodeId);
+    }
+
+    private void createIfMissing(String name) {
+        if (repository.existsById(name)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                repository.saveAndFlush(new SchedulerLease(name, null, null, NEVER))
+            );
+        } catch (DataIntegrityViolationException e) {
+            // Outra instância criou a linha ao mesmo tempo
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
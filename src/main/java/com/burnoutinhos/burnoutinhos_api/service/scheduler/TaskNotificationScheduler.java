@@ -1,21 +1,49 @@
 package com.burnoutinhos.burnoutinhos_api.service.scheduler;
 
-import com.burnoutinhos.burnoutinhos_api.model.AppUser;
 import com.burnoutinhos.burnoutinhos_api.model.Notification;
-import com.burnoutinhos.burnoutinhos_api.model.Todo;
+import com.burnoutinhos.burnoutinhos_api.model.SchedulerCheckpoint;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.DueTodo;
 import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoEventDTO;
+import com.burnoutinhos.burnoutinhos_api.model.enums.NotificationKind;
 import com.burnoutinhos.burnoutinhos_api.repository.AppUserRepository;
 import com.burnoutinhos.burnoutinhos_api.repository.NotificationRepository;
+import com.burnoutinhos.burnoutinhos_api.repository.SchedulerCheckpointRepository;
 import com.burnoutinhos.burnoutinhos_api.repository.TodoRepository;
+import com.burnoutinhos.burnoutinhos_api.service.ai.AiWorkScheduler;
 import com.burnoutinhos.burnoutinhos_api.service.ai.OpenAIService;
-import java.time.LocalDate;
+import com.burnoutinhos.burnoutinhos_api.service.cache.CacheEvictionService;
+import com.burnoutinhos.burnoutinhos_api.service.notifications.PushDeliveryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Scheduler que verifica tarefas pendentes a cada hora e envia notificações
@@ -25,6 +53,11 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class TaskNotificationScheduler {
 
+    public static final String JOB_NAME = "task-notifications";
+
+    // Lease por todo: só a instância que o obtiver chama a IA para o lembrete
+    static final String DEADLINE_CLAIM_PREFIX = "deadline-reminder:";
+
     @Autowired
     private TodoRepository todoRepository;
 
@@ -37,159 +70,718 @@ public class TaskNotificationScheduler {
     @Autowired
     private OpenAIService openAIService;
 
+    @Autowired
+    private CacheEvictionService cacheEvictionService;
+
+    @Autowired
+    private SchedulerCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SchedulerLeaseService leaseService;
+
+    @Autowired
+    private NotificationLedgerService ledgerService;
+
+    @Autowired
+    private PushDeliveryService pushDeliveryService;
+
+    @Value("${scheduler.notifications.chunk-size:500}")
+    private int chunkSize;
+
+    // Até quando uma execução interrompida é retomada na mesma janela
+    @Value("${scheduler.notifications.resume-window:PT1H}")
+    private Duration resumeWindow;
+
+    // Usuários processados em paralelo (virtual threads), limitando chamadas simultâneas à IA
+    @Value("${scheduler.notifications.max-concurrency:32}")
+    private int maxConcurrency;
+
+    // Tempo máximo de uma execução; o que sobrar fica para a próxima
+    @Value("${scheduler.notifications.run-deadline:PT30M}")
+    private Duration runDeadline;
+
+    // Divisão dos usuários entre as instâncias (user_id % shards)
+    @Value("${scheduler.notifications.shards:1}")
+    private int shardCount;
+
+    // Prazo do lease de um shard no slot, caso a instância caia sem liberá-lo
+    @Value("${scheduler.notifications.lease-duration:PT55M}")
+    private Duration leaseDuration;
+
+    // Lembretes de prazo próximo enviados pelo DeadlineReminderService em vez da varredura
+    @Value("${scheduler.deadline-timers.enabled:true}")
+    private boolean deadlineTimersEnabled;
+
+    // Duração do lease de um lembrete de prazo; maior que a espera pela IA
+    @Value("${scheduler.deadline-timers.claim-duration:PT5M}")
+    private Duration deadlineClaimDuration;
+
     /**
-     * Executa a cada 1 hora (3600000 ms).
+     * Notificação calculada fora de transação e gravada junto com o checkpoint do lote
+     * e a chave do ledger.
+     */
+    private record PendingNotification(
+        NotificationLedgerService.Key key,
+        String message
+    ) {
+        Long userId() {
+            return key.userId();
+        }
+    }
+
+    /**
+     * Notificações calculadas para um lote e usuários que não puderam ser processados
+     * (falha ou prazo esgotado).
+     */
+    private record ChunkResult(
+        List<PendingNotification> notifications,
+        Set<Long> failedUserIds
+    ) {}
+
+    /**
+     * Executa no início de cada hora (o slot da execução).
      * Verifica tarefas pendentes e envia notificações aos usuários.
+     *
+     * Em vez de carregar todos os usuários e suas tarefas, busca apenas os todos
+     * pendentes que caem na janela de verificação (consultas por faixa em start/end_time),
+     * em lotes de usuários paginados por id.
+     *
+     * Não há transação envolvendo a execução inteira: cada lote lê projeções, gera as
+     * mensagens (incluindo as chamadas à IA) fora de transação e grava as notificações
+     * junto com o checkpoint numa transação curta. Uma execução interrompida é retomada
+     * do último lote gravado; o checkpoint nunca passa de um usuário que falhou ou não
+     * terminou a tempo, então a retomada volta a ele (o ledger evita repetir os demais).
+     *
+     * Dentro do lote, cada usuário é processado numa virtual thread, com no máximo
+     * {@code max-concurrency} usuários simultâneos. A execução inteira respeita
+     * {@code run-deadline}: usuários não concluídos até lá são ignorados nesta execução.
+     *
+     * Com várias instâncias, os usuários são divididos em {@code shards} por id. Cada
+     * shard é processado sob um lease do slot ({@link #slotLeaseName}), obtido só
+     * quando a instância vai processá-lo e liberado ao terminar; um shard já concluído
+     * no slot (checkpoint) não é processado de novo. Assim as instâncias dividem os
+     * shards entre si e cada shard roda uma vez por slot.
      */
-    @Scheduled(fixedRate = 3600000)
-    @Transactional
+    @Scheduled(cron = "${scheduler.notifications.cron:0 0 * * * *}")
     public void checkPendingTasksAndNotify() {
         log.info("🔔 Iniciando verificação de tarefas pendentes...");
 
+        LocalDateTime slot = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        Instant deadline = Instant.now().plus(runDeadline);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        Semaphore permits = new Semaphore(maxConcurrency);
         try {
-            List<AppUser> allUsers = appUserRepository.findAll();
-            log.info("📊 Verificando tarefas de {} usuários", allUsers.size());
-
-            int totalNotifications = 0;
-
-            for (AppUser user : allUsers) {
-                int userNotifications = processUserTasks(user);
-                totalNotifications += userNotifications;
-            }
-
-            log.info(
-                "✅ Verificação concluída. Total de {} notificações enviadas.",
-                totalNotifications
+            // Cada instância começa por um shard diferente para dividir o trabalho
+            int offset = Math.floorMod(
+                leaseService.getNodeId().hashCode(),
+                shardCount
             );
+            for (int i = 0; i < shardCount; i++) {
+                if (!Instant.now().isBefore(deadline)) {
+                    break;
+                }
+
+                int shard = (offset + i) % shardCount;
+                String jobName = shardJobName(shard);
+                String lease = slotLeaseName(jobName, slot);
+                if (!leaseService.tryAcquire(lease, leaseDuration)) {
+                    log.info("⏭️ {} está com outra instância", lease);
+                    continue;
+                }
+
+                try {
+                    runShard(shard, jobName, slot, executor, permits, deadline);
+                } finally {
+                    leaseService.release(lease);
+                }
+            }
         } catch (Exception e) {
             log.error(
                 "❌ Erro ao processar verificação de tarefas: {}",
                 e.getMessage(),
                 e
             );
+        } finally {
+            // Não espera chamadas à IA ainda pendentes após o prazo
+            executor.shutdownNow();
         }
     }
 
     /**
-     * Processa as tarefas de um usuário específico e cria notificações.
-     *
-     * @param user Usuário cujas tarefas serão processadas
-     * @return Número de notificações criadas para este usuário
+     * Percorre em lotes os usuários do shard a partir do checkpoint.
      */
-    private int processUserTasks(AppUser user) {
-        int notificationCount = 0;
+    private void runShard(
+        int shard,
+        String jobName,
+        LocalDateTime slot,
+        ExecutorService executor,
+        Semaphore permits,
+        Instant deadline
+    ) {
+        Optional<SchedulerCheckpoint> started = startOrResume(
+            jobName,
+            LocalDateTime.now(),
+            slot
+        );
+        if (started.isEmpty()) {
+            log.info("⏭️ {} já concluído no slot {}", jobName, slot);
+            return;
+        }
+        SchedulerCheckpoint checkpoint = started.get();
+        DueWindow window = DueWindow.startingAt(checkpoint.getRunStartedAt());
+
+        int totalUsers = 0;
+        int totalNotifications = 0;
+        int totalFailures = 0;
+        Long lastUserId = checkpoint.getLastUserId();
+        // Último usuário processado sem nenhuma falha antes dele nesta execução
+        Long checkpointUserId = lastUserId;
+        boolean gap = false;
+
+        while (Instant.now().isBefore(deadline)) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+
+            List<Long> userIds = todoRepository.findUserIdsWithDueTodos(
+                shard,
+                shardCount,
+                lastUserId,
+                window.dayStart(),
+                window.dayEnd(),
+                window.now(),
+                window.deadlineLimit(),
+                PageRequest.of(0, chunkSize)
+            );
+            if (userIds.isEmpty()) {
+                completeRun(jobName);
+                log.info(
+                    "✅ Verificação de {} concluída. {} usuários com tarefas na janela, {} notificações enviadas, {} usuários com falha.",
+                    jobName,
+                    totalUsers,
+                    totalNotifications,
+                    totalFailures
+                );
+                return;
+            }
 
-        try {
-            // Busca tarefas não concluídas do usuário
-            List<Todo> pendingTasks = todoRepository.findByUserAndIsCompleted(
-                user,
-                false
+            ChunkResult result = processChunk(
+                userIds,
+                window,
+                executor,
+                permits,
+                deadline
+            );
+            // Usuários que falharam ficam para a próxima execução (ou a retomada)
+            for (Long userId : userIds) {
+                if (gap || result.failedUserIds().contains(userId)) {
+                    gap = true;
+                    break;
+                }
+                checkpointUserId = userId;
+            }
+            int saved = saveChunk(
+                jobName,
+                result.notifications(),
+                checkpointUserId
             );
 
-            if (pendingTasks.isEmpty()) {
-                log.debug(
-                    "Usuário {} não possui tarefas pendentes",
-                    user.getEmail()
+            sample.stop(meterRegistry.timer("scheduler.notifications.chunk"));
+            meterRegistry.counter("scheduler.notifications.created").increment(saved);
+
+            totalUsers += userIds.size();
+            totalNotifications += saved;
+            totalFailures += result.failedUserIds().size();
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+
+        log.warn(
+            "⏱️ Prazo de {} esgotado; {} interrompido após o usuário {}",
+            runDeadline,
+            jobName,
+            lastUserId
+        );
+    }
+
+    /**
+     * Nome do job (lease e checkpoint) de um shard. Com um único shard mantém o nome
+     * do job; o número de shards faz parte do nome para que checkpoints de outra
+     * divisão não sejam retomados.
+     */
+    private String shardJobName(int shard) {
+        return shardCount == 1
+            ? JOB_NAME
+            : JOB_NAME + ":" + shard + "/" + shardCount;
+    }
+
+    /**
+     * Nome do lease de um shard num slot. O slot faz parte do nome: o lease vale só
+     * para aquela hora e a execução do slot seguinte não depende da expiração dele.
+     */
+    static String slotLeaseName(String jobName, LocalDateTime slot) {
+        return jobName + "@" + slot.truncatedTo(ChronoUnit.HOURS);
+    }
+
+    /**
+     * Retoma a execução interrompida mais recente, se ainda estiver dentro de
+     * {@code resumeWindow}; caso contrário inicia uma nova execução a partir de {@code now}.
+     * Vazio se o shard já concluiu uma execução iniciada neste {@code slot}.
+     */
+    private Optional<SchedulerCheckpoint> startOrResume(
+        String jobName,
+        LocalDateTime now,
+        LocalDateTime slot
+    ) {
+        return transactionTemplate.execute(status -> {
+            SchedulerCheckpoint checkpoint = checkpointRepository
+                .findById(jobName)
+                .orElseGet(() -> {
+                    SchedulerCheckpoint created = new SchedulerCheckpoint();
+                    created.setJobName(jobName);
+                    created.setCompleted(true);
+                    return created;
+                });
+
+            if (
+                !checkpoint.isCompleted() &&
+                checkpoint.getRunStartedAt().isAfter(now.minus(resumeWindow))
+            ) {
+                log.info(
+                    "↩️ Retomando execução de {} a partir do usuário {}",
+                    checkpoint.getRunStartedAt(),
+                    checkpoint.getLastUserId()
                 );
-                return 0;
+                return Optional.of(checkpoint);
+            }
+            if (
+                checkpoint.isCompleted() &&
+                checkpoint.getRunStartedAt() != null &&
+                !checkpoint.getRunStartedAt().isBefore(slot)
+            ) {
+                return Optional.empty();
+            }
+
+            checkpoint.setRunStartedAt(now);
+            checkpoint.setLastUserId(0L);
+            checkpoint.setCompleted(false);
+            return Optional.of(checkpointRepository.save(checkpoint));
+        });
+    }
+
+    private void completeRun(String jobName) {
+        transactionTemplate.executeWithoutResult(status ->
+            checkpointRepository
+                .findById(jobName)
+                .ifPresent(checkpoint -> checkpoint.setCompleted(true))
+        );
+    }
+
+    /**
+     * Lê as tarefas do lote e calcula as notificações, sem abrir transação
+     * (as chamadas à IA não seguram conexão nem contexto de persistência).
+     * Os usuários são processados em paralelo; a falha ou o atraso de um usuário
+     * não afeta os demais. Notificações já registradas no ledger para o dia são
+     * descartadas antes de qualquer chamada à IA.
+     */
+    private ChunkResult processChunk(
+        List<Long> userIds,
+        DueWindow window,
+        ExecutorService executor,
+        Semaphore permits,
+        Instant deadline
+    ) {
+        Map<Long, List<DueTodo>> todosByUser = todoRepository
+            .findDueTodosByUserIds(
+                userIds,
+                window.dayStart(),
+                window.dayEnd(),
+                window.now(),
+                window.deadlineLimit()
+            )
+            .stream()
+            .collect(
+                Collectors.groupingBy(
+                    DueTodo::userId,
+                    LinkedHashMap::new,
+                    Collectors.toList()
+                )
+            );
+        Set<NotificationLedgerService.Key> alreadySent = ledgerService.findSent(
+            candidateKeys(todosByUser.values(), window)
+        );
+
+        Map<Long, Future<List<PendingNotification>>> futures =
+            new LinkedHashMap<>();
+        for (Map.Entry<Long, List<DueTodo>> entry : todosByUser.entrySet()) {
+            futures.put(
+                entry.getKey(),
+                executor.submit(() ->
+                    withPermit(permits, deadline, () ->
+                        processUserTasks(
+                            entry.getKey(),
+                            entry.getValue(),
+                            window,
+                            alreadySent
+                        )
+                    )
+                )
+            );
+        }
+
+        List<PendingNotification> notifications = new ArrayList<>();
+        Set<Long> failedUserIds = new HashSet<>();
+        for (Map.Entry<Long, Future<List<PendingNotification>>> entry : futures.entrySet()) {
+            Future<List<PendingNotification>> future = entry.getValue();
+            try {
+                long remaining = Duration.between(Instant.now(), deadline)
+                    .toMillis();
+                notifications.addAll(
+                    future.get(Math.max(remaining, 0), TimeUnit.MILLISECONDS)
+                );
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                failedUserIds.add(entry.getKey());
+                countUserFailure("timeout");
+                log.warn(
+                    "⏱️ Prazo esgotado ao processar o usuário {}",
+                    entry.getKey()
+                );
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                throw new IllegalStateException("Execução interrompida", e);
+            } catch (ExecutionException e) {
+                failedUserIds.add(entry.getKey());
+                if (e.getCause() instanceof TimeoutException) {
+                    countUserFailure("timeout");
+                    log.warn(
+                        "⏱️ Prazo esgotado antes de processar o usuário {}",
+                        entry.getKey()
+                    );
+                    continue;
+                }
+                countUserFailure("error");
+                log.error(
+                    "❌ Erro ao processar tarefas do usuário {}: {}",
+                    entry.getKey(),
+                    e.getCause().getMessage(),
+                    e.getCause()
+                );
+            }
+        }
+        return new ChunkResult(notifications, failedUserIds);
+    }
+
+    /**
+     * Executa {@code task} com uma das {@code max-concurrency} permissões,
+     * desistindo se o prazo da execução acabar antes de obter a permissão.
+     */
+    private List<PendingNotification> withPermit(
+        Semaphore permits,
+        Instant deadline,
+        Callable<List<PendingNotification>> task
+    ) throws Exception {
+        long remaining = Duration.between(Instant.now(), deadline).toMillis();
+        if (!permits.tryAcquire(Math.max(remaining, 0), TimeUnit.MILLISECONDS)) {
+            throw new TimeoutException("Prazo esgotado aguardando permissão");
+        }
+        try {
+            return task.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Chaves do ledger que as tarefas do lote gerariam nesta execução.
+     */
+    private List<NotificationLedgerService.Key> candidateKeys(
+        Collection<List<DueTodo>> todosByUser,
+        DueWindow window
+    ) {
+        List<NotificationLedgerService.Key> keys = new ArrayList<>();
+        for (List<DueTodo> dueTasks : todosByUser) {
+            for (DueTodo task : dueTasks) {
+                if (window.isTaskForToday(task)) {
+                    keys.add(dailySummaryKey(task.userId(), window));
+                }
+                if (!deadlineTimersEnabled && window.isTaskNearDeadline(task)) {
+                    keys.add(deadlineKey(task, window));
+                }
             }
+        }
+        return keys;
+    }
+
+    private NotificationLedgerService.Key dailySummaryKey(
+        Long userId,
+        DueWindow window
+    ) {
+        return NotificationLedgerService.Key.of(
+            userId,
+            null,
+            NotificationKind.DAILY_SUMMARY,
+            window.day()
+        );
+    }
+
+    private NotificationLedgerService.Key deadlineKey(
+        DueTodo task,
+        DueWindow window
+    ) {
+        return NotificationLedgerService.Key.of(
+            task.userId(),
+            task.id(),
+            NotificationKind.DEADLINE,
+            window.day()
+        );
+    }
+
+    private void countUserFailure(String reason) {
+        meterRegistry
+            .counter("scheduler.notifications.user_failures", "reason", reason)
+            .increment();
+    }
 
+    /**
+     * Grava as notificações do lote e avança o checkpoint na mesma transação.
+     *
+     * Se alguma chave foi registrada no ledger depois da conferência do lote (pelo
+     * timer wheel ou por outra instância), a transação inteira falha na restrição
+     * única; nesse caso cada notificação é gravada com o seu próprio registro no ledger
+     * ({@link NotificationLedgerService#tryClaim}), descartando as já registradas, e só
+     * então o checkpoint avança.
+     *
+     * @return quantidade de notificações gravadas
+     */
+    private int saveChunk(
+        String jobName,
+        List<PendingNotification> notifications,
+        Long checkpointUserId
+    ) {
+        List<PendingNotification> saved = notifications;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Notification> entities = notifications
+                    .stream()
+                    .map(this::toEntity)
+                    .toList();
+                notificationRepository.saveAll(entities);
+                ledgerService.record(
+                    notifications.stream().map(PendingNotification::key).toList()
+                );
+                advanceCheckpoint(jobName, checkpointUserId);
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.warn(
+                "Lote de {} com chaves já registradas no ledger; gravando uma a uma",
+                jobName
+            );
+            saved = notifications
+                .stream()
+                .filter(pending ->
+                    ledgerService.tryClaim(pending.key(), () ->
+                        notificationRepository.save(toEntity(pending))
+                    )
+                )
+                .toList();
+            transactionTemplate.executeWithoutResult(status ->
+                advanceCheckpoint(jobName, checkpointUserId)
+            );
+        }
+
+        // Notificações gravadas direto no repositório: invalida as páginas dos usuários
+        saved
+            .stream()
+            .map(PendingNotification::userId)
+            .distinct()
+            .forEach(userId ->
+                cacheEvictionService.evictUserPages("notifications", userId)
+            );
+
+        // Após o commit e fora da thread do scheduler
+        pushDeliveryService.deliver(saved.stream().map(this::toPush).toList());
+        return saved.size();
+    }
+
+    private void advanceCheckpoint(String jobName, Long checkpointUserId) {
+        checkpointRepository
+            .findById(jobName)
+            .orElseThrow()
+            .setLastUserId(checkpointUserId);
+    }
+
+    private PushDeliveryService.Push toPush(PendingNotification pending) {
+        return new PushDeliveryService.Push(pending.userId(), pending.message());
+    }
+
+    private Notification toEntity(PendingNotification pending) {
+        Notification notification = new Notification();
+        // Referência sem SELECT: a notificação só precisa da FK do usuário
+        notification.setUser(appUserRepository.getReferenceById(pending.userId()));
+        notification.setMessage(pending.message());
+        return notification;
+    }
+
+    /**
+     * Processa as tarefas de um usuário específico e calcula suas notificações.
+     *
+     * @param userId Id do usuário cujas tarefas serão processadas
+     * @param dueTasks Tarefas pendentes do usuário dentro da janela de verificação
+     * @param window Janela de verificação da execução atual
+     * @param alreadySent Chaves do ledger já enviadas hoje (ignoradas)
+     * @return Notificações a criar para este usuário
+     */
+    private List<PendingNotification> processUserTasks(
+        Long userId,
+        List<DueTodo> dueTasks,
+        DueWindow window,
+        Set<NotificationLedgerService.Key> alreadySent
+    ) {
+        List<PendingNotification> notifications = new ArrayList<>();
+
+        try {
             // Verifica se há tarefas para hoje
-            List<Todo> tasksForToday = pendingTasks
+            List<DueTodo> tasksForToday = dueTasks
                 .stream()
-                .filter(this::isTaskForToday)
+                .filter(window::isTaskForToday)
                 .toList();
 
-            if (!tasksForToday.isEmpty()) {
-                createSimpleNotification(
-                    user,
-                    String.format(
-                        "📅 Você tem %d tarefa(s) para hoje!",
-                        tasksForToday.size()
+            NotificationLedgerService.Key summaryKey = dailySummaryKey(
+                userId,
+                window
+            );
+            if (
+                !tasksForToday.isEmpty() && !alreadySent.contains(summaryKey)
+            ) {
+                notifications.add(
+                    new PendingNotification(
+                        summaryKey,
+                        String.format(
+                            "📅 Você tem %d tarefa(s) para hoje!",
+                            tasksForToday.size()
+                        )
                     )
                 );
-                notificationCount++;
                 log.info(
-                    "✉️ Notificação de tarefas do dia enviada para {}",
-                    user.getEmail()
+                    "✉️ Notificação de tarefas do dia enviada para o usuário {}",
+                    userId
                 );
             }
 
-            // Verifica tarefas próximas de concluir (próximas 2 horas)
-            List<Todo> tasksNearDeadline = pendingTasks
-                .stream()
-                .filter(this::isTaskNearDeadline)
-                .toList();
+            // Verifica tarefas próximas de concluir (próximas 2 horas). Com o timer
+            // wheel ativo, esses lembretes são enviados pelo DeadlineReminderService
+            List<DueTodo> tasksNearDeadline = deadlineTimersEnabled
+                ? List.of()
+                : dueTasks
+                    .stream()
+                    .filter(window::isTaskNearDeadline)
+                    .filter(task ->
+                        !alreadySent.contains(deadlineKey(task, window))
+                    )
+                    .toList();
 
-            for (Todo task : tasksNearDeadline) {
+            for (DueTodo task : tasksNearDeadline) {
                 // Gera mensagem da IA para ajudar o usuário
                 String aiMessage = generateAIHelpMessage(task);
 
-                createNotificationWithAI(user, task, aiMessage);
-                notificationCount++;
+                notifications.add(
+                    new PendingNotification(deadlineKey(task, window), aiMessage)
+                );
 
                 log.info(
-                    "🤖 Notificação com IA enviada para {} sobre tarefa '{}'",
-                    user.getEmail(),
-                    task.getName()
+                    "🤖 Notificação com IA enviada para o usuário {} sobre tarefa '{}'",
+                    userId,
+                    task.name()
                 );
             }
         } catch (Exception e) {
             log.error(
                 "❌ Erro ao processar tarefas do usuário {}: {}",
-                user.getEmail(),
+                userId,
                 e.getMessage(),
                 e
             );
         }
 
-        return notificationCount;
+        return notifications;
     }
 
     /**
-     * Verifica se a tarefa é para hoje.
+     * Envia o lembrete de prazo próximo de um todo, disparado pelo timer wheel do
+     * {@link DeadlineReminderService}. O todo é relido do banco: se foi concluído ou o
+     * prazo mudou e não está mais na janela, nada é enviado.
+     *
+     * Todas as instâncias têm o mesmo timer, então antes da chamada à IA o lembrete é
+     * reivindicado com um lease por todo: só a instância que o obtiver gera a mensagem,
+     * e as demais desistem sem chamar a IA. Depois da chamada, a chave do ledger e a
+     * notificação são gravadas na mesma transação e o lease é liberado. Se a instância
+     * cair no meio do caminho, nada fica no ledger e o lease expira: o próximo
+     * {@code refresh} de qualquer instância dispara o lembrete de novo.
      *
-     * @param task Tarefa a ser verificada
-     * @return true se a tarefa tem início ou fim hoje
+     * @param todoId Id do todo cujo prazo entrou na janela
      */
-    private boolean isTaskForToday(Todo task) {
-        LocalDate today = LocalDate.now();
-
-        if (task.getStart() != null) {
-            LocalDate startDate = task.getStart().toLocalDate();
-            if (startDate.isEqual(today)) {
-                return true;
-            }
+    public void notifyDeadline(Long todoId) {
+        DueWindow window = DueWindow.startingAt(LocalDateTime.now());
+        DueTodo task = todoRepository
+            .findPendingDueTodoById(todoId)
+            .filter(window::isTaskNearDeadline)
+            .orElse(null);
+        if (task == null) {
+            return;
         }
 
-        if (task.getEnd() != null) {
-            LocalDate endDate = task.getEnd().toLocalDate();
-            if (endDate.isEqual(today)) {
-                return true;
-            }
+        NotificationLedgerService.Key key = deadlineKey(task, window);
+        if (!ledgerService.findSent(List.of(key)).isEmpty()) {
+            return;
         }
 
-        return false;
-    }
-
-    /**
-     * Verifica se a tarefa está próxima do prazo de conclusão (próximas 2 horas).
-     *
-     * @param task Tarefa a ser verificada
-     * @return true se a tarefa termina nas próximas 2 horas
-     */
-    private boolean isTaskNearDeadline(Todo task) {
-        if (task.getEnd() == null) {
-            return false;
+        String claim = DEADLINE_CLAIM_PREFIX + task.id();
+        if (!leaseService.tryAcquire(claim, deadlineClaimDuration)) {
+            log.debug(
+                "Lembrete de prazo do todo {} sendo enviado por outra instância",
+                task.id()
+            );
+            return;
         }
+        try {
+            // Outra instância pode ter concluído o envio e liberado o lease agora há pouco
+            if (!ledgerService.findSent(List.of(key)).isEmpty()) {
+                return;
+            }
 
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime twoHoursLater = now.plusHours(2);
+            PendingNotification notification = new PendingNotification(
+                key,
+                generateAIHelpMessage(task)
+            );
+            if (
+                !ledgerService.tryClaim(key, () ->
+                    notificationRepository.save(toEntity(notification))
+                )
+            ) {
+                log.info(
+                    "Lembrete de prazo do todo {} já enviado por outra instância",
+                    task.id()
+                );
+                return;
+            }
 
-        return (
-            task.getEnd().isAfter(now) &&
-            task.getEnd().isBefore(twoHoursLater)
-        );
+            cacheEvictionService.evictUserPages("notifications", task.userId());
+            meterRegistry.counter("scheduler.notifications.created").increment();
+            pushDeliveryService.deliver(List.of(toPush(notification)));
+
+            log.info(
+                "🤖 Lembrete de prazo enviado para o usuário {} sobre tarefa '{}'",
+                task.userId(),
+                task.name()
+            );
+        } finally {
+            leaseService.release(claim);
+        }
     }
 
     /**
@@ -198,64 +790,36 @@ public class TaskNotificationScheduler {
      * @param task Tarefa para gerar a mensagem
      * @return Mensagem gerada pela IA
      */
-    private String generateAIHelpMessage(Todo task) {
+    private String generateAIHelpMessage(DueTodo task) {
         try {
             TodoEventDTO todoDTO = new TodoEventDTO();
-            todoDTO.setId(task.getId());
-            todoDTO.setName(task.getName());
-            todoDTO.setDescription(task.getDescription());
-            todoDTO.setType(task.getType());
+            todoDTO.setId(task.id());
+            todoDTO.setName(task.name());
+            todoDTO.setDescription(task.description());
+            todoDTO.setType(task.type());
+            todoDTO.setUserId(task.userId());
 
+            // Lembretes cedem a vez às sugestões dos todos recém-criados
             String aiSuggestion = openAIService.generateSuggestionForTodo(
-                todoDTO
+                todoDTO,
+                AiWorkScheduler.Priority.BACKGROUND
             );
 
             return String.format(
                 "⏰ A tarefa '%s' está próxima do prazo! 💡 Dica da IA: %s",
-                task.getName(),
+                task.name(),
                 aiSuggestion
             );
         } catch (Exception e) {
             log.warn(
                 "Falha ao gerar mensagem da IA para tarefa {}: {}",
-                task.getId(),
+                task.id(),
                 e.getMessage()
             );
             return String.format(
                 "⏰ A tarefa '%s' está próxima do prazo! Não esqueça de completá-la.",
-                task.getName()
+                task.name()
             );
         }
     }
-
-    /**
-     * Cria uma notificação simples para o usuário.
-     *
-     * @param user Usuário que receberá a notificação
-     * @param message Mensagem da notificação
-     */
-    private void createSimpleNotification(AppUser user, String message) {
-        Notification notification = new Notification();
-        notification.setUser(user);
-        notification.setMessage(message);
-        notificationRepository.save(notification);
-    }
-
-    /**
-     * Cria uma notificação com mensagem da IA para o usuário.
-     *
-     * @param user Usuário que receberá a notificação
-     * @param task Tarefa relacionada à notificação
-     * @param aiMessage Mensagem gerada pela IA
-     */
-    private void createNotificationWithAI(
-        AppUser user,
-        Todo task,
-        String aiMessage
-    ) {
-        Notification notification = new Notification();
-        notification.setUser(user);
-        notification.setMessage(aiMessage);
-        notificationRepository.save(notification);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package com.burnoutinhos.burnoutinhos_api.benchmark;
+
+import com.burnoutinhos.burnoutinhos_api.config.JWTUtil;
+import com.burnoutinhos.burnoutinhos_api.config.JwtKeyRing;
+import com.burnoutinhos.burnoutinhos_api.config.JwtProperties;
+import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark da verificação do JWT feita pelo JWTAuthFilter a cada requisição.
+ *
+ * - {@code legacyDoubleParse}: caminho antigo, dois parsers novos e duas verificações HMAC
+ *   ({@code extractUsername} + {@code validateToken});
+ * - {@code singlePass}: parser único, uma verificação por chamada (cache desligado);
+ * - {@code singlePassCached}: parser único com o cache de tokens verificados.
+ *
+ * Executar pelo método {@code main} (IDE) após {@code mvn test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private SecretKey legacyKey;
+    private String legacyToken;
+
+    private JWTUtil uncachedJwtUtil;
+    private String uncachedToken;
+
+    private JWTUtil cachedJwtUtil;
+    private String cachedToken;
+
+    @Setup
+    public void setUp() {
+        legacyKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        Date now = new Date();
+        legacyToken = Jwts.builder()
+            .subject("benchmark@test.com")
+            .issuedAt(now)
+            .expiration(new Date(now.getTime() + 1209600000L))
+            .signWith(legacyKey)
+            .compact();
+
+        AppUser user = new AppUser();
+        user.setId(1L);
+        user.setEmail("benchmark@test.com");
+        user.setRoles(Set.of("USER"));
+
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-key-with-at-least-32-bytes");
+        JwtKeyRing keyRing = new JwtKeyRing(properties);
+
+        uncachedJwtUtil = new JWTUtil(keyRing, 0);
+        uncachedToken = uncachedJwtUtil.buildToken(user);
+
+        cachedJwtUtil = new JWTUtil(keyRing, 10000);
+        cachedToken = cachedJwtUtil.buildToken(user);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public Object legacyDoubleParse() {
+        String username = Jwts.parser()
+            .verifyWith(legacyKey)
+            .build()
+            .parseSignedClaims(legacyToken)
+            .getPayload()
+            .getSubject();
+        Jwts.parser().setSigningKey(legacyKey).build().parseClaimsJws(legacyToken);
+        return username;
+    }
+
+    @Benchmark
+    public Claims singlePass() {
+        return uncachedJwtUtil.extractClaims(uncachedToken);
+    }
+
+    @Benchmark
+    public Claims singlePassCached() {
+        return cachedJwtUtil.extractClaims(cachedToken);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,182 @@
+package com.burnoutinhos.burnoutinhos_api.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark da gravação de 10 mil notificações no H2, reproduzindo o SQL que o
+ * Hibernate emite em cada estratégia de id. O resultado (ops/s) é em linhas por segundo.
+ *
+ * O H2 roda em modo servidor (TCP local) para que cada comando pague um round trip,
+ * como no SQL Server; com o H2 embutido os dois casos empatam, pois não há rede.
+ *
+ * - {@code identityRowByRow}: {@code IDENTITY}, um INSERT por linha com leitura da
+ *   chave gerada (o Hibernate não agrupa inserts com IDENTITY);
+ * - {@code pooledSequenceBatched}: sequence com {@code INCREMENT BY 50} (um
+ *   {@code NEXT VALUE} a cada 50 linhas) e INSERTs em lotes de 50
+ *   ({@code hibernate.jdbc.batch_size}).
+ *
+ * O SQL é escrito à mão para medir só o custo no banco; o
+ * {@code NotificationRepositoryTest} confere, pelas estatísticas do Hibernate, que o
+ * {@code saveAll} do repositório de fato gera os lotes do segundo caso.
+ *
+ * Executar pelo método {@code main} (IDE) após {@code mvn test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationInsertBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int BATCH_SIZE = 50;
+
+    private Server server;
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        connection = DriverManager.getConnection(
+            "jdbc:h2:tcp://localhost:" +
+            server.getPort() +
+            "/mem:notification-benchmark;DB_CLOSE_DELAY=-1",
+            "sa",
+            ""
+        );
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                "create table notification_identity (" +
+                "id bigint generated by default as identity primary key, " +
+                "message varchar(255), user_id bigint, created_at timestamp)"
+            );
+            statement.execute(
+                "create sequence notification_seq start with 1 increment by " +
+                BATCH_SIZE
+            );
+            statement.execute(
+                "create table notification_sequence (" +
+                "id bigint primary key, " +
+                "message varchar(255), user_id bigint, created_at timestamp)"
+            );
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("truncate table notification_identity");
+            statement.execute("truncate table notification_sequence");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        server.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void identityRowByRow() throws SQLException {
+        try (
+            PreparedStatement insert = connection.prepareStatement(
+                "insert into notification_identity (message, user_id, created_at) " +
+                "values (?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS
+            )
+        ) {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (int i = 0; i < ROWS; i++) {
+                bind(insert, 1, i, now);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void pooledSequenceBatched() throws SQLException {
+        try (
+            PreparedStatement nextValue = connection.prepareStatement(
+                "select next value for notification_seq"
+            );
+            PreparedStatement insert = connection.prepareStatement(
+                "insert into notification_sequence " +
+                "(id, message, user_id, created_at) values (?, ?, ?, ?)"
+            )
+        ) {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            long nextId = 0;
+            long maxId = -1;
+            for (int i = 0; i < ROWS; i++) {
+                if (nextId > maxId) {
+                    // Um NEXT VALUE reserva o próximo bloco de BATCH_SIZE ids
+                    try (ResultSet value = nextValue.executeQuery()) {
+                        value.next();
+                        maxId = value.getLong(1) + BATCH_SIZE - 1;
+                        nextId = maxId - BATCH_SIZE + 1;
+                    }
+                }
+                insert.setLong(1, nextId++);
+                bind(insert, 2, i, now);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private void bind(
+        PreparedStatement insert,
+        int firstIndex,
+        int row,
+        Timestamp now
+    ) throws SQLException {
+        insert.setString(firstIndex, "📅 Você tem " + row + " tarefa(s) para hoje!");
+        insert.setLong(firstIndex + 1, row % 500);
+        insert.setTimestamp(firstIndex + 2, now);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(NotificationInsertBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,124 @@
+package com.burnoutinhos.burnoutinhos_api.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import com.burnoutinhos.burnoutinhos_api.repository.AppUserRepository;
+import com.burnoutinhos.burnoutinhos_api.service.messagery.EventHubProducerService;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Testes do acesso ao actuator: usuários comuns, mesmo autenticados, não leem nem
+ * alteram os endpoints de gestão (caches, métricas, uso de tokens da IA de outros
+ * usuários); administradores sim.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private JWTUtil jwtUtil;
+
+    @MockBean
+    private EventHubProducerService eventHubProducerService;
+
+    @Test
+    @DisplayName(
+        "Actuator - Should forbid regular users from reading or flushing caches"
+    )
+    void testCachesRequireAdmin() throws Exception {
+        String user = bearer(newUser(Set.of()));
+
+        mockMvc
+            .perform(get("/actuator/caches").header("Authorization", user))
+            .andExpect(status().isForbidden());
+        mockMvc
+            .perform(delete("/actuator/caches").header("Authorization", user))
+            .andExpect(status().isForbidden());
+        mockMvc
+            .perform(get("/actuator/metrics").header("Authorization", user))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Actuator - Should let administrators manage caches")
+    void testAdminManagesCaches() throws Exception {
+        String admin = bearer(
+            newUser(Set.of(SecurityConfiguration.ADMIN_AUTHORITY))
+        );
+
+        mockMvc
+            .perform(get("/actuator/caches").header("Authorization", admin))
+            .andExpect(status().isOk());
+        mockMvc
+            .perform(delete("/actuator/caches").header("Authorization", admin))
+            .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName(
+        "Actuator - Should expose AI token usage to administrators only"
+    )
+    void testAiUsageRequiresAdmin() throws Exception {
+        AppUser other = newUser(Set.of());
+        String user = bearer(newUser(Set.of()));
+        String admin = bearer(
+            newUser(Set.of(SecurityConfiguration.ADMIN_AUTHORITY))
+        );
+
+        mockMvc
+            .perform(get("/actuator/aiusage").header("Authorization", user))
+            .andExpect(status().isForbidden());
+        mockMvc
+            .perform(
+                get("/actuator/aiusage/{userId}", other.getId()).header(
+                    "Authorization",
+                    user
+                )
+            )
+            .andExpect(status().isForbidden());
+
+        mockMvc
+            .perform(get("/actuator/aiusage").header("Authorization", admin))
+            .andExpect(status().isOk());
+        mockMvc
+            .perform(
+                get("/actuator/aiusage/{userId}", other.getId()).header(
+                    "Authorization",
+                    admin
+                )
+            )
+            .andExpect(status().isOk());
+    }
+
+    private String bearer(AppUser user) {
+        return "Bearer " + jwtUtil.buildToken(user);
+    }
+
+    private AppUser newUser(Set<String> roles) {
+        AppUser user = new AppUser();
+        user.setName("Actuator Test");
+        user.setEmail(UUID.randomUUID() + "@test.com");
+        user.setPassword("password");
+        user.setRoles(roles);
+        return appUserRepository.save(user);
+    }
+}
@@ -0,0 +1,44 @@
+package com.burnoutinhos.burnoutinhos_api.config;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes da configuração da IA: a fila de pedidos não pode ter mais pedidos em
+ * andamento do que vagas no bulkhead.
+ */
+class AiConfigurationTest {
+
+    private final AiConfiguration configuration = new AiConfiguration();
+
+    @Test
+    @DisplayName(
+        "AiConfiguration - Should refuse more in-flight requests than bulkhead slots"
+    )
+    void testMaxInFlightWithinBulkhead() {
+        assertThrows(IllegalStateException.class, () ->
+            configuration.aiWorkScheduler(
+                32,
+                16,
+                8,
+                1000,
+                5000,
+                new SimpleMeterRegistry()
+            )
+        );
+        assertDoesNotThrow(() ->
+            configuration.aiWorkScheduler(
+                16,
+                16,
+                8,
+                1000,
+                5000,
+                new SimpleMeterRegistry()
+            )
+        );
+    }
+}
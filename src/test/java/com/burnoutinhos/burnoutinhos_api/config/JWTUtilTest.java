@@ -0,0 +1,125 @@
+package com.burnoutinhos.burnoutinhos_api.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.burnoutinhos.burnoutinhos_api.exceptions.TokenValidationException;
+import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes do JWTUtil com o anel de chaves: tokens devem valer entre instâncias
+ * com a mesma configuração e continuar válidos após a rotação da chave. Sem chave
+ * configurada a subida falha, exceto com a chave temporária liberada.
+ */
+class JWTUtilTest {
+
+    private static final String OLD_SECRET =
+        "old-secret-key-that-is-long-enough-for-hmac-sha256";
+    private static final String NEW_SECRET =
+        "new-secret-key-that-is-long-enough-for-hmac-sha256";
+
+    private AppUser user;
+
+    @BeforeEach
+    void setUp() {
+        user = new AppUser();
+        user.setId(1L);
+        user.setEmail("jwt@test.com");
+        user.setRoles(Set.of("USER"));
+    }
+
+    @Test
+    @DisplayName(
+        "JWTUtil - Should accept tokens issued by another instance with the same keys"
+    )
+    void testTokenValidAcrossInstances() {
+        String token = newJwtUtil(properties(OLD_SECRET)).buildToken(user);
+
+        JWTUtil otherReplica = newJwtUtil(properties(OLD_SECRET));
+
+        assertEquals(
+            "jwt@test.com",
+            otherReplica.extractClaims(token).getSubject()
+        );
+    }
+
+    @Test
+    @DisplayName(
+        "JWTUtil - Should sign with the newest active key and still verify the previous one"
+    )
+    void testRotationKeepsPreviousKey() {
+        String oldToken = newJwtUtil(properties(OLD_SECRET)).buildToken(user);
+
+        JwtProperties rotated = properties(OLD_SECRET);
+        rotated.getKeys().add(key("k2", NEW_SECRET, null));
+        JWTUtil jwtUtil = newJwtUtil(rotated);
+
+        assertEquals("k2", new JwtKeyRing(rotated).currentSigningKey().id());
+        assertEquals(1L, jwtUtil.extractClaims(oldToken).get("uid", Long.class));
+        assertEquals(
+            "jwt@test.com",
+            jwtUtil.extractClaims(jwtUtil.buildToken(user)).getSubject()
+        );
+    }
+
+    @Test
+    @DisplayName("JWTUtil - Should reject tokens signed by an expired key")
+    void testExpiredKeyRejected() {
+        JwtProperties beforeExpiration = properties(OLD_SECRET);
+        beforeExpiration.getKeys().add(key("k2", NEW_SECRET, null));
+        String token = newJwtUtil(beforeExpiration).buildToken(user);
+
+        JwtProperties afterExpiration = properties(OLD_SECRET);
+        afterExpiration
+            .getKeys()
+            .add(key("k2", NEW_SECRET, Instant.now().minus(1, ChronoUnit.MINUTES)));
+
+        assertThrows(TokenValidationException.class, () ->
+            newJwtUtil(afterExpiration).extractClaims(token)
+        );
+    }
+
+    @Test
+    @DisplayName(
+        "JWTUtil - Should refuse to start without a key unless ephemeral keys are allowed"
+    )
+    void testMissingSecretFailsStartup() {
+        assertThrows(IllegalStateException.class, () ->
+            new JwtKeyRing(properties(null))
+        );
+
+        JwtProperties development = properties(" ");
+        development.setAllowEphemeralKey(true);
+        JWTUtil jwtUtil = newJwtUtil(development);
+
+        assertEquals(
+            "jwt@test.com",
+            jwtUtil.extractClaims(jwtUtil.buildToken(user)).getSubject()
+        );
+    }
+
+    private JWTUtil newJwtUtil(JwtProperties properties) {
+        return new JWTUtil(new JwtKeyRing(properties), 100);
+    }
+
+    private JwtProperties properties(String secret) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(secret);
+        return properties;
+    }
+
+    private JwtProperties.Key key(String id, String secret, Instant expiresAt) {
+        JwtProperties.Key key = new JwtProperties.Key();
+        key.setId(id);
+        key.setSecret(secret);
+        key.setActivateAt(Instant.now().minus(1, ChronoUnit.HOURS));
+        key.setExpiresAt(expiresAt);
+        return key;
+    }
+}
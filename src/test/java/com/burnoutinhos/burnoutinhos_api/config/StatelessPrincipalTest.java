@@ -0,0 +1,94 @@
+package com.burnoutinhos.burnoutinhos_api.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.burnoutinhos.burnoutinhos_api.model.dtos.AuthResponseDTO;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.RegisterAndUpdateUserDTO;
+import com.burnoutinhos.burnoutinhos_api.service.auth.AuthenticationService;
+import com.burnoutinhos.burnoutinhos_api.service.messagery.EventHubProducerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Testes do modo stateless do JWTAuthFilter: o principal vem das claims do token
+ * e uma troca de senha revoga os tokens emitidos antes dela.
+ */
+@SpringBootTest(properties = "jwt.stateless-principal=true")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class StatelessPrincipalTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @MockBean
+    private EventHubProducerService eventHubProducerService;
+
+    @Test
+    @DisplayName(
+        "Stateless principal - Should authenticate from claims and revoke on password change"
+    )
+    void testPasswordChangeRevokesPreviousTokens() throws Exception {
+        String email = UUID.randomUUID() + "@test.com";
+        RegisterAndUpdateUserDTO dto = new RegisterAndUpdateUserDTO();
+        dto.setName("Stateless");
+        dto.setEmail(email);
+        dto.setPassword("password");
+        String oldToken = authenticationService.register(dto).getToken();
+
+        mockMvc
+            .perform(get("/users/me").header("Authorization", bearer(oldToken)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.email").value(email))
+            .andExpect(jsonPath("$.name").value("Stateless"));
+
+        RegisterAndUpdateUserDTO changes = new RegisterAndUpdateUserDTO();
+        changes.setEmail(email);
+        changes.setPassword("new-password");
+        String response = mockMvc
+            .perform(
+                put("/users")
+                    .header("Authorization", bearer(oldToken))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(changes))
+            )
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        String newToken = objectMapper
+            .readValue(response, AuthResponseDTO.class)
+            .getToken();
+
+        mockMvc
+            .perform(get("/users/me").header("Authorization", bearer(oldToken)))
+            .andExpect(status().is4xxClientError());
+
+        mockMvc
+            .perform(get("/users/me").header("Authorization", bearer(newToken)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.email").value(email));
+    }
+
+    private String bearer(String token) {
+        return "Bearer " + token;
+    }
+}
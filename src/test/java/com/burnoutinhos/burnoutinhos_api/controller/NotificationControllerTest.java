@@ -17,6 +17,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.burnoutinhos.burnoutinhos_api.exceptions.ResourceNotFoundException;
 import com.burnoutinhos.burnoutinhos_api.model.Notification;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.NotificationView;
 import com.burnoutinhos.burnoutinhos_api.service.NotificationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
@@ -53,17 +54,18 @@ class NotificationControllerTest {
     private NotificationService notificationService;
 
     private Notification notification;
-    private Notification notificationWithId;
+    private NotificationView notificationWithId;
 
     @BeforeEach
     void setUp() {
         notification = new Notification();
         notification.setMessage("Test notification message");
 
-        notificationWithId = new Notification();
-        notificationWithId.setId(1L);
-        notificationWithId.setMessage("Test notification message");
-        notificationWithId.setCreatedAt(LocalDateTime.now());
+        notificationWithId = new NotificationView(
+            1L,
+            "Test notification message",
+            LocalDateTime.now()
+        );
     }
 
     @Test
@@ -96,12 +98,13 @@ class NotificationControllerTest {
     @DisplayName("GET /notifications - Should return all notifications")
     void testFindAllNotifications_Success() throws Exception {
         // Given
-        Notification notification2 = new Notification();
-        notification2.setId(2L);
-        notification2.setMessage("Second notification");
-        notification2.setCreatedAt(LocalDateTime.now());
+        NotificationView notification2 = new NotificationView(
+            2L,
+            "Second notification",
+            LocalDateTime.now()
+        );
 
-        List<Notification> notifications = Arrays.asList(
+        List<NotificationView> notifications = Arrays.asList(
             notificationWithId,
             notification2
         );
@@ -198,10 +201,11 @@ class NotificationControllerTest {
     )
     void testUpdateNotification_Success() throws Exception {
         // Given
-        Notification updatedNotification = new Notification();
-        updatedNotification.setId(1L);
-        updatedNotification.setMessage("Updated notification message");
-        updatedNotification.setCreatedAt(LocalDateTime.now());
+        NotificationView updatedNotification = new NotificationView(
+            1L,
+            "Updated notification message",
+            LocalDateTime.now()
+        );
 
         when(notificationService.update(any(Notification.class))).thenReturn(
             updatedNotification
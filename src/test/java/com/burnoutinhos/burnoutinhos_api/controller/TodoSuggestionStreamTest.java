@@ -0,0 +1,141 @@
+package com.burnoutinhos.burnoutinhos_api.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.burnoutinhos.burnoutinhos_api.config.JWTUtil;
+import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import com.burnoutinhos.burnoutinhos_api.model.Suggestion;
+import com.burnoutinhos.burnoutinhos_api.model.Todo;
+import com.burnoutinhos.burnoutinhos_api.model.enums.TodoType;
+import com.burnoutinhos.burnoutinhos_api.repository.AppUserRepository;
+import com.burnoutinhos.burnoutinhos_api.repository.SuggestionRepository;
+import com.burnoutinhos.burnoutinhos_api.repository.TodoRepository;
+import com.burnoutinhos.burnoutinhos_api.service.ai.StubChatModel;
+import com.burnoutinhos.burnoutinhos_api.service.messagery.EventHubProducerService;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Testes do streaming de sugestões por SSE com o {@link StubChatModel}: o texto chega em
+ * vários eventos token, a sugestão completa é gravada ao final e todos de outros usuários
+ * não são expostos.
+ */
+@SpringBootTest(properties = "ai.similarity.enabled=false")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class TodoSuggestionStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private SuggestionRepository suggestionRepository;
+
+    @Autowired
+    private StubChatModel stubChatModel;
+
+    @Autowired
+    private JWTUtil jwtUtil;
+
+    @MockBean
+    private EventHubProducerService eventHubProducerService;
+
+    @AfterEach
+    void resetStub() {
+        stubChatModel.reset();
+    }
+
+    @Test
+    @DisplayName(
+        "GET /todos/{id}/suggestion/stream - Should stream tokens and persist the final suggestion"
+    )
+    void testStreamsAndPersistsSuggestion() throws Exception {
+        AppUser owner = newUser();
+        String name = "Estudar " + UUID.randomUUID();
+        Long todoId = newTodo(owner, name);
+
+        MvcResult started = mockMvc
+            .perform(
+                get("/todos/{id}/suggestion/stream", todoId)
+                    .header("Authorization", bearer(owner))
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+            )
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String body = mockMvc
+            .perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        long tokens = body.lines().filter(line -> line.equals("event:token")).count();
+        assertTrue(tokens > 1, body);
+        assertTrue(body.contains("event:suggestion"), body);
+
+        List<Suggestion> saved = suggestionRepository.findByUserId(owner.getId());
+        assertEquals(1, saved.size());
+        assertEquals("Dica para " + name, saved.get(0).getSuggestion());
+        assertEquals(1, stubChatModel.prompts().size());
+    }
+
+    @Test
+    @DisplayName(
+        "GET /todos/{id}/suggestion/stream - Should return 404 for another user's todo"
+    )
+    void testRejectsOtherUsersTodo() throws Exception {
+        Long todoId = newTodo(newUser(), "Privado");
+
+        mockMvc
+            .perform(
+                get("/todos/{id}/suggestion/stream", todoId).header(
+                    "Authorization",
+                    bearer(newUser())
+                )
+            )
+            .andExpect(status().isNotFound());
+        assertTrue(stubChatModel.prompts().isEmpty());
+    }
+
+    private String bearer(AppUser user) {
+        return "Bearer " + jwtUtil.buildToken(user);
+    }
+
+    private AppUser newUser() {
+        AppUser user = new AppUser();
+        user.setName("Stream Test");
+        user.setEmail(UUID.randomUUID() + "@test.com");
+        user.setPassword("password");
+        return appUserRepository.save(user);
+    }
+
+    private Long newTodo(AppUser user, String name) {
+        Todo todo = new Todo();
+        todo.setName(name);
+        todo.setType(TodoType.TODO);
+        todo.setUser(user);
+        return todoRepository.save(todo).getId();
+    }
+}
@@ -0,0 +1,88 @@
+package com.burnoutinhos.burnoutinhos_api.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import com.burnoutinhos.burnoutinhos_api.model.Notification;
+import com.burnoutinhos.burnoutinhos_api.service.messagery.EventHubProducerService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Testes da gravação de notificações pelo NotificationRepository: com ids da
+ * {@code notification_seq} (blocos de 50) e {@code hibernate.jdbc.batch_size}, o
+ * {@code saveAll} usa um comando por bloco, e não um por linha.
+ */
+@SpringBootTest(
+    properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // As estatísticas são globais: o scheduler não pode gravar durante o teste
+        "scheduler.notifications.cron=-",
+    }
+)
+@ActiveProfiles("test")
+class NotificationRepositoryTest {
+
+    private static final int ROWS = 120;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private EventHubProducerService eventHubProducerService;
+
+    @Test
+    @DisplayName(
+        "Notification - Should insert with one batched statement per 50 rows"
+    )
+    void testSaveAllBatchesInserts() {
+        AppUser user = new AppUser();
+        user.setName("Batch Test");
+        user.setEmail(UUID.randomUUID() + "@test.com");
+        user.setPassword("password");
+        AppUser saved = appUserRepository.save(user);
+
+        List<Notification> notifications = IntStream.range(0, ROWS)
+            .mapToObj(i -> {
+                Notification notification = new Notification();
+                notification.setUser(saved);
+                notification.setMessage("📅 Você tem " + i + " tarefa(s) para hoje!");
+                return notification;
+            })
+            .toList();
+
+        Statistics statistics = entityManagerFactory
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.clear();
+
+        notificationRepository.saveAll(notifications);
+
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        // Por bloco de 50: um INSERT em lote e no máximo um NEXT VALUE da sequence.
+        // Sem lotes seriam 120 comandos
+        long blocks = (ROWS + BATCH_SIZE - 1) / BATCH_SIZE;
+        assertTrue(
+            statistics.getPrepareStatementCount() <= 2 * blocks,
+            "comandos preparados: " + statistics.getPrepareStatementCount()
+        );
+    }
+}
@@ -0,0 +1,257 @@
+package com.burnoutinhos.burnoutinhos_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.burnoutinhos.burnoutinhos_api.exceptions.ResourceNotFoundException;
+import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import com.burnoutinhos.burnoutinhos_api.model.Notification;
+import com.burnoutinhos.burnoutinhos_api.model.Suggestion;
+import com.burnoutinhos.burnoutinhos_api.model.TimeBlock;
+import com.burnoutinhos.burnoutinhos_api.model.Todo;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.NotificationView;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.SuggestionView;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.TimeBlockView;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoDTO;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoView;
+import com.burnoutinhos.burnoutinhos_api.model.enums.TimeBlockType;
+import com.burnoutinhos.burnoutinhos_api.model.enums.TodoType;
+import com.burnoutinhos.burnoutinhos_api.repository.AppUserRepository;
+import com.burnoutinhos.burnoutinhos_api.service.messagery.EventHubProducerService;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Testes de coerência do cache: toda escrita nos services deve invalidar a entidade
+ * e as páginas do usuário, de forma que nenhuma leitura posterior devolva dado antigo.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheCoherenceTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private SuggestionService suggestionService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private TimeBlockService timeBlockService;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private EventHubProducerService eventHubProducerService;
+
+    private AppUser user;
+
+    @BeforeEach
+    void setUp() {
+        user = new AppUser();
+        user.setName("Cache Test");
+        user.setEmail(UUID.randomUUID() + "@test.com");
+        user.setPassword("password");
+        user = appUserRepository.save(user);
+    }
+
+    @Test
+    @DisplayName("Todo - Should not serve stale page or entity after writes")
+    void testTodoWritesEvictCache() {
+        TodoView first = todoService.save(newTodo("Estudar"));
+        assertEquals(
+            1,
+            todoService.findAllByUser(user.getId(), 0, 10).totalElements()
+        );
+        todoService.findById(first.id());
+        assertNotNull(cacheManager.getCache("todos").get(first.id()));
+
+        TodoView second = todoService.save(newTodo("Academia"));
+        assertEquals(
+            2,
+            todoService.findAllByUser(user.getId(), 0, 10).totalElements()
+        );
+
+        TodoDTO dto = new TodoDTO();
+        dto.setName("Estudar Java");
+        dto.setType(TodoType.TODO);
+        todoService.update(dto, first.id());
+        assertNull(cacheManager.getCache("todos").get(first.id()));
+        assertEquals("Estudar Java", todoService.findById(first.id()).name());
+
+        todoService.delete(second.id());
+        assertThrows(ResourceNotFoundException.class, () ->
+            todoService.findById(second.id())
+        );
+        assertEquals(
+            1,
+            todoService.findAllByUser(user.getId(), 0, 10).totalElements()
+        );
+    }
+
+    @Test
+    @DisplayName(
+        "Suggestion - Should not serve stale page or entity after writes"
+    )
+    void testSuggestionWritesEvictCache() {
+        TodoView todo = todoService.save(newTodo("Reunião"));
+        assertEquals(
+            0,
+            suggestionService
+                .findAllByUserId(user.getId(), 0, 10)
+                .totalElements()
+        );
+
+        SuggestionView saved = suggestionService.save(
+            newSuggestion(todo.id(), "Dica 1")
+        );
+        assertEquals(
+            1,
+            suggestionService
+                .findAllByUserId(user.getId(), 0, 10)
+                .totalElements()
+        );
+        assertEquals("Dica 1", suggestionService.findById(saved.id()).suggestion());
+        assertEquals(1, todoService.findById(todo.id()).suggestions().size());
+
+        // Mesmo payload do PUT /suggestions/{id}: o todo não é desserializado
+        Suggestion changes = new Suggestion();
+        changes.setId(saved.id());
+        changes.setUser(user);
+        changes.setSuggestion("Dica atualizada");
+        suggestionService.update(changes);
+        assertEquals(
+            "Dica atualizada",
+            suggestionService.findById(saved.id()).suggestion()
+        );
+
+        suggestionService.delete(saved.id());
+        assertThrows(ResourceNotFoundException.class, () ->
+            suggestionService.findById(saved.id())
+        );
+        assertEquals(
+            0,
+            suggestionService
+                .findAllByUserId(user.getId(), 0, 10)
+                .totalElements()
+        );
+    }
+
+    @Test
+    @DisplayName(
+        "Notification - Should not serve stale page or entity after writes"
+    )
+    void testNotificationWritesEvictCache() {
+        assertEquals(
+            0,
+            notificationService.findAll(user.getId(), 0, 10).totalElements()
+        );
+
+        Notification notification = new Notification();
+        notification.setUser(user);
+        notification.setMessage("Primeira");
+        NotificationView saved = notificationService.save(notification);
+        assertEquals(
+            1,
+            notificationService.findAll(user.getId(), 0, 10).totalElements()
+        );
+        notificationService.findById(saved.id());
+
+        notification.setId(saved.id());
+        notification.setMessage("Atualizada");
+        notificationService.update(notification);
+        assertEquals(
+            "Atualizada",
+            notificationService.findById(saved.id()).message()
+        );
+
+        notificationService.delete(saved.id());
+        assertThrows(ResourceNotFoundException.class, () ->
+            notificationService.findById(saved.id())
+        );
+        assertEquals(
+            0,
+            notificationService.findAll(user.getId(), 0, 10).totalElements()
+        );
+    }
+
+    @Test
+    @DisplayName(
+        "TimeBlock - Should not serve stale page or entity after writes"
+    )
+    void testTimeBlockWritesEvictCache() {
+        assertEquals(
+            0,
+            timeBlockService
+                .findAllByUserId(user.getId(), 0, 10)
+                .totalElements()
+        );
+
+        TimeBlock timeBlock = new TimeBlock();
+        timeBlock.setUser(user);
+        timeBlock.setName("Pomodoro");
+        timeBlock.setTimeCount(25);
+        timeBlock.setType(TimeBlockType.TEMPORIZER);
+        TimeBlockView saved = timeBlockService.save(timeBlock);
+        assertEquals(
+            1,
+            timeBlockService
+                .findAllByUserId(user.getId(), 0, 10)
+                .totalElements()
+        );
+        timeBlockService.findById(saved.id());
+
+        timeBlock.setId(saved.id());
+        timeBlock.setName("Pomodoro longo");
+        timeBlockService.update(timeBlock);
+        assertEquals(
+            "Pomodoro longo",
+            timeBlockService.findById(saved.id()).name()
+        );
+
+        timeBlockService.delete(saved.id());
+        assertThrows(ResourceNotFoundException.class, () ->
+            timeBlockService.findById(saved.id())
+        );
+        assertEquals(
+            0,
+            timeBlockService
+                .findAllByUserId(user.getId(), 0, 10)
+                .totalElements()
+        );
+    }
+
+    private Todo newTodo(String name) {
+        Todo todo = new Todo();
+        todo.setName(name);
+        todo.setType(TodoType.TODO);
+        todo.setUser(user);
+        return todo;
+    }
+
+    private Suggestion newSuggestion(Long todoId, String text) {
+        Todo todo = new Todo();
+        todo.setId(todoId);
+
+        Suggestion suggestion = new Suggestion();
+        suggestion.setUser(user);
+        suggestion.setTodo(todo);
+        suggestion.setSuggestion(text);
+        return suggestion;
+    }
+}
@@ -0,0 +1,93 @@
+package com.burnoutinhos.burnoutinhos_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import com.burnoutinhos.burnoutinhos_api.repository.AppUserRepository;
+import com.burnoutinhos.burnoutinhos_api.repository.PushTokenRepository;
+import com.burnoutinhos.burnoutinhos_api.service.messagery.EventHubProducerService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Testes do registro de tokens de push: registros simultâneos do mesmo token não
+ * falham na restrição única e deixam uma única linha, do último usuário.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PushTokenServiceTest {
+
+    @Autowired
+    private PushTokenService pushTokenService;
+
+    @Autowired
+    private PushTokenRepository pushTokenRepository;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @MockBean
+    private EventHubProducerService eventHubProducerService;
+
+    @Test
+    @DisplayName(
+        "PushToken - Should register the same token concurrently without failing"
+    )
+    void testConcurrentRegisterOfSameToken() throws Exception {
+        AppUser first = newUser();
+        AppUser second = newUser();
+        String token = UUID.randomUUID().toString();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                AppUser user = i % 2 == 0 ? first : second;
+                results.add(
+                    executor.submit(() -> {
+                        start.await();
+                        pushTokenService.register(user, token);
+                        return null;
+                    })
+                );
+            }
+            start.countDown();
+
+            // Falha do registro seria relançada aqui
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+
+        pushTokenService.register(second, token);
+        assertEquals(
+            second.getId(),
+            pushTokenRepository.findByToken(token).orElseThrow().getUserId().getId()
+        );
+        assertEquals(
+            1,
+            pushTokenRepository
+                .findTargetsByUserIds(List.of(first.getId(), second.getId()))
+                .size()
+        );
+    }
+
+    private AppUser newUser() {
+        AppUser user = new AppUser();
+        user.setName("Push Test");
+        user.setEmail(UUID.randomUUID() + "@test.com");
+        user.setPassword("password");
+        return appUserRepository.save(user);
+    }
+}
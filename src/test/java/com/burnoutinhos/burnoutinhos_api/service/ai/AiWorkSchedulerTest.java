@@ -0,0 +1,109 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.burnoutinhos.burnoutinhos_api.exceptions.ServiceOverloadedException;
+import com.burnoutinhos.burnoutinhos_api.service.ai.AiWorkScheduler.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes do AiWorkScheduler com uma vaga ocupada por um trabalho que só termina quando
+ * o teste manda: a ordem de início mostra a prioridade entre classes e o revezamento
+ * entre usuários; filas cheias recusam pedidos.
+ */
+class AiWorkSchedulerTest {
+
+    private final List<String> started = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName(
+        "AiWorkScheduler - Should serve interactive work first and alternate between users"
+    )
+    void testPriorityAndFairness() {
+        AiWorkScheduler scheduler = scheduler(1, 1, 10);
+        CompletableFuture<String> blocker = new CompletableFuture<>();
+        scheduler.submit(Priority.INTERACTIVE, 0L, () -> blocker);
+
+        submit(scheduler, Priority.BACKGROUND, 3L, "reminder");
+        submit(scheduler, Priority.INTERACTIVE, 1L, "u1-a");
+        submit(scheduler, Priority.INTERACTIVE, 1L, "u1-b");
+        submit(scheduler, Priority.INTERACTIVE, 1L, "u1-c");
+        submit(scheduler, Priority.INTERACTIVE, 2L, "u2-a");
+
+        blocker.complete("done");
+
+        assertEquals(List.of("u1-a", "u2-a", "u1-b", "u1-c", "reminder"), started);
+    }
+
+    @Test
+    @DisplayName(
+        "AiWorkScheduler - Should cap background work and shed requests over the queue size"
+    )
+    void testBackgroundCapAndShedding() throws Exception {
+        AiWorkScheduler scheduler = scheduler(2, 1, 1);
+        CompletableFuture<String> blocker = new CompletableFuture<>();
+        scheduler.submit(Priority.BACKGROUND, 1L, () -> blocker);
+
+        // A segunda vaga fica para os interativos
+        CompletableFuture<String> queued = scheduler.submit(
+            Priority.BACKGROUND,
+            2L,
+            () -> {
+                started.add("queued");
+                return CompletableFuture.completedFuture("ok");
+            }
+        );
+        CompletableFuture<String> shed = scheduler.submit(
+            Priority.BACKGROUND,
+            3L,
+            () -> CompletableFuture.completedFuture("nunca")
+        );
+        submit(scheduler, Priority.INTERACTIVE, 4L, "interactive");
+
+        assertEquals(List.of("interactive"), started);
+        ExecutionException error = assertThrows(
+            ExecutionException.class,
+            shed::get
+        );
+        assertInstanceOf(ServiceOverloadedException.class, error.getCause());
+
+        blocker.complete("done");
+        assertEquals("ok", queued.get());
+        assertTrue(started.contains("queued"));
+    }
+
+    private AiWorkScheduler scheduler(
+        int maxInFlight,
+        int maxBackgroundInFlight,
+        int queueSize
+    ) {
+        return new AiWorkScheduler(
+            maxInFlight,
+            maxBackgroundInFlight,
+            queueSize,
+            queueSize,
+            new SimpleMeterRegistry()
+        );
+    }
+
+    private void submit(
+        AiWorkScheduler scheduler,
+        Priority priority,
+        Long userId,
+        String name
+    ) {
+        scheduler.submit(priority, userId, () -> {
+            started.add(name);
+            return CompletableFuture.completedFuture(name);
+        });
+    }
+}
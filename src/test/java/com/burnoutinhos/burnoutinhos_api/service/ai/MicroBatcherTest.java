@@ -0,0 +1,71 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes do MicroBatcher: pedidos são agrupados até o tamanho máximo ou até o tempo de
+ * espera, e cada pedido recebe o resultado do seu item.
+ */
+class MicroBatcherTest {
+
+    @Test
+    @DisplayName(
+        "MicroBatcher - Should dispatch full batches at once and partial ones after the wait"
+    )
+    void testGroupsBySizeAndWait() {
+        Queue<Integer> batchSizes = new ConcurrentLinkedQueue<>();
+        try (
+            MicroBatcher<Integer, String> batcher = new MicroBatcher<>(
+                "test",
+                4,
+                Duration.ofMillis(50),
+                items -> {
+                    batchSizes.add(items.size());
+                    return items.stream().map(i -> "r" + i).toList();
+                }
+            )
+        ) {
+            List<CompletableFuture<String>> futures = IntStream.range(0, 6)
+                .mapToObj(batcher::submit)
+                .toList();
+
+            assertEquals(
+                IntStream.range(0, 6).mapToObj(i -> "r" + i).toList(),
+                futures.stream().map(CompletableFuture::join).toList()
+            );
+            assertEquals(List.of(4, 2), List.copyOf(batchSizes));
+        }
+    }
+
+    @Test
+    @DisplayName("MicroBatcher - Should fail every request of a failed batch")
+    void testPropagatesHandlerFailure() {
+        try (
+            MicroBatcher<Integer, String> batcher = new MicroBatcher<>(
+                "test",
+                2,
+                Duration.ofSeconds(5),
+                items -> {
+                    throw new IllegalStateException("falhou");
+                }
+            )
+        ) {
+            CompletableFuture<String> first = batcher.submit(1);
+            CompletableFuture<String> second = batcher.submit(2);
+
+            assertThrows(CompletionException.class, first::join);
+            assertThrows(CompletionException.class, second::join);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes do MinHashIndex: textos quase iguais do mesmo grupo são encontrados, textos
+ * com outra palavra principal ou de outro grupo não, e o índice respeita o limite de
+ * entradas.
+ */
+class MinHashIndexTest {
+
+    @Test
+    @DisplayName(
+        "MinHashIndex - Should match near-duplicate texts only within the same group"
+    )
+    void testFindsNearDuplicates() {
+        MinHashIndex index = new MinHashIndex(0.7, 100);
+        index.put("TODO", "estudar java", "Dica de Java");
+        index.put("TODO", "ir para a academia", "Dica de treino");
+
+        assertEquals(
+            "Dica de Java",
+            index.findSimilar("TODO", "Estudar Java hoje!").orElseThrow().value()
+        );
+        assertEquals(
+            "Dica de treino",
+            index.findSimilar("TODO", "Ir à academia").orElseThrow().value()
+        );
+        assertTrue(index.findSimilar("TODO", "estudar jazz").isEmpty());
+        assertTrue(index.findSimilar("EVENT", "estudar java").isEmpty());
+    }
+
+    @Test
+    @DisplayName("MinHashIndex - Should evict the least recently used entry")
+    void testEvictsLeastRecentlyUsed() {
+        MinHashIndex index = new MinHashIndex(0.7, 2);
+        index.put("TODO", "estudar java", "java");
+        index.put("TODO", "reunião de equipe", "reunião");
+        index.findSimilar("TODO", "estudar java");
+        index.put("TODO", "lavar o carro", "carro");
+
+        assertEquals(2, index.size());
+        assertTrue(index.findSimilar("TODO", "reunião de equipe").isEmpty());
+        assertTrue(index.findSimilar("TODO", "estudar java").isPresent());
+    }
+}
@@ -0,0 +1,170 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoEventDTO;
+import com.burnoutinhos.burnoutinhos_api.model.enums.TodoType;
+import com.burnoutinhos.burnoutinhos_api.service.messagery.EventHubProducerService;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Testes do OpenAIService com o {@link StubChatModel}: pedidos simultâneos viram uma
+ * única chamada em lote, cujas sugestões são associadas às tarefas pelo número,
+ * chamadas lentas estouram o timeout e, com falhas seguidas, o circuito abre e a sugestão padrão é devolvida sem chamar o provedor. Os tokens
+ * informados na resposta entram na cota do usuário, e com a cota esgotada a sugestão
+ * padrão de cota é devolvida sem chamar o provedor.
+ */
+@SpringBootTest(
+    properties = {
+        "ai.batch.max-size=3",
+        "ai.batch.max-wait=PT1S",
+        "ai.resilience.call-timeout=PT0.3S",
+        "ai.resilience.circuit-breaker.window-size=2",
+        "ai.resilience.circuit-breaker.minimum-calls=2",
+        "ai.resilience.circuit-breaker.open-duration=PT1H",
+    }
+)
+@ActiveProfiles("test")
+class OpenAIServiceTest {
+
+    @Autowired
+    private OpenAIService openAIService;
+
+    @Autowired
+    private StubChatModel stubChatModel;
+
+    @Autowired
+    private TokenBudget tokenBudget;
+
+    @MockBean
+    private EventHubProducerService eventHubProducerService;
+
+    @AfterEach
+    void resetStub() {
+        stubChatModel.reset();
+    }
+
+    @Test
+    @DisplayName(
+        "OpenAIService - Should answer concurrent requests with a single batched call"
+    )
+    void testBatchesConcurrentRequests() {
+        List<String> names = Stream.generate(() -> UUID.randomUUID().toString())
+            .limit(3)
+            .toList();
+
+        List<CompletableFuture<String>> futures = names
+            .stream()
+            .map(name -> openAIService.generateSuggestionAsync(todo(name)))
+            .toList();
+
+        for (int i = 0; i < names.size(); i++) {
+            assertEquals("Dica para " + names.get(i), futures.get(i).join());
+        }
+        assertEquals(1, stubChatModel.prompts().size());
+    }
+
+    @Test
+    @DisplayName(
+        "OpenAIService - Should map batch answers by task number and retry missing ones alone"
+    )
+    void testMapsBatchAnswersByTaskNumber() {
+        stubChatModel.setBatchScrambled(true);
+        List<String> names = Stream.generate(() -> UUID.randomUUID().toString())
+            .limit(3)
+            .toList();
+
+        List<CompletableFuture<String>> futures = names
+            .stream()
+            .map(name -> openAIService.generateSuggestionAsync(todo(name)))
+            .toList();
+
+        for (int i = 0; i < names.size(); i++) {
+            assertEquals("Dica para " + names.get(i), futures.get(i).join());
+        }
+        // O lote e a tarefa que ficou sem sugestão, pedida individualmente
+        assertEquals(2, stubChatModel.prompts().size());
+    }
+
+    @Test
+    @DisplayName(
+        "OpenAIService - Should charge reported tokens to the user and degrade once the quota is spent"
+    )
+    void testChargesTokensAndDegradesOverQuota() {
+        long userId = System.nanoTime();
+        TodoEventDTO first = todo(UUID.randomUUID().toString());
+        first.setUserId(userId);
+
+        assertEquals(
+            "Dica para " + first.getName(),
+            openAIService.generateSuggestionForTodo(first)
+        );
+        assertEquals(
+            new TokenBudget.Usage(
+                StubChatModel.PROMPT_TOKENS,
+                StubChatModel.COMPLETION_TOKENS
+            ),
+            tokenBudget.usage(userId)
+        );
+
+        tokenBudget.record(userId, tokenBudget.getUserTokensPerHour(), 0);
+        TodoEventDTO second = todo(UUID.randomUUID().toString());
+        second.setUserId(userId);
+
+        assertEquals(
+            OpenAIService.BUDGET_EXCEEDED_SUGGESTION,
+            openAIService.generateSuggestionForTodo(second)
+        );
+        assertEquals(1, stubChatModel.prompts().size());
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName(
+        "OpenAIService - Should time out hung calls and short-circuit once the circuit opens"
+    )
+    void testTimesOutAndOpensCircuit() {
+        stubChatModel.setDelay(Duration.ofSeconds(5));
+
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            String suggestion = openAIService.generateSuggestionForTodo(
+                todo(UUID.randomUUID().toString())
+            );
+            assertEquals(OpenAIService.FALLBACK_SUGGESTION, suggestion);
+            assertTrue(
+                Duration.ofNanos(System.nanoTime() - start).toSeconds() < 3
+            );
+        }
+
+        // Duas falhas em duas chamadas: circuito aberto, o provedor não é chamado
+        assertEquals(
+            OpenAIService.FALLBACK_SUGGESTION,
+            openAIService
+                .generateSuggestionAsync(todo(UUID.randomUUID().toString()))
+                .getNow(null)
+        );
+        assertEquals(2, stubChatModel.prompts().size());
+    }
+
+    private TodoEventDTO todo(String name) {
+        TodoEventDTO todo = new TodoEventDTO();
+        todo.setId(1L);
+        todo.setName(name);
+        todo.setType(TodoType.TODO);
+        return todo;
+    }
+}
@@ -0,0 +1,24 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Substitui o ChatClient da OpenAI pelo {@link StubChatModel} nos testes.
+ */
+@Configuration
+@Profile("test")
+public class StubAiConfiguration {
+
+    @Bean
+    public StubChatModel stubChatModel() {
+        return new StubChatModel();
+    }
+
+    @Bean
+    public ChatClient.Builder chatClientBuilder(StubChatModel stubChatModel) {
+        return ChatClient.builder(stubChatModel);
+    }
+}
@@ -0,0 +1,134 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.publisher.Flux;
+
+/**
+ * {@link ChatModel} usado nos testes no lugar da OpenAI: responde "Dica para X" para
+ * cada tarefa X do prompt (um array JSON de itens numerados quando o prompt é de lote)
+ * e registra os prompts recebidos. Pode simular lentidão, falhas e respostas de lote
+ * fora de ordem e incompletas. Respostas não-streaming informam
+ * sempre {@link #PROMPT_TOKENS} e {@link #COMPLETION_TOKENS} como uso de tokens.
+ */
+public class StubChatModel implements ChatModel {
+
+    private static final Pattern BATCH_TASK = Pattern.compile(
+        "(?m)^\\d+\\. Tarefa: (.*?) \\|"
+    );
+    private static final Pattern SINGLE_TASK = Pattern.compile(
+        "(?m)^Tarefa: (.*)$"
+    );
+
+    public static final long PROMPT_TOKENS = 100;
+    public static final long COMPLETION_TOKENS = 20;
+
+    private final Queue<String> prompts = new ConcurrentLinkedQueue<>();
+    private volatile Duration delay = Duration.ZERO;
+    private volatile boolean failing;
+    private volatile boolean batchScrambled;
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        String answer = answer(prompt);
+        Usage usage = new Usage() {
+            @Override
+            public Long getPromptTokens() {
+                return PROMPT_TOKENS;
+            }
+
+            @Override
+            public Long getGenerationTokens() {
+                return COMPLETION_TOKENS;
+            }
+        };
+        return new ChatResponse(
+            List.of(new Generation(answer)),
+            ChatResponseMetadata.builder().withUsage(usage).build()
+        );
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        String answer = answer(prompt);
+        return Flux.fromArray(answer.split("(?<= )")).map(token ->
+            new ChatResponse(List.of(new Generation(token)))
+        );
+    }
+
+    public List<String> prompts() {
+        return List.copyOf(prompts);
+    }
+
+    public void setDelay(Duration delay) {
+        this.delay = delay;
+    }
+
+    public void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    /**
+     * Com {@code true}, as respostas de lote vêm em ordem inversa e sem a sugestão da
+     * primeira tarefa.
+     */
+    public void setBatchScrambled(boolean batchScrambled) {
+        this.batchScrambled = batchScrambled;
+    }
+
+    public void reset() {
+        prompts.clear();
+        delay = Duration.ZERO;
+        failing = false;
+        batchScrambled = false;
+    }
+
+    private String answer(Prompt prompt) {
+        String text = prompt.getContents();
+        prompts.add(text);
+
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrompido", e);
+        }
+        if (failing) {
+            throw new IllegalStateException("OpenAI indisponível (stub)");
+        }
+
+        Matcher batch = BATCH_TASK.matcher(text);
+        List<String> answers = new ArrayList<>();
+        while (batch.find()) {
+            answers.add(
+                String.format(
+                    "{\"i\":%d,\"s\":\"Dica para %s\"}",
+                    answers.size() + 1,
+                    batch.group(1)
+                )
+            );
+        }
+        if (!answers.isEmpty()) {
+            if (batchScrambled) {
+                answers.remove(0);
+                Collections.reverse(answers);
+            }
+            return "[" + String.join(",", answers) + "]";
+        }
+
+        Matcher single = SINGLE_TASK.matcher(text);
+        return single.find() ? "Dica para " + single.group(1) : "Dica";
+    }
+}
@@ -0,0 +1,93 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.burnoutinhos.burnoutinhos_api.model.AiSuggestionCacheEntry;
+import com.burnoutinhos.burnoutinhos_api.model.SchedulerLease;
+import com.burnoutinhos.burnoutinhos_api.repository.AiSuggestionCacheRepository;
+import com.burnoutinhos.burnoutinhos_api.repository.SchedulerLeaseRepository;
+import com.burnoutinhos.burnoutinhos_api.service.messagery.EventHubProducerService;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Testes do SuggestionCache: um prompt já respondido é encontrado pelo hash, e com
+ * persistência ligada continua disponível após o cache em memória ser perdido; a
+ * limpeza diária só roda na instância que obtiver o lease.
+ */
+@SpringBootTest(properties = "ai.suggestion-cache.persistent=true")
+@ActiveProfiles("test")
+class SuggestionCacheTest {
+
+    @Autowired
+    private SuggestionCache suggestionCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private AiSuggestionCacheRepository repository;
+
+    @Autowired
+    private SchedulerLeaseRepository leaseRepository;
+
+    @MockBean
+    private EventHubProducerService eventHubProducerService;
+
+    @Test
+    @DisplayName(
+        "SuggestionCache - Should serve identical prompts from memory and from the table"
+    )
+    void testServesCachedPrompts() {
+        String prompt = "Tarefa: Estudar " + UUID.randomUUID();
+
+        assertTrue(suggestionCache.get(prompt).isEmpty());
+        suggestionCache.put(prompt, "Dica");
+        assertEquals(Optional.of("Dica"), suggestionCache.get(prompt));
+
+        // Simula um reinício: só a tabela ainda tem a sugestão
+        cacheManager.getCache(SuggestionCache.CACHE_NAME).clear();
+        assertEquals(Optional.of("Dica"), suggestionCache.get(prompt));
+        assertTrue(suggestionCache.get(prompt + " ").isEmpty());
+    }
+
+    @Test
+    @DisplayName(
+        "SuggestionCache - Should sweep expired entries only while holding the lease"
+    )
+    void testSweepRunsOnSingleInstance() {
+        LocalDateTime now = LocalDateTime.now();
+        String hash = SuggestionCache.hash("Tarefa: Antiga " + UUID.randomUUID());
+        repository.save(
+            new AiSuggestionCacheEntry(hash, "Dica", now.minusDays(2))
+        );
+
+        leaseRepository.save(
+            new SchedulerLease(
+                SuggestionCache.SWEEP_JOB_NAME,
+                "other-node",
+                now,
+                now.plusHours(23)
+            )
+        );
+        try {
+            suggestionCache.sweep();
+            assertTrue(repository.findById(hash).isPresent());
+        } finally {
+            leaseRepository.deleteById(SuggestionCache.SWEEP_JOB_NAME);
+        }
+
+        suggestionCache.sweep();
+        assertTrue(repository.findById(hash).isEmpty());
+        leaseRepository.deleteById(SuggestionCache.SWEEP_JOB_NAME);
+    }
+}
@@ -0,0 +1,91 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoEventDTO;
+import com.burnoutinhos.burnoutinhos_api.model.enums.TodoType;
+import com.burnoutinhos.burnoutinhos_api.service.messagery.EventHubProducerService;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Testes do reaproveitamento de sugestões: um todo quase igual do mesmo usuário recebe
+ * a sugestão já gerada, todos de outros usuários nunca a recebem e os textos padrão
+ * (fallback e cota) nunca são reaproveitados, nem pelo índice de similaridade nem pelo
+ * SuggestionCache.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SuggestionSimilarityServiceTest {
+
+    @Autowired
+    private SuggestionSimilarityService similarityService;
+
+    @Autowired
+    private SuggestionCache suggestionCache;
+
+    @MockBean
+    private EventHubProducerService eventHubProducerService;
+
+    @Test
+    @DisplayName(
+        "SuggestionSimilarityService - Should reuse suggestions of near-duplicate todos"
+    )
+    void testReusesSimilarSuggestion() {
+        String name = "Estudar java para a prova " + UUID.randomUUID();
+
+        similarityService.add(todo(1L, name), "Dica");
+
+        assertEquals(
+            Optional.of("Dica"),
+            similarityService.findSimilar(todo(1L, name + " hoje"))
+        );
+    }
+
+    @Test
+    @DisplayName(
+        "SuggestionSimilarityService - Should never reuse suggestions across users"
+    )
+    void testDoesNotReuseAcrossUsers() {
+        String name = "Consulta com o cardiologista " + UUID.randomUUID();
+
+        similarityService.add(todo(1L, name), "Leve os exames do coração");
+
+        assertTrue(similarityService.findSimilar(todo(2L, name)).isEmpty());
+        assertTrue(similarityService.findSimilar(todo(null, name)).isEmpty());
+    }
+
+    @Test
+    @DisplayName(
+        "SuggestionSimilarityService - Should never index or cache canned suggestions"
+    )
+    void testIgnoresCannedSuggestions() {
+        String name = "Revisar relatório mensal " + UUID.randomUUID();
+
+        similarityService.add(
+            todo(1L, name),
+            OpenAIService.BUDGET_EXCEEDED_SUGGESTION
+        );
+        similarityService.add(todo(1L, name), OpenAIService.FALLBACK_SUGGESTION);
+        suggestionCache.put(name, OpenAIService.BUDGET_EXCEEDED_SUGGESTION);
+
+        assertTrue(similarityService.findSimilar(todo(1L, name)).isEmpty());
+        assertTrue(suggestionCache.get(name).isEmpty());
+    }
+
+    private TodoEventDTO todo(Long userId, String name) {
+        TodoEventDTO todo = new TodoEventDTO();
+        todo.setId(1L);
+        todo.setName(name);
+        todo.setType(TodoType.TODO);
+        todo.setUserId(userId);
+        return todo;
+    }
+}
@@ -0,0 +1,128 @@
+package com.burnoutinhos.burnoutinhos_api.service.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes do TokenBudget com relógio controlado: reservas contra as cotas por usuário e
+ * global (inclusive concorrentes), limite de tokens da resposta reduzido ao que resta e
+ * contadores zerados na hora seguinte.
+ */
+class TokenBudgetTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toMillis(1000));
+    private final TokenBudget budget = new TokenBudget(
+        true,
+        1000,
+        1500,
+        150,
+        100,
+        new SimpleMeterRegistry(),
+        now::get
+    );
+
+    @Test
+    @DisplayName(
+        "TokenBudget - Should enforce user and global quotas and shrink the completion limit"
+    )
+    void testEnforcesQuotas() {
+        budget.record(1L, 600, 100);
+
+        // 700 gastos + 50 do prompt + 150 da resposta
+        TokenBudget.Reservation reservation = budget
+            .tryAcquire(1L, 50)
+            .orElseThrow();
+        assertTrue(budget.tryAcquire(1L, 50).isEmpty());
+
+        budget.record(1L, 50, 100);
+        budget.release(reservation);
+        assertEquals(150, budget.maxCompletionTokens(1L));
+
+        budget.record(1L, 0, 100);
+        assertEquals(50, budget.maxCompletionTokens(1L));
+        assertEquals(150, budget.maxCompletionTokens(2L));
+        assertTrue(budget.tryAcquire(1L, 0).isEmpty());
+        assertTrue(budget.tryAcquire(2L, 0).isPresent());
+
+        budget.record(2L, 500, 0);
+        assertTrue(budget.tryAcquire(2L, 0).isEmpty());
+        assertTrue(budget.tryAcquire(null, 0).isEmpty());
+        assertEquals(List.of(1L, 2L), List.copyOf(budget.topUsers(10).keySet()));
+    }
+
+    @Test
+    @DisplayName(
+        "TokenBudget - Should never let concurrent reservations exceed the quotas"
+    )
+    void testConcurrentReservationsHoldQuota() throws Exception {
+        // Cada reserva vale 50 + 150 tokens: 5 cabem na cota do usuário
+        assertEquals(5, concurrentAcquires(64, i -> 1L));
+        assertEquals(new TokenBudget.Usage(0, 0), budget.usage(1L));
+
+        // A global (1500) já tem 1000 reservados: sobram 2 reservas
+        assertEquals(2, concurrentAcquires(64, i -> 100L + i));
+    }
+
+    @Test
+    @DisplayName("TokenBudget - Should start a fresh window every hour")
+    void testResetsEveryHour() {
+        budget.record(1L, 800, 0);
+        TokenBudget.Reservation reservation = budget
+            .tryAcquire(1L, 50)
+            .orElseThrow();
+        assertTrue(budget.tryAcquire(1L, 0).isEmpty());
+
+        now.addAndGet(TimeUnit.HOURS.toMillis(1));
+
+        assertTrue(budget.tryAcquire(1L, 850).isPresent());
+        // A reserva da hora anterior não libera cota na hora atual
+        budget.release(reservation);
+        assertFalse(budget.tryAcquire(1L, 0).isPresent());
+        assertEquals(new TokenBudget.Usage(0, 0), budget.usage(1L));
+        assertEquals(0, budget.globalUsage().totalTokens());
+    }
+
+    /**
+     * Dispara {@code attempts} reservas de 50 tokens de prompt ao mesmo tempo e conta as
+     * aceitas.
+     */
+    private int concurrentAcquires(int attempts, IntFunction<Long> userId)
+        throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < attempts; i++) {
+                Long user = userId.apply(i);
+                results.add(
+                    executor.submit(() -> {
+                        start.await();
+                        return budget.tryAcquire(user, 50).isPresent();
+                    })
+                );
+            }
+            start.countDown();
+
+            int acquired = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    acquired++;
+                }
+            }
+            return acquired;
+        }
+    }
+}
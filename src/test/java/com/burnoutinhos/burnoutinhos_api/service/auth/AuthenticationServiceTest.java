@@ -0,0 +1,97 @@
+package com.burnoutinhos.burnoutinhos_api.service.auth;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.burnoutinhos.burnoutinhos_api.exceptions.ResourceNotFoundException;
+import com.burnoutinhos.burnoutinhos_api.exceptions.TooManyRequestsException;
+import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.LoginDTO;
+import com.burnoutinhos.burnoutinhos_api.repository.AppUserRepository;
+import com.burnoutinhos.burnoutinhos_api.service.messagery.EventHubProducerService;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Testes de integração do AuthenticationService com o PasswordEncoder delegante.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthenticationServiceTest {
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private EventHubProducerService eventHubProducerService;
+
+    @Test
+    @DisplayName(
+        "Login - Should upgrade a legacy BCrypt hash after a successful login"
+    )
+    void testLoginUpgradesLegacyHash() {
+        AppUser user = new AppUser();
+        user.setName("Legacy");
+        user.setEmail(UUID.randomUUID() + "@test.com");
+        // Hash antigo: sem prefixo {bcrypt} e com custo menor que o configurado
+        user.setPassword(new BCryptPasswordEncoder(4).encode("password"));
+        appUserRepository.save(user);
+
+        assertNotNull(
+            authenticationService
+                .login(new LoginDTO(user.getEmail(), "password"), "127.0.0.1")
+                .getToken()
+        );
+
+        String upgraded = appUserRepository
+            .findByEmail(user.getEmail())
+            .orElseThrow()
+            .getPassword();
+        assertTrue(upgraded.startsWith("{bcrypt}"));
+        assertTrue(passwordEncoder.matches("password", upgraded));
+    }
+
+    @Test
+    @DisplayName(
+        "Login - Should reject attempts before hashing once the email failure limit is reached"
+    )
+    void testLoginThrottledAfterRepeatedFailures() {
+        AppUser user = new AppUser();
+        user.setName("Throttled");
+        user.setEmail(UUID.randomUUID() + "@test.com");
+        user.setPassword(passwordEncoder.encode("password"));
+        appUserRepository.save(user);
+
+        // Limite padrão: 5 falhas por email por minuto
+        for (int i = 0; i < 5; i++) {
+            assertThrows(ResourceNotFoundException.class, () ->
+                authenticationService.login(
+                    new LoginDTO(user.getEmail(), "wrong"),
+                    "10.0.0.2"
+                )
+            );
+        }
+
+        // Mesmo com a senha correta, a tentativa é recusada antes do BCrypt
+        assertThrows(TooManyRequestsException.class, () ->
+            authenticationService.login(
+                new LoginDTO(user.getEmail(), "password"),
+                "10.0.0.2"
+            )
+        );
+    }
+}
@@ -0,0 +1,165 @@
+package com.burnoutinhos.burnoutinhos_api.service.auth;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.burnoutinhos.burnoutinhos_api.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes do LoginRateLimiter com relógio controlado: limite de tentativas por IP, troca
+ * da janela deslizante, vagas por email devolvidas só no sucesso e tentativas
+ * concorrentes que não passam juntas dos limites.
+ */
+class LoginRateLimiterTest {
+
+    private static final long WINDOW_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    // Início de uma janela: a anterior não pesa nada
+    private final AtomicLong now = new AtomicLong(WINDOW_MILLIS * 1000);
+    private final LoginRateLimiter limiter = new LoginRateLimiter(
+        true,
+        3,
+        2,
+        Duration.ofMillis(WINDOW_MILLIS),
+        100,
+        new SimpleMeterRegistry(),
+        now::get
+    );
+
+    @Test
+    @DisplayName("LoginRateLimiter - Should limit every attempt per IP")
+    void testLimitsAttemptsPerIp() {
+        for (int i = 0; i < 3; i++) {
+            String email = "user" + i + "@test.com";
+            assertDoesNotThrow(() -> limiter.checkAllowed(email, "10.0.0.1"));
+            limiter.recordSuccess(email);
+        }
+
+        assertThrows(TooManyRequestsException.class, () ->
+            limiter.checkAllowed("other@test.com", "10.0.0.1")
+        );
+        assertDoesNotThrow(() -> limiter.checkAllowed("other@test.com", "10.0.0.2"));
+    }
+
+    @Test
+    @DisplayName(
+        "LoginRateLimiter - Should weigh the previous window and forget it after two windows"
+    )
+    void testRotatesWindow() {
+        for (int i = 0; i < 3; i++) {
+            limiter.checkAllowed(null, "10.0.0.1");
+        }
+
+        // Meia janela depois: a anterior ainda conta 3 * 0,5
+        now.addAndGet(WINDOW_MILLIS + WINDOW_MILLIS / 2);
+        assertEquals(2, allowed(10, i -> null, i -> "10.0.0.1"));
+
+        now.addAndGet(2 * WINDOW_MILLIS);
+        assertEquals(3, allowed(10, i -> null, i -> "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName(
+        "LoginRateLimiter - Should count pending and failed attempts per email until a success"
+    )
+    void testReservesEmailSlots() {
+        // Sucessos devolvem a vaga: não há limite para quem acerta a senha
+        for (int i = 0; i < 5; i++) {
+            limiter.checkAllowed("ok@test.com", null);
+            limiter.recordSuccess("ok@test.com");
+        }
+
+        // Tentativas sem sucesso (falhas ou em andamento) ficam contando
+        limiter.checkAllowed("Fail@Test.com", null);
+        limiter.checkAllowed("fail@test.com ", null);
+        assertThrows(TooManyRequestsException.class, () ->
+            limiter.checkAllowed("fail@test.com", null)
+        );
+
+        limiter.recordSuccess("fail@test.com");
+        assertDoesNotThrow(() -> limiter.checkAllowed("fail@test.com", null));
+    }
+
+    @Test
+    @DisplayName(
+        "LoginRateLimiter - Should never let concurrent attempts exceed the limits"
+    )
+    void testConcurrentAttemptsHoldLimits() throws Exception {
+        assertEquals(
+            2,
+            concurrentAllowed(64, i -> "race@test.com", i -> "10.0.1." + i)
+        );
+        assertEquals(
+            3,
+            concurrentAllowed(64, i -> "user" + i + "@test.com", i -> "10.0.0.9")
+        );
+    }
+
+    private int allowed(
+        int attempts,
+        IntFunction<String> email,
+        IntFunction<String> clientIp
+    ) {
+        int allowed = 0;
+        for (int i = 0; i < attempts; i++) {
+            try {
+                limiter.checkAllowed(email.apply(i), clientIp.apply(i));
+                allowed++;
+            } catch (TooManyRequestsException e) {
+                // Tentativa recusada
+            }
+        }
+        return allowed;
+    }
+
+    /**
+     * Dispara {@code attempts} verificações ao mesmo tempo e conta as aceitas.
+     */
+    private int concurrentAllowed(
+        int attempts,
+        IntFunction<String> email,
+        IntFunction<String> clientIp
+    ) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < attempts; i++) {
+                String attemptEmail = email.apply(i);
+                String attemptIp = clientIp.apply(i);
+                results.add(
+                    executor.submit(() -> {
+                        start.await();
+                        try {
+                            limiter.checkAllowed(attemptEmail, attemptIp);
+                            return true;
+                        } catch (TooManyRequestsException e) {
+                            return false;
+                        }
+                    })
+                );
+            }
+            start.countDown();
+
+            int allowed = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    allowed++;
+                }
+            }
+            return allowed;
+        }
+    }
+}
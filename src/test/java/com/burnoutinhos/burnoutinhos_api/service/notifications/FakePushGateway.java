@@ -0,0 +1,65 @@
+package com.burnoutinhos.burnoutinhos_api.service.notifications;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link PushGateway} usado nos testes no lugar do Firebase: registra as mensagens
+ * enviadas (e o tamanho de cada lote) e recusa os tokens marcados como inválidos. Pode
+ * simular a falha de lotes inteiros.
+ */
+@Component
+@Profile("test")
+public class FakePushGateway implements PushGateway {
+
+    private final Queue<Message> sent = new ConcurrentLinkedQueue<>();
+    private final Queue<Integer> batchSizes = new ConcurrentLinkedQueue<>();
+    private final Set<String> invalidTokens = ConcurrentHashMap.newKeySet();
+    private volatile String batchErrorCode;
+
+    @Override
+    public List<Result> sendEach(List<Message> messages) {
+        batchSizes.add(messages.size());
+        if (batchErrorCode != null) {
+            return Collections.nCopies(
+                messages.size(),
+                Result.batchFailure(batchErrorCode)
+            );
+        }
+        return messages
+            .stream()
+            .map(message -> {
+                if (invalidTokens.contains(message.token())) {
+                    return Result.failure("UNREGISTERED");
+                }
+                sent.add(message);
+                return Result.success();
+            })
+            .toList();
+    }
+
+    public List<Message> sentTo(String token) {
+        return sent.stream().filter(push -> push.token().equals(token)).toList();
+    }
+
+    public List<Integer> batchSizes() {
+        return List.copyOf(batchSizes);
+    }
+
+    public void markInvalid(String token) {
+        invalidTokens.add(token);
+    }
+
+    /**
+     * Com um código, todo lote falha inteiro com esse erro; {@code null} volta ao normal.
+     */
+    public void failBatches(String errorCode) {
+        this.batchErrorCode = errorCode;
+    }
+}
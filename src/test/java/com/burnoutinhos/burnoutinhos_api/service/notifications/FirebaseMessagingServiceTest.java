@@ -0,0 +1,55 @@
+package com.burnoutinhos.burnoutinhos_api.service.notifications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.burnoutinhos.burnoutinhos_api.model.PushToken;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes do FirebaseMessagingService: os tokens são enviados em lotes de até 500
+ * mensagens e o resultado de cada token é agregado no relatório de entrega.
+ */
+class FirebaseMessagingServiceTest {
+
+    @Test
+    @DisplayName(
+        "Push - Should send in batches of 500 and report failures per token"
+    )
+    void testSendsInBatchesAndAggregates() {
+        FakePushGateway gateway = new FakePushGateway();
+        FirebaseMessagingService service = new FirebaseMessagingService(
+            gateway,
+            2
+        );
+        List<PushToken> tokens = IntStream.range(0, 1201)
+            .mapToObj(i -> {
+                PushToken token = new PushToken();
+                token.setToken("token-" + i);
+                return token;
+            })
+            .toList();
+        gateway.markInvalid("token-7");
+
+        DeliveryReport report = service.sendNotification(
+            tokens,
+            "Título",
+            "Corpo"
+        );
+
+        assertEquals(
+            List.of(201, 500, 500),
+            gateway.batchSizes().stream().sorted().toList()
+        );
+        assertEquals(1201, report.requested());
+        assertEquals(1200, report.succeeded());
+        assertEquals(
+            List.of(new DeliveryReport.TokenFailure("token-7", "UNREGISTERED")),
+            report.failures()
+        );
+        assertEquals(Map.of("UNREGISTERED", 1L), report.failuresByCode());
+    }
+}
@@ -0,0 +1,64 @@
+package com.burnoutinhos.burnoutinhos_api.service.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes do DeadlineTimerWheel: timers de qualquer nível disparam no tick certo,
+ * reagendar ou cancelar substitui o timer anterior e reagendar no mesmo horário mantém
+ * o timer existente.
+ */
+class DeadlineTimerWheelTest {
+
+    private static final long TICK = 1000;
+    private static final long START = 1_000_000_000L;
+
+    @Test
+    @DisplayName(
+        "TimerWheel - Should fire timers from every level at their tick, in order"
+    )
+    void testFiresAcrossLevels() {
+        DeadlineTimerWheel wheel = new DeadlineTimerWheel(TICK, 8, 3, START);
+
+        wheel.schedule(1, START + 5 * TICK); // nível 0
+        wheel.schedule(2, START + 20 * TICK); // nível 1
+        wheel.schedule(3, START + 200 * TICK); // nível 2
+        wheel.schedule(4, START + 5000 * TICK); // além do último nível
+        wheel.schedule(5, START - TICK); // já vencido
+
+        assertEquals(List.of(5L), wheel.advanceTo(START));
+        assertEquals(List.of(), wheel.advanceTo(START + 4 * TICK));
+        assertEquals(List.of(1L), wheel.advanceTo(START + 5 * TICK));
+        assertEquals(List.of(), wheel.advanceTo(START + 19 * TICK));
+        assertEquals(List.of(2L), wheel.advanceTo(START + 20 * TICK + 500));
+        assertEquals(List.of(), wheel.advanceTo(START + 199 * TICK));
+        assertEquals(List.of(3L), wheel.advanceTo(START + 200 * TICK));
+        assertEquals(List.of(), wheel.advanceTo(START + 4999 * TICK));
+        assertEquals(List.of(4L), wheel.advanceTo(START + 5000 * TICK));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName(
+        "TimerWheel - Should replace rescheduled timers and skip cancelled ones"
+    )
+    void testRescheduleAndCancel() {
+        DeadlineTimerWheel wheel = new DeadlineTimerWheel(TICK, 8, 3, START);
+
+        assertTrue(wheel.schedule(1, START + 10 * TICK));
+        assertTrue(wheel.schedule(1, START + 30 * TICK));
+        // Mesmo horário: mantém o timer agendado
+        assertFalse(wheel.schedule(1, START + 30 * TICK));
+        wheel.schedule(2, START + 10 * TICK);
+        wheel.cancel(2);
+
+        assertTrue(wheel.advanceTo(START + 29 * TICK).isEmpty());
+        assertEquals(List.of(1L), wheel.advanceTo(START + 30 * TICK));
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,665 @@
+package com.burnoutinhos.burnoutinhos_api.service.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.burnoutinhos.burnoutinhos_api.model.AppUser;
+import com.burnoutinhos.burnoutinhos_api.model.Notification;
+import com.burnoutinhos.burnoutinhos_api.model.NotificationLedgerEntry;
+import com.burnoutinhos.burnoutinhos_api.model.PushToken;
+import com.burnoutinhos.burnoutinhos_api.model.SchedulerCheckpoint;
+import com.burnoutinhos.burnoutinhos_api.model.SchedulerLease;
+import com.burnoutinhos.burnoutinhos_api.model.Todo;
+import com.burnoutinhos.burnoutinhos_api.model.dtos.TodoEventDTO;
+import com.burnoutinhos.burnoutinhos_api.model.enums.NotificationKind;
+import com.burnoutinhos.burnoutinhos_api.model.enums.TodoType;
+import com.burnoutinhos.burnoutinhos_api.repository.AppUserRepository;
+import com.burnoutinhos.burnoutinhos_api.repository.NotificationLedgerRepository;
+import com.burnoutinhos.burnoutinhos_api.repository.NotificationRepository;
+import com.burnoutinhos.burnoutinhos_api.repository.PushTokenRepository;
+import com.burnoutinhos.burnoutinhos_api.repository.SchedulerCheckpointRepository;
+import com.burnoutinhos.burnoutinhos_api.repository.SchedulerLeaseRepository;
+import com.burnoutinhos.burnoutinhos_api.repository.TodoRepository;
+import com.burnoutinhos.burnoutinhos_api.service.ai.AiWorkScheduler;
+import com.burnoutinhos.burnoutinhos_api.service.ai.OpenAIService;
+import com.burnoutinhos.burnoutinhos_api.service.messagery.EventHubProducerService;
+import com.burnoutinhos.burnoutinhos_api.service.notifications.FakePushGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Testes de integração do TaskNotificationScheduler: apenas todos pendentes dentro da
+ * janela de verificação geram notificações, percorrendo os usuários em lotes (a falha
+ * ou o travamento de um usuário não derruba os demais do lote, e o prazo da execução a
+ * interrompe sem passar o checkpoint do usuário travado), e uma execução interrompida é
+ * retomada a partir do checkpoint, nenhuma execução ocorre enquanto outra instância
+ * detém o lease do slot, cada shard roda uma vez por slot e libera o lease ao terminar,
+ * e o ledger evita notificações repetidas no dia, inclusive entre a varredura e os
+ * lembretes disparados pelo timer wheel e entre instâncias que disputam o mesmo
+ * lembrete (também quando o lembrete é registrado no meio de um lote). As notificações
+ * gravadas são entregues como push (gateway falso) fora da thread do scheduler, e os
+ * tokens recusados pelo provedor são removidos (mas não quando o lote inteiro falha).
+ */
+@SpringBootTest(
+    properties = {
+        "scheduler.notifications.chunk-size=1",
+        // Evita a execução agendada na subida concorrendo com os testes
+        "scheduler.notifications.cron=-",
+        // Lembretes de prazo pela varredura; notifyDeadline é chamado diretamente
+        "scheduler.deadline-timers.enabled=false",
+    }
+)
+@ActiveProfiles("test")
+class TaskNotificationSchedulerTest {
+
+    @Autowired
+    private TaskNotificationScheduler scheduler;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private SchedulerCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private SchedulerLeaseRepository leaseRepository;
+
+    @Autowired
+    private PushTokenRepository pushTokenRepository;
+
+    @Autowired
+    private NotificationLedgerRepository ledgerRepository;
+
+    @Autowired
+    private FakePushGateway pushGateway;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private OpenAIService openAIService;
+
+    @MockBean
+    private EventHubProducerService eventHubProducerService;
+
+    @BeforeEach
+    void resetCheckpoint() {
+        // Cada teste começa com o shard livre para rodar no slot atual
+        checkpointRepository.deleteById(TaskNotificationScheduler.JOB_NAME);
+    }
+
+    @Test
+    @DisplayName(
+        "Scheduler - Should notify only due pending todos across user chunks"
+    )
+    void testNotifiesOnlyDueTodos() {
+        when(
+            openAIService.generateSuggestionForTodo(
+                any(),
+                eq(AiWorkScheduler.Priority.BACKGROUND)
+            )
+        ).thenReturn("Dica");
+        LocalDateTime now = LocalDateTime.now();
+
+        AppUser first = newUser();
+        newTodo(first, "Hoje", now, null, false);
+        newTodo(first, "Prazo", null, now.plusHours(1), false);
+        newTodo(first, "Futuro", now.plusDays(3), now.plusDays(4), false);
+        newTodo(first, "Concluído", now, now.plusHours(1), true);
+
+        AppUser second = newUser();
+        newTodo(second, "Hoje", now, null, false);
+
+        AppUser idle = newUser();
+        newTodo(idle, "Futuro", now.plusDays(3), null, false);
+
+        scheduler.checkPendingTasksAndNotify();
+
+        List<Notification> firstNotifications =
+            notificationRepository.findByUserId(first.getId());
+        assertEquals(2, firstNotifications.size());
+        assertTrue(
+            firstNotifications
+                .stream()
+                .anyMatch(n -> n.getMessage().startsWith("📅"))
+        );
+        assertTrue(
+            firstNotifications
+                .stream()
+                .anyMatch(n ->
+                    n.getMessage().contains("'Prazo'") &&
+                    n.getMessage().contains("Dica")
+                )
+        );
+
+        assertEquals(
+            1,
+            notificationRepository.findByUserId(second.getId()).size()
+        );
+        assertEquals(
+            0,
+            notificationRepository.findByUserId(idle.getId()).size()
+        );
+    }
+
+    @Test
+    @DisplayName(
+        "Scheduler - Should isolate failing and hung users and stop at the run deadline"
+    )
+    void testIsolatesUserFailuresWithinChunk() {
+        LocalDateTime now = LocalDateTime.now();
+
+        AppUser broken = newUser();
+        newTodo(broken, "Quebrado", null, now.plusHours(1), false);
+        AppUser hung = newUser();
+        newTodo(hung, "Travado", null, now.plusHours(1), false);
+        AppUser healthy = newUser();
+        newTodo(healthy, "Saudável", null, now.plusHours(1), false);
+
+        when(
+            openAIService.generateSuggestionForTodo(
+                any(),
+                eq(AiWorkScheduler.Priority.BACKGROUND)
+            )
+        ).thenAnswer(invocation -> {
+            Long userId = invocation.<TodoEventDTO>getArgument(0).getUserId();
+            if (userId.equals(broken.getId())) {
+                throw new IllegalStateException("IA indisponível");
+            }
+            if (userId.equals(hung.getId())) {
+                Thread.sleep(Duration.ofSeconds(30));
+            }
+            return "Dica";
+        });
+        double timeouts = userFailures("timeout");
+
+        // Todos os usuários num só lote, com prazo curto para a execução
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 100);
+        ReflectionTestUtils.setField(scheduler, "runDeadline", Duration.ofSeconds(2));
+        try {
+            scheduler.checkPendingTasksAndNotify();
+
+            assertTrue(
+                notificationRepository
+                    .findByUserId(healthy.getId())
+                    .stream()
+                    .anyMatch(n -> n.getMessage().contains("Dica da IA: Dica"))
+            );
+            // Falha da IA: o lembrete sai com a mensagem padrão
+            assertTrue(
+                notificationRepository
+                    .findByUserId(broken.getId())
+                    .stream()
+                    .anyMatch(n -> n.getMessage().contains("Não esqueça"))
+            );
+            assertEquals(
+                0,
+                notificationRepository.findByUserId(hung.getId()).size()
+            );
+            assertEquals(timeouts + 1, userFailures("timeout"));
+            SchedulerCheckpoint checkpoint = checkpointRepository
+                .findById(TaskNotificationScheduler.JOB_NAME)
+                .orElseThrow();
+            assertFalse(checkpoint.isCompleted());
+            // A retomada volta ao usuário que não terminou a tempo
+            assertTrue(checkpoint.getLastUserId() < hung.getId());
+        } finally {
+            ReflectionTestUtils.setField(scheduler, "chunkSize", 1);
+            ReflectionTestUtils.setField(
+                scheduler,
+                "runDeadline",
+                Duration.ofMinutes(30)
+            );
+            // Não deixa a execução interrompida para ser retomada pelos demais testes
+            checkpointRepository.deleteById(TaskNotificationScheduler.JOB_NAME);
+        }
+    }
+
+    @Test
+    @DisplayName(
+        "Scheduler - Should resume an interrupted run after the last checkpointed user"
+    )
+    void testResumesFromCheckpoint() {
+        LocalDateTime now = LocalDateTime.now();
+
+        AppUser alreadyProcessed = newUser();
+        newTodo(alreadyProcessed, "Hoje", now, null, false);
+        AppUser pending = newUser();
+        newTodo(pending, "Hoje", now, null, false);
+
+        // Simula uma execução que caiu após gravar o lote de alreadyProcessed
+        checkpointRepository.save(
+            new SchedulerCheckpoint(
+                TaskNotificationScheduler.JOB_NAME,
+                now.minusMinutes(5),
+                alreadyProcessed.getId(),
+                false,
+                null
+            )
+        );
+
+        scheduler.checkPendingTasksAndNotify();
+
+        assertEquals(
+            0,
+            notificationRepository.findByUserId(alreadyProcessed.getId()).size()
+        );
+        assertEquals(
+            1,
+            notificationRepository.findByUserId(pending.getId()).size()
+        );
+        assertTrue(
+            checkpointRepository
+                .findById(TaskNotificationScheduler.JOB_NAME)
+                .orElseThrow()
+                .isCompleted()
+        );
+    }
+
+    @Test
+    @DisplayName(
+        "Scheduler - Should save a chunk around ledger entries recorded during the AI call"
+    )
+    void testSkipsLedgerEntriesRecordedMidChunk() {
+        LocalDateTime now = LocalDateTime.now();
+
+        AppUser raced = newUser();
+        Long todoId = newTodo(raced, "Prazo", null, now.plusHours(1), false);
+        AppUser next = newUser();
+        newTodo(next, "Hoje", now, null, false);
+
+        // O timer wheel (ou outra instância) envia o lembrete enquanto a IA responde
+        when(
+            openAIService.generateSuggestionForTodo(
+                any(),
+                eq(AiWorkScheduler.Priority.BACKGROUND)
+            )
+        ).thenAnswer(invocation -> {
+            if (todoId.equals(invocation.<TodoEventDTO>getArgument(0).getId())) {
+                ledgerRepository.save(
+                    new NotificationLedgerEntry(
+                        raced.getId(),
+                        todoId,
+                        NotificationKind.DEADLINE,
+                        now.toLocalDate()
+                    )
+                );
+            }
+            return "Dica";
+        });
+
+        scheduler.checkPendingTasksAndNotify();
+
+        // Só o resumo do dia (se o prazo cair hoje); o lembrete já estava no ledger
+        int expected = now.plusHours(1).toLocalDate().equals(now.toLocalDate())
+            ? 1
+            : 0;
+        assertEquals(
+            expected,
+            notificationRepository.findByUserId(raced.getId()).size()
+        );
+        assertTrue(
+            notificationRepository
+                .findByUserId(raced.getId())
+                .stream()
+                .noneMatch(n -> n.getMessage().contains("Dica da IA"))
+        );
+        // Os lotes seguintes continuam
+        assertEquals(
+            1,
+            notificationRepository.findByUserId(next.getId()).size()
+        );
+        assertTrue(
+            checkpointRepository
+                .findById(TaskNotificationScheduler.JOB_NAME)
+                .orElseThrow()
+                .isCompleted()
+        );
+    }
+
+    @Test
+    @DisplayName(
+        "Scheduler - Should not repeat notifications or AI calls already sent today"
+    )
+    void testDeduplicatesAcrossRuns() {
+        when(
+            openAIService.generateSuggestionForTodo(
+                any(),
+                eq(AiWorkScheduler.Priority.BACKGROUND)
+            )
+        ).thenReturn("Dica");
+        LocalDateTime now = LocalDateTime.now();
+
+        AppUser user = newUser();
+        Long todoId = newTodo(user, "Prazo", null, now.plusHours(1), false);
+
+        scheduler.checkPendingTasksAndNotify();
+        // Nova execução no mesmo dia (o slot atual já foi concluído)
+        checkpointRepository.deleteById(TaskNotificationScheduler.JOB_NAME);
+        scheduler.checkPendingTasksAndNotify();
+
+        // Resumo do dia (se o prazo cair hoje) + prazo próximo, uma única vez cada
+        int expected = now.plusHours(1).toLocalDate().equals(now.toLocalDate())
+            ? 2
+            : 1;
+        assertEquals(
+            expected,
+            notificationRepository.findByUserId(user.getId()).size()
+        );
+        // Só as chamadas deste todo: lotes também trazem todos de outros testes
+        verify(openAIService, times(1)).generateSuggestionForTodo(
+            argThat(todo -> todoId.equals(todo.getId())),
+            eq(AiWorkScheduler.Priority.BACKGROUND)
+        );
+    }
+
+    @Test
+    @DisplayName(
+        "Scheduler - Should push created notifications to the user's devices"
+    )
+    void testPushesCreatedNotifications() {
+        LocalDateTime now = LocalDateTime.now();
+
+        AppUser user = newUser();
+        newTodo(user, "Hoje", now, null, false);
+        String token = newPushToken(user);
+
+        scheduler.checkPendingTasksAndNotify();
+
+        Awaitility.await()
+            .atMost(Duration.ofSeconds(5))
+            .until(() -> pushGateway.sentTo(token).size() == 1);
+        assertTrue(pushGateway.sentTo(token).get(0).body().startsWith("📅"));
+    }
+
+    @Test
+    @DisplayName(
+        "Scheduler - Should prune push tokens the provider reports as unregistered"
+    )
+    void testPrunesDeadPushTokens() {
+        LocalDateTime now = LocalDateTime.now();
+
+        AppUser user = newUser();
+        newTodo(user, "Hoje", now, null, false);
+        String live = newPushToken(user);
+        String dead = newPushToken(user);
+        pushGateway.markInvalid(dead);
+
+        scheduler.checkPendingTasksAndNotify();
+
+        Awaitility.await()
+            .atMost(Duration.ofSeconds(5))
+            .until(() -> pushTokenRepository.findByToken(dead).isEmpty());
+        assertEquals(1, pushGateway.sentTo(live).size());
+        assertTrue(pushTokenRepository.findByToken(live).isPresent());
+    }
+
+    @Test
+    @DisplayName(
+        "Scheduler - Should keep push tokens when the whole provider batch fails"
+    )
+    void testKeepsTokensOnBatchFailure() {
+        LocalDateTime now = LocalDateTime.now();
+
+        AppUser user = newUser();
+        newTodo(user, "Hoje", now, null, false);
+        String token = newPushToken(user);
+        int batches = pushGateway.batchSizes().size();
+        pushGateway.failBatches("INVALID_ARGUMENT");
+
+        try {
+            scheduler.checkPendingTasksAndNotify();
+
+            Awaitility.await()
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> pushGateway.batchSizes().size() > batches);
+            Awaitility.await()
+                .during(Duration.ofMillis(500))
+                .atMost(Duration.ofSeconds(2))
+                .until(() -> pushTokenRepository.findByToken(token).isPresent());
+        } finally {
+            pushGateway.failBatches(null);
+        }
+    }
+
+    @Test
+    @DisplayName(
+        "Scheduler - Should send a timer-driven deadline reminder only once"
+    )
+    void testNotifyDeadlineOnce() {
+        when(
+            openAIService.generateSuggestionForTodo(
+                any(),
+                eq(AiWorkScheduler.Priority.BACKGROUND)
+            )
+        ).thenReturn("Dica");
+        LocalDateTime now = LocalDateTime.now();
+
+        AppUser user = newUser();
+        Long dueId = newTodo(user, "Prazo", null, now.plusMinutes(30), false);
+        Long laterId = newTodo(user, "Depois", null, now.plusHours(5), false);
+
+        scheduler.notifyDeadline(dueId);
+        scheduler.notifyDeadline(dueId);
+        // Fora da janela de prazo próximo: nada é enviado
+        scheduler.notifyDeadline(laterId);
+
+        List<Notification> notifications = notificationRepository.findByUserId(
+            user.getId()
+        );
+        assertEquals(1, notifications.size());
+        assertTrue(notifications.get(0).getMessage().contains("'Prazo'"));
+        // O lease do lembrete é liberado após o envio
+        assertTrue(
+            leaseRepository
+                .findById(TaskNotificationScheduler.DEADLINE_CLAIM_PREFIX + dueId)
+                .isEmpty()
+        );
+        verify(openAIService, times(1)).generateSuggestionForTodo(
+            any(),
+            eq(AiWorkScheduler.Priority.BACKGROUND)
+        );
+    }
+
+    @Test
+    @DisplayName(
+        "Scheduler - Should not call the AI for a reminder another instance is sending"
+    )
+    void testNotifyDeadlineSkipsWhenClaimHeldElsewhere() {
+        LocalDateTime now = LocalDateTime.now();
+        AppUser user = newUser();
+        Long todoId = newTodo(user, "Prazo", null, now.plusMinutes(30), false);
+        String claim = TaskNotificationScheduler.DEADLINE_CLAIM_PREFIX + todoId;
+        leaseRepository.save(
+            new SchedulerLease(claim, "other-node", now, now.plusMinutes(5))
+        );
+
+        try {
+            scheduler.notifyDeadline(todoId);
+
+            verify(openAIService, never()).generateSuggestionForTodo(
+                any(),
+                eq(AiWorkScheduler.Priority.BACKGROUND)
+            );
+            assertEquals(
+                0,
+                notificationRepository.findByUserId(user.getId()).size()
+            );
+        } finally {
+            leaseRepository.deleteById(claim);
+        }
+    }
+
+    @Test
+    @DisplayName(
+        "Scheduler - Should drop a deadline reminder claimed elsewhere during the AI call"
+    )
+    void testNotifyDeadlineClaimedDuringAiCall() {
+        LocalDateTime now = LocalDateTime.now();
+        AppUser user = newUser();
+        Long todoId = newTodo(user, "Prazo", null, now.plusMinutes(30), false);
+        // Outra instância registra o lembrete enquanto esta espera a IA
+        when(
+            openAIService.generateSuggestionForTodo(
+                any(),
+                eq(AiWorkScheduler.Priority.BACKGROUND)
+            )
+        ).thenAnswer(invocation -> {
+            ledgerRepository.save(
+                new NotificationLedgerEntry(
+                    user.getId(),
+                    todoId,
+                    NotificationKind.DEADLINE,
+                    now.toLocalDate()
+                )
+            );
+            return "Dica";
+        });
+
+        scheduler.notifyDeadline(todoId);
+
+        assertEquals(
+            0,
+            notificationRepository.findByUserId(user.getId()).size()
+        );
+        assertEquals(
+            1,
+            ledgerRepository
+                .findByDayAndUserIdIn(now.toLocalDate(), List.of(user.getId()))
+                .size()
+        );
+    }
+
+    @Test
+    @DisplayName(
+        "Scheduler - Should skip the run while another instance holds the lease"
+    )
+    void testSkipsWhenLeaseHeldByAnotherInstance() {
+        LocalDateTime now = LocalDateTime.now();
+
+        AppUser user = newUser();
+        newTodo(user, "Hoje", now, null, false);
+
+        String lease = TaskNotificationScheduler.slotLeaseName(
+            TaskNotificationScheduler.JOB_NAME,
+            now
+        );
+        leaseRepository.save(
+            new SchedulerLease(lease, "other-node", now, now.plusHours(1))
+        );
+        try {
+            scheduler.checkPendingTasksAndNotify();
+
+            assertEquals(
+                0,
+                notificationRepository.findByUserId(user.getId()).size()
+            );
+        } finally {
+            // Libera o lease para os demais testes
+            leaseRepository.deleteById(lease);
+        }
+    }
+
+    @Test
+    @DisplayName(
+        "Scheduler - Should run a shard once per slot and release its lease"
+    )
+    void testRunsShardOncePerSlot() {
+        LocalDateTime now = LocalDateTime.now();
+
+        AppUser first = newUser();
+        newTodo(first, "Hoje", now, null, false);
+
+        scheduler.checkPendingTasksAndNotify();
+
+        assertEquals(
+            1,
+            notificationRepository.findByUserId(first.getId()).size()
+        );
+        assertTrue(
+            leaseRepository
+                .findById(
+                    TaskNotificationScheduler.slotLeaseName(
+                        TaskNotificationScheduler.JOB_NAME,
+                        now
+                    )
+                )
+                .isEmpty()
+        );
+
+        // Outra instância (ou tick) no mesmo slot não repete o shard
+        AppUser late = newUser();
+        newTodo(late, "Hoje", now, null, false);
+
+        scheduler.checkPendingTasksAndNotify();
+
+        assertEquals(
+            0,
+            notificationRepository.findByUserId(late.getId()).size()
+        );
+    }
+
+    private double userFailures(String reason) {
+        return meterRegistry
+            .counter("scheduler.notifications.user_failures", "reason", reason)
+            .count();
+    }
+
+    private AppUser newUser() {
+        AppUser user = new AppUser();
+        user.setName("Scheduler Test");
+        user.setEmail(UUID.randomUUID() + "@test.com");
+        user.setPassword("password");
+        return appUserRepository.save(user);
+    }
+
+    private String newPushToken(AppUser user) {
+        PushToken pushToken = new PushToken();
+        pushToken.setToken(UUID.randomUUID().toString());
+        pushToken.setUserId(user);
+        return pushTokenRepository.save(pushToken).getToken();
+    }
+
+    private Long newTodo(
+        AppUser user,
+        String name,
+        LocalDateTime start,
+        LocalDateTime end,
+        boolean completed
+    ) {
+        Todo todo = new Todo();
+        todo.setName(name);
+        todo.setType(TodoType.TODO);
+        todo.setStart(start);
+        todo.setEnd(end);
+        todo.setCompleted(completed);
+        todo.setUser(user);
+        return todoRepository.save(todo).getId();
+    }
+}